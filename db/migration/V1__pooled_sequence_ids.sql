@@ -0,0 +1,20 @@
+-- IDENTITY -> 시퀀스(pooled, allocationSize = 50) ID 생성 방식 변경
+-- ddl-auto: create 가 아닌(기존 데이터를 유지하는) H2 스키마에 한번 실행한다.
+-- 시퀀스는 기존 최대값 + 50 부터 시작한다. (pooled 최적화는 nextval - 49 부터 사용)
+-- 기존 IDENTITY 컬럼은 기본값 생성만 제거하여 Hibernate 가 부여한 ID 로 insert 한다.
+
+SET @NEXT_USER_MONEY_LOG = (SELECT COALESCE(MAX(log_index), 0) + 50 FROM t_user_money_log);
+CREATE SEQUENCE IF NOT EXISTS seq_user_money_log START WITH @NEXT_USER_MONEY_LOG INCREMENT BY 50;
+ALTER TABLE t_user_money_log ALTER COLUMN log_index DROP IDENTITY;
+
+SET @NEXT_USER_PRODUCT_LOG = (SELECT COALESCE(MAX(log_index), 0) + 50 FROM t_user_product_log);
+CREATE SEQUENCE IF NOT EXISTS seq_user_product_log START WITH @NEXT_USER_PRODUCT_LOG INCREMENT BY 50;
+ALTER TABLE t_user_product_log ALTER COLUMN log_index DROP IDENTITY;
+
+SET @NEXT_USER_INFO = (SELECT COALESCE(MAX(user_index), 0) + 50 FROM t_user_info);
+CREATE SEQUENCE IF NOT EXISTS seq_user_info START WITH @NEXT_USER_INFO INCREMENT BY 50;
+ALTER TABLE t_user_info ALTER COLUMN user_index DROP IDENTITY;
+
+SET @NEXT_STATIC_PRODUCT = (SELECT COALESCE(MAX(product_index), 0) + 50 FROM t_static_product);
+CREATE SEQUENCE IF NOT EXISTS seq_static_product START WITH @NEXT_STATIC_PRODUCT INCREMENT BY 50;
+ALTER TABLE t_static_product ALTER COLUMN product_index DROP IDENTITY;
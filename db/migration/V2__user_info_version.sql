@@ -0,0 +1,4 @@
+-- T_User_Info 낙관적 잠금 버전 컬럼 추가
+-- ddl-auto: create 가 아닌(기존 데이터를 유지하는) H2 스키마에 한번 실행한다.
+
+ALTER TABLE t_user_info ADD COLUMN IF NOT EXISTS version BIGINT DEFAULT 0 NOT NULL;
@@ -0,0 +1,21 @@
+-- 유저 월별 1일 1회 출석 비트맵 테이블 추가
+-- ddl-auto: create 가 아닌(기존 데이터를 유지하는) H2 스키마에 한번 실행한다.
+-- 기존 출석 정보(T_User_Attend)의 마지막 출석 날짜만 비트로 채운다. (이전 출석 날짜는 기록이 없다.)
+
+CREATE TABLE IF NOT EXISTS t_user_attend_month (
+    user_index   BIGINT  NOT NULL,
+    attend_month INTEGER NOT NULL,
+    days         INTEGER NOT NULL,
+    PRIMARY KEY (user_index, attend_month)
+);
+
+MERGE INTO t_user_attend_month d
+USING (SELECT user_index,
+              YEAR(last_attend_at) * 100 + MONTH(last_attend_at) AS attend_month,
+              LSHIFT(1, DAY_OF_MONTH(last_attend_at) - 1) AS days
+       FROM t_user_attend
+       WHERE attend_type = 1) s
+ON d.user_index = s.user_index AND d.attend_month = s.attend_month
+WHEN MATCHED THEN UPDATE SET days = BITOR(d.days, s.days)
+WHEN NOT MATCHED THEN INSERT (user_index, attend_month, days)
+    VALUES (s.user_index, s.attend_month, s.days);
@@ -0,0 +1,60 @@
+package com.example.web.config;
+
+import com.example.web.util.datasource.ConcurrencyLimitedDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+// DB 커넥션 동시 사용 수 제한 (커넥션 풀을 ConcurrencyLimitedDataSource 로 감싼다.)
+@ConditionalOnProperty(name = "db.limiter.enabled", havingValue = "true")
+@Configuration
+public class DataSourceLimiterConfig {
+
+  @Bean
+  public static BeanPostProcessor concurrencyLimitedDataSourcePostProcessor(
+      Environment environment, ObjectProvider<MeterRegistry> meterRegistryProvider) {
+    int permits = environment.getRequiredProperty("db.limiter.permits", Integer.class);
+    long maxWaitMilSec = environment.getRequiredProperty("db.limiter.max-wait-milsec",
+        Long.class);
+
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource dataSource)
+            || bean instanceof ConcurrencyLimitedDataSource) {
+          return bean;
+        }
+
+        ConcurrencyLimitedDataSource limitedDataSource = new ConcurrencyLimitedDataSource(
+            dataSource, permits, maxWaitMilSec);
+        meterRegistryProvider.ifAvailable(meterRegistry -> register(meterRegistry,
+            limitedDataSource));
+
+        return limitedDataSource;
+      }
+    };
+  }
+
+  private static void register(MeterRegistry meterRegistry,
+      ConcurrencyLimitedDataSource limitedDataSource) {
+    Gauge.builder("db.limiter.in-flight", limitedDataSource,
+            ConcurrencyLimitedDataSource::getInFlight)
+        .description("사용 중인 DB 커넥션 수")
+        .register(meterRegistry);
+    Gauge.builder("db.limiter.waiting", limitedDataSource,
+            ConcurrencyLimitedDataSource::getWaiting)
+        .description("DB 커넥션을 기다리는 수")
+        .register(meterRegistry);
+    FunctionCounter.builder("db.limiter.timeout", limitedDataSource,
+            ConcurrencyLimitedDataSource::getTimeoutCount)
+        .description("DB 커넥션 대기 시간 초과 수")
+        .register(meterRegistry);
+  }
+}
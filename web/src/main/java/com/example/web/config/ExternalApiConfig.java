@@ -0,0 +1,100 @@
+package com.example.web.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+// 외부 API(OAuth 등) 호출용 공용 HTTP 클라이언트 (커넥션 풀 + 타임아웃 + keep-alive)
+@Configuration
+public class ExternalApiConfig {
+
+  @Value("${external-api.http.max-total}")
+  private int maxTotal;
+
+  @Value("${external-api.http.max-per-route}")
+  private int maxPerRoute;
+
+  @Value("${external-api.http.connect-timeout-milsec}")
+  private long connectTimeoutMilSec;
+
+  @Value("${external-api.http.read-timeout-milsec}")
+  private long readTimeoutMilSec;
+
+  @Value("${external-api.http.pool-wait-milsec}")
+  private long poolWaitMilSec;
+
+  @Value("${external-api.http.keep-alive-sec}")
+  private long keepAliveSec;
+
+  @Value("${external-api.http.idle-evict-sec}")
+  private long idleEvictSec;
+
+  @Bean
+  public PoolingHttpClientConnectionManager externalConnectionManager(
+      MeterRegistry meterRegistry) {
+    PoolingHttpClientConnectionManager connectionManager =
+        PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(maxTotal)
+            .setMaxConnPerRoute(maxPerRoute)
+            .setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMilSec))
+                .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMilSec))
+                .build())
+            .build();
+
+    // httpcomponents.httpclient.pool.total.connections{state=leased|available}, .total.pending 등
+    new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "external")
+        .bindTo(meterRegistry);
+
+    return connectionManager;
+  }
+
+  @Bean(destroyMethod = "close")
+  public CloseableHttpClient externalHttpClient(
+      PoolingHttpClientConnectionManager externalConnectionManager) {
+    TimeValue maxKeepAlive = TimeValue.ofSeconds(keepAliveSec);
+
+    return HttpClients.custom()
+        .setConnectionManager(externalConnectionManager)
+        .setDefaultRequestConfig(RequestConfig.custom()
+            .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolWaitMilSec))
+            .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMilSec))
+            .build())
+        // 서버가 알려준 keep-alive 시간을 따르되 최대 keepAliveSec 까지만 재사용
+        .setKeepAliveStrategy((response, context) -> {
+          TimeValue keepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE
+              .getKeepAliveDuration(response, context);
+          return TimeValue.isPositive(keepAlive)
+              && keepAlive.toMilliseconds() < maxKeepAlive.toMilliseconds()
+              ? keepAlive : maxKeepAlive;
+        })
+        .evictExpiredConnections()
+        .evictIdleConnections(TimeValue.ofSeconds(idleEvictSec))
+        .build();
+  }
+
+  /**
+   * RestTemplateBuilder 로 만들어 요청별 지표(http.client.requests)가 기록된다.
+   */
+  @Bean
+  public RestTemplate externalRestTemplate(RestTemplateBuilder restTemplateBuilder,
+      CloseableHttpClient externalHttpClient) {
+    return restTemplateBuilder
+        .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(externalHttpClient))
+        .build();
+  }
+}
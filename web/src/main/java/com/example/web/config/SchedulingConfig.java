@@ -0,0 +1,10 @@
+package com.example.web.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// @Scheduled 작업(재고 DB 반영 등) 활성화
+@EnableScheduling
+@Configuration
+public class SchedulingConfig {
+}
@@ -0,0 +1,71 @@
+package com.example.web.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.coyote.ProtocolHandler;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 가상 스레드 요청 처리 모드
+ * Tomcat 요청 처리 스레드 풀을 요청당 가상 스레드 하나로 바꾼다.
+ * 빌드는 Java 17 기준이라 가상 스레드 API 는 리플렉션으로 찾고, Java 21 미만이면 기존 스레드 풀을 그대로 쓴다.
+ * DB 커넥션 대기는 DataSourceLimiterConfig 의 세마포어에서 한다.
+ */
+@Slf4j
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+@Configuration
+public class VirtualThreadConfig {
+
+  @Bean
+  public TomcatProtocolHandlerCustomizer<ProtocolHandler> virtualThreadProtocolHandlerCustomizer(
+      MeterRegistry meterRegistry) {
+    Executor virtualThreadExecutor = newVirtualThreadExecutor();
+    if (virtualThreadExecutor == null) {
+      return protocolHandler -> {
+      };
+    }
+
+    // 처리 중인 요청 수 (가상 스레드는 Tomcat 스레드 풀 지표에 잡히지 않는다.)
+    AtomicInteger inFlight = new AtomicInteger();
+    Gauge.builder("web.virtual-threads.in-flight", inFlight, AtomicInteger::get)
+        .description("가상 스레드에서 처리 중인 요청 작업 수")
+        .register(meterRegistry);
+
+    log.info("tomcat requests run on virtual threads");
+    return protocolHandler -> protocolHandler.setExecutor(command -> {
+      inFlight.incrementAndGet();
+      try {
+        virtualThreadExecutor.execute(() -> {
+          try {
+            command.run();
+          } finally {
+            inFlight.decrementAndGet();
+          }
+        });
+      } catch (RuntimeException e) {
+        inFlight.decrementAndGet();
+        throw e;
+      }
+    });
+  }
+
+  private static Executor newVirtualThreadExecutor() {
+    try {
+      return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor")
+          .invoke(null);
+    } catch (NoSuchMethodException e) {
+      log.warn("virtual threads need Java 21 or later. runtime : {}. use platform threads",
+          Runtime.version());
+      return null;
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("failed to create virtual thread executor", e);
+    }
+  }
+}
@@ -2,6 +2,7 @@ package com.example.web.controller;
 
 import com.example.web.dto.attend.AttendDto;
 import com.example.web.dto.attend.AttendInfoDto;
+import com.example.web.service.attend.AttendAdmissionService;
 import com.example.web.service.attend.AttendService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -9,6 +10,7 @@ import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
@@ -21,6 +23,7 @@ import org.springframework.web.bind.annotation.*;
 public class AttendController {
 
   private final AttendService attendService;
+  private final AttendAdmissionService attendAdmissionService;
 
   @Operation(
       summary = "출석 정보",
@@ -67,7 +70,7 @@ public class AttendController {
               schema = @Schema(
                   implementation = AttendInfoDto.Response.class))))
   @PostMapping()
-  public AttendDto.Response attend() {
-    return attendService.attend();
+  public CompletableFuture<AttendDto.Response> attend() {
+    return attendAdmissionService.attend();
   }
 }
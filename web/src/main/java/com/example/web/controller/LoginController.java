@@ -1,7 +1,8 @@
 package com.example.web.controller;
 
-import com.example.web.dto.oauth.OauthNaverLoginDto;
+import com.example.web.dto.oauth.OauthLoginDto;
 import com.example.web.model.annotation.IgnoreAuth;
+import com.example.web.model.enums.OauthType;
 import com.example.web.service.login.LoginService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -14,6 +15,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 @Tag(name = "login", description = "로그인 관련")
 @IgnoreAuth
 @Controller
@@ -33,7 +36,19 @@ public class LoginController {
           responseCode = "200"))
   @PostMapping
   public String login() {
-    return loginService.getRedirectUrl();
+    return loginService.getRedirectUrl(OauthType.NAVER);
+  }
+
+  @IgnoreAuth
+  @Operation(
+      summary = "카카오 이용한 로그인",
+      description = "localhost:8080을 이용해 로그인하세요. JWT 필요 없음",
+      responses = @ApiResponse(
+          description = "OK",
+          responseCode = "200"))
+  @PostMapping("/kakao")
+  public String kakaoLogin() {
+    return loginService.getRedirectUrl(OauthType.KAKAO);
   }
 
   @IgnoreAuth
@@ -50,17 +65,45 @@ public class LoginController {
                       value = "{\"ResultVal\":0,\"ResultMsg\":\"Success\"," +
                           "\"ServerTime\":1699901101,\"IsNewUser\":true}")},
               schema = @Schema(
-                  implementation = OauthNaverLoginDto.Response.class))))
+                  implementation = OauthLoginDto.Response.class))))
   @GetMapping("/naver-callback")
-  public @ResponseBody OauthNaverLoginDto.Response oauthNaverLogin(
+  public @ResponseBody CompletableFuture<OauthLoginDto.Response> oauthNaverLogin(
       @RequestParam(name = "code") String authorizetionCode,
       @RequestParam(name = "state") String state) {
 
-    OauthNaverLoginDto.Request request = OauthNaverLoginDto.Request.builder()
+    OauthLoginDto.Request request = OauthLoginDto.Request.builder()
+        .authorizationCode(authorizetionCode)
+        .state(state)
+        .build();
+
+    return loginService.processOauthLogin(OauthType.NAVER, request);
+  }
+
+  @IgnoreAuth
+  @Operation(
+      summary = "카카오 연동 로그인 콜백",
+      description = "JWT 필요 없음",
+      responses = @ApiResponse(
+          description = "OK",
+          responseCode = "200",
+          content = @Content(
+              mediaType = "application/json",
+              examples = {
+                  @ExampleObject(
+                      value = "{\"ResultVal\":0,\"ResultMsg\":\"Success\"," +
+                          "\"ServerTime\":1699901101,\"IsNewUser\":true}")},
+              schema = @Schema(
+                  implementation = OauthLoginDto.Response.class))))
+  @GetMapping("/kakao-callback")
+  public @ResponseBody CompletableFuture<OauthLoginDto.Response> oauthKakaoLogin(
+      @RequestParam(name = "code") String authorizetionCode,
+      @RequestParam(name = "state", required = false) String state) {
+
+    OauthLoginDto.Request request = OauthLoginDto.Request.builder()
         .authorizationCode(authorizetionCode)
         .state(state)
         .build();
 
-    return loginService.processNaverLogin(request);
+    return loginService.processOauthLogin(OauthType.KAKAO, request);
   }
 }
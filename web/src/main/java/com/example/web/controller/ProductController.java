@@ -1,11 +1,16 @@
 package com.example.web.controller;
 
+import com.example.web.dto.product.UserProductBatchBuyDto;
 import com.example.web.dto.product.UserProductBuyDto;
 import com.example.web.dto.product.ProductEditDto;
 import com.example.web.dto.product.ProductInfoDto;
 import com.example.web.dto.product.UserProductLogDto;
 import com.example.web.dto.product.UserProductInfoDto;
 import com.example.web.model.annotation.IgnoreAuth;
+import com.example.web.model.enums.ExportFormat;
+import com.example.web.service.log.LogExportService;
+import com.example.web.service.product.ProductBuyService;
+import com.example.web.service.product.ProductCatalogCache;
 import com.example.web.service.product.ProductService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -14,11 +19,20 @@ import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @Tag(name = "product", description = "상품 관련")
 @RestController
@@ -28,6 +42,11 @@ import org.springframework.web.bind.annotation.*;
 public class ProductController {
 
   private final ProductService productService;
+  private final ProductBuyService productBuyService;
+  private final LogExportService logExportService;
+
+  @Value("${product.info.pre-serialized.enabled}")
+  private boolean preSerializedEnabled;
 
   @IgnoreAuth
   @Operation(
@@ -50,7 +69,24 @@ public class ProductController {
               schema = @Schema(
                   implementation = ProductInfoDto.Response.class))))
   @GetMapping("/info")
-  public ProductInfoDto.Response getProductInfo() {
+  public ProductInfoDto.Response getProductInfo(WebRequest webRequest,
+      HttpServletRequest request, HttpServletResponse response) throws IOException {
+    // 미리 직렬화된 응답은 클라이언트가 지원하면 gzip 으로 보내므로
+    // 304 응답에도 Vary 를 붙여 캐시가 표현별로 ETag 를 보관하게 한다.
+    boolean isGzip = preSerializedEnabled && isGzipAccepted(request);
+    if (preSerializedEnabled) {
+      response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+    }
+
+    // 상품 정보가 바뀌지 않았으면 DB 조회/직렬화 없이 304 응답
+    if (webRequest.checkNotModified(productService.getProductInfoETag(isGzip))) {
+      return null;
+    }
+
+    if (preSerializedEnabled) {
+      writeProductInfo(isGzip, response);
+      return null;
+    }
     return productService.getProductInfo();
   }
 
@@ -113,9 +149,35 @@ public class ProductController {
                   implementation = UserProductBuyDto.Response.class))))
   @PostMapping("buy")
   @ResponseBody
-  public UserProductBuyDto.Response buyUserProduct(
+  public CompletableFuture<UserProductBuyDto.Response> buyUserProduct(
       @Valid @RequestBody UserProductBuyDto.Request request) {
-    return productService.buyUserProduct(request);
+    return productBuyService.buyUserProduct(request);
+  }
+
+  @Operation(
+      summary = "유저의 여러 상품 한번에 구매",
+      description = "JWT 헤더에 추가 필요(로그인 하세요). 하나라도 실패하면 전체 구매 실패",
+      responses = @ApiResponse(
+          description = "OK",
+          responseCode = "200",
+          content = @Content(
+              mediaType = "application/json",
+              examples = {
+                  @ExampleObject(
+                      value = "{\"ResultVal\":0,\"ResultMsg\":\"Success\",\"UserMoney\":9500,"
+                          + "\"Results\":[{\"ProductIndex\":1,\"ProductCount\":1,\"BuyMoney\":100,"
+                          + "\"UserProduct\":{\"userIndex\":1,\"productCount\":1,"
+                          + "\"updatedAt\":\"2023-11-13T18:03:56.747447+09:00\"}},"
+                          + "{\"ProductIndex\":2,\"ProductCount\":2,\"BuyMoney\":400,"
+                          + "\"UserProduct\":{\"userIndex\":1,\"productCount\":2,"
+                          + "\"updatedAt\":\"2023-11-13T18:03:56.747447+09:00\"}}]}")},
+              schema = @Schema(
+                  implementation = UserProductBatchBuyDto.Response.class))))
+  @PostMapping("buy-batch")
+  @ResponseBody
+  public UserProductBatchBuyDto.Response buyUserProductList(
+      @Valid @RequestBody UserProductBatchBuyDto.Request request) {
+    return productBuyService.buyUserProductList(request);
   }
 
   @Operation(
@@ -131,7 +193,8 @@ public class ProductController {
                       value = "{\"ResultVal\":0,\"ResultMsg\":\"Success\","
                           + "\"UserProductLogs\":[{\"logIndex\":1,\"userIndex\":1,"
                           + "\"productIndex\":1,\"beforeProductCount\":2,\"afterProductCount\":1,"
-                          + "\"updatedAt\":\"2023-11-26T12:39:23.585Z\"}]}")},
+                          + "\"updatedAt\":\"2023-11-26T12:39:23.585Z\"}],"
+                          + "\"NextCursor\":\"MTcwMTAwMjM2Mzo1ODUwMDAwMDA6MQ\"}")},
               schema = @Schema(
                   implementation = UserProductLogDto.Response.class))))
   @GetMapping("log-info")
@@ -145,8 +208,66 @@ public class ProductController {
       LocalDateTime startTime,
       @Parameter(example = "2023-12-31T00:00:00", description = "조회 끝 시간")
       @RequestParam(name = "EndTime", required = false)
-      LocalDateTime endTime) {
+      LocalDateTime endTime,
+      @Parameter(description = "이전 응답의 NextCursor, null 이면 첫 페이지")
+      @RequestParam(name = "Cursor", required = false)
+      String cursor,
+      @Parameter(example = "100", description = "페이지 크기(기본 100, 최대 500), null 허용")
+      @RequestParam(name = "PageSize", required = false)
+      Integer pageSize) {
+
+    return productService.getUserProductLog(productIndex, startTime, endTime, cursor, pageSize);
+  }
+
+  @Operation(
+      summary = "유저의 상품 관련 로그 전체 내보내기",
+      description = "JWT 헤더에 추가 필요(로그인 하세요). 오래된 순으로 한 줄에 로그 하나씩 출력(NDJSON, CSV)")
+  @GetMapping("log-export")
+  public void exportUserProductLogs(
+      @Parameter(example = "1", description = "상품 인덱스")
+      @RequestParam(name = "ProductIndex", required = false)
+      Integer productIndex,
+      @Parameter(example = "2023-01-01T00:00:00", description = "조회 최소 시간, null 허용")
+      @RequestParam(name = "StartTime", required = false)
+      LocalDateTime startTime,
+      @Parameter(example = "2023-12-31T00:00:00", description = "조회 최대 시간, null 허용")
+      @RequestParam(name = "EndTime", required = false)
+      LocalDateTime endTime,
+      @Parameter(example = "ndjson", description = "파일 형식(ndjson, csv)")
+      @RequestParam(name = "Format", defaultValue = "ndjson")
+      String format,
+      HttpServletResponse response) throws IOException {
+    ExportFormat exportFormat = ExportFormat.ofExportFormat(format);
+
+    response.setContentType(exportFormat.getContentType());
+    response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+    response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+        "attachment; filename=\"user-product-log." + exportFormat.getFormat() + "\"");
+
+    logExportService.exportUserProductLogs(productIndex, startTime, endTime, exportFormat,
+        response.getOutputStream());
+  }
+
+  private boolean isGzipAccepted(HttpServletRequest request) {
+    String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+    return acceptEncoding != null && acceptEncoding.contains("gzip");
+  }
+
+  /**
+   * 미리 직렬화된 상품 정보 응답을 바로 출력
+   *
+   * @param isGzip gzip 응답 여부
+   */
+  private void writeProductInfo(boolean isGzip, HttpServletResponse response)
+      throws IOException {
+    ProductCatalogCache.RenderedBody renderedBody = productService.getRenderedProductInfo();
+    byte[] body = isGzip ? renderedBody.getGzip() : renderedBody.getPlain();
 
-    return productService.getUserProductLog(productIndex, startTime, endTime);
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    if (isGzip) {
+      response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+    }
+    response.setContentLength(body.length);
+    response.getOutputStream().write(body);
   }
 }
@@ -2,8 +2,12 @@ package com.example.web.controller;
 
 import com.example.web.dto.user.UserInfoDto;
 import com.example.web.dto.user.UserMoneyLogInfoDto;
+import com.example.web.dto.user.UserMoneySummaryDto;
+import com.example.web.model.enums.ExportFormat;
 import com.example.web.model.enums.MoneyLogType;
 import com.example.web.model.enums.converter.MoneyLogTypeConverter;
+import com.example.web.service.log.LogExportService;
+import com.example.web.service.user.UserMoneyDailyService;
 import com.example.web.service.user.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -13,8 +17,13 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.persistence.Convert;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -27,6 +36,8 @@ import org.springframework.web.bind.annotation.RestController;
 public class UserController {
 
   private final UserService userService;
+  private final LogExportService logExportService;
+  private final UserMoneyDailyService userMoneyDailyService;
 
   @Operation(
       summary = "유저 정보 조회",
@@ -63,7 +74,8 @@ public class UserController {
                       value = "{\"ResultVal\":0,\"ResultMsg\":\"Success\","
                           + "\"UserMoneyLogs\":[{\"logIndex\":1,\"logType\":1,"
                           + "\"userIndex\":1,\"beforeMoney\":1,\"afterMoney\":2,"
-                          + "\"createdAt\":\"2023-12-01T01:03:43.031Z\"}]}")},
+                          + "\"createdAt\":\"2023-12-01T01:03:43.031Z\"}],"
+                          + "\"NextCursor\":\"MTcwMTM5MjYyMzozMTAwMDAwMDox\"}")},
               schema = @Schema(
                   implementation = UserMoneyLogInfoDto.Response.class))))
   @GetMapping("/money/log-info")
@@ -76,7 +88,74 @@ public class UserController {
       LocalDateTime startTime,
       @Parameter(example = "2023-12-31T00:00:00", description = "조회 최대 시간, null 허용")
       @RequestParam(name = "EndTime", required = false)
-      LocalDateTime endTime) {
-    return userService.getUserMoneyLogInfo(logType, startTime, endTime);
+      LocalDateTime endTime,
+      @Parameter(description = "이전 응답의 NextCursor, null 이면 첫 페이지")
+      @RequestParam(name = "Cursor", required = false)
+      String cursor,
+      @Parameter(example = "100", description = "페이지 크기(기본 100, 최대 500), null 허용")
+      @RequestParam(name = "PageSize", required = false)
+      Integer pageSize) {
+    return userService.getUserMoneyLogInfo(logType, startTime, endTime, cursor, pageSize);
+  }
+
+  @Operation(
+      summary = "유저 돈 변화 기간 집계 조회",
+      description = "JWT 헤더에 추가 필요(로그인 하세요). 일별 집계 기준으로 조회",
+      responses = @ApiResponse(
+          description = "OK",
+          responseCode = "200",
+          content = @Content(
+              mediaType = "application/json",
+              examples = {
+                  @ExampleObject(
+                      value = "{\"ResultVal\":0,\"ResultMsg\":\"Success\","
+                          + "\"Dailies\":[{\"logDate\":\"2023-12-01\",\"logType\":1,"
+                          + "\"totalDelta\":-300,\"logCount\":2},"
+                          + "{\"logDate\":\"2023-12-01\",\"logType\":2,"
+                          + "\"totalDelta\":2000,\"logCount\":1}],"
+                          + "\"TotalDelta\":1700,\"LogCount\":3}")},
+              schema = @Schema(
+                  implementation = UserMoneySummaryDto.Response.class))))
+  @GetMapping("/money/summary")
+  public UserMoneySummaryDto.Response getUserMoneySummary(
+      @Parameter(example = "1", description = "돈 관련 로그 타입(1:상품 관련, 2:출석 관련), null 허용")
+      @RequestParam(name = "MoneyLogType", required = false)
+      Integer logType,
+      @Parameter(example = "2023-12-01", description = "조회 시작 날짜(포함)")
+      @RequestParam(name = "StartDate")
+      LocalDate startDate,
+      @Parameter(example = "2023-12-31", description = "조회 끝 날짜(포함)")
+      @RequestParam(name = "EndDate")
+      LocalDate endDate) {
+    return userMoneyDailyService.getUserMoneySummary(logType, startDate, endDate);
+  }
+
+  @Operation(
+      summary = "유저 돈 변화 로그 전체 내보내기",
+      description = "JWT 헤더에 추가 필요(로그인 하세요). 오래된 순으로 한 줄에 로그 하나씩 출력(NDJSON, CSV)")
+  @GetMapping("/money/log-export")
+  public void exportUserMoneyLogs(
+      @Parameter(example = "1", description = "돈 관련 로그 타입(1:상품 관련, 2:출석 관련), null 허용")
+      @RequestParam(name = "MoneyLogType", required = false)
+      Integer logType,
+      @Parameter(example = "2023-01-01T00:00:00", description = "조회 최소 시간, null 허용")
+      @RequestParam(name = "StartTime", required = false)
+      LocalDateTime startTime,
+      @Parameter(example = "2023-12-31T00:00:00", description = "조회 최대 시간, null 허용")
+      @RequestParam(name = "EndTime", required = false)
+      LocalDateTime endTime,
+      @Parameter(example = "ndjson", description = "파일 형식(ndjson, csv)")
+      @RequestParam(name = "Format", defaultValue = "ndjson")
+      String format,
+      HttpServletResponse response) throws IOException {
+    ExportFormat exportFormat = ExportFormat.ofExportFormat(format);
+
+    response.setContentType(exportFormat.getContentType());
+    response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+    response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+        "attachment; filename=\"user-money-log." + exportFormat.getFormat() + "\"");
+
+    logExportService.exportUserMoneyLogs(logType, startTime, endTime, exportFormat,
+        response.getOutputStream());
   }
 }
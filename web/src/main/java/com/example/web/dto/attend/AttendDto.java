@@ -2,8 +2,8 @@ package com.example.web.dto.attend;
 
 import com.example.web.jpa.entity.attend.AttendTime;
 import com.example.web.jpa.entity.attend.UserAttend;
-import com.example.web.jpa.entity.user.UserInfo;
 import com.example.web.jpa.entity.user.UserMoneyLog;
+import com.example.web.model.attend.AttendBitmap;
 import com.example.web.model.response.CommonResponse;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -24,10 +24,12 @@ public class AttendDto {
 
     private OffsetDateTime now;
     private Long userIndex;
-    private UserInfo userInfo;
+    private long money; // 출석 후 유저의 돈
     private List<UserAttend> userAttends;
     private List<AttendTime> nowAttendTimes; // 진행 중인 출석 정보들
     private UserMoneyLog userMoneyLog;
+    private AttendBitmap attendBitmap; // 유저 1일 1회 출석 비트맵
+    private int attendStreak; // 출석 후 연속 출석 일수
   }
 
   @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -45,5 +47,9 @@ public class AttendDto {
     @Schema(description = "출석 후 돈")
     @JsonProperty("Money")
     private long money;
+
+    @Schema(description = "출석 후 연속 출석 일수")
+    @JsonProperty("AttendStreak")
+    private int attendStreak;
   }
 }
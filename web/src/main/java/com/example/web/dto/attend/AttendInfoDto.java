@@ -35,5 +35,14 @@ public class AttendInfoDto {
     @JsonProperty("UserAttends")
     private List<UserAttend> userAttends = new ArrayList<>();
 
+    @Schema(description = "연속 출석 일수 (오늘 출석 전이면 어제까지)")
+    @JsonProperty("AttendStreak")
+    private int attendStreak;
+
+    @Schema(description = "이번 달 출석한 날짜(일) 목록")
+    @Builder.Default
+    @JsonProperty("AttendCalendar")
+    private List<Integer> attendCalendar = new ArrayList<>();
+
   }
 }
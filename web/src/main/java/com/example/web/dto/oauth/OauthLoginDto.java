@@ -8,7 +8,10 @@ import lombok.experimental.SuperBuilder;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 
-public class OauthNaverLoginDto {
+/**
+ * 외부 플랫폼 연동 로그인 요청/응답 (네이버, 카카오 공용)
+ */
+public class OauthLoginDto {
 
   @NoArgsConstructor(access = AccessLevel.PROTECTED)
   @Getter
@@ -17,7 +20,7 @@ public class OauthNaverLoginDto {
 
     @NotBlank
     private String authorizationCode;
-    @NotBlank
+    // 네이버만 사용 (카카오는 없을 수 있음)
     private String state;
 
     public MultiValueMap<String, String> makeHttpBody() {
@@ -0,0 +1,68 @@
+package com.example.web.dto.product;
+
+import com.example.web.jpa.entity.product.UserProduct;
+import com.example.web.model.response.CommonResponse;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+public class UserProductBatchBuyDto {
+
+  @NoArgsConstructor(access = AccessLevel.PROTECTED)
+  @Getter
+  public static class Request {
+
+    @Schema(description = "구매할 상품 목록(상품 인덱스, 상품 수량)")
+    @NotEmpty
+    @Size(max = 100)
+    @Valid
+    @JsonProperty("Products")
+    private List<UserProductBuyDto.Request> products;
+  }
+
+  @NoArgsConstructor(access = AccessLevel.PROTECTED)
+  @Getter
+  @Setter
+  @SuperBuilder
+  public static class Result {
+
+    @Schema(description = "상품 인덱스")
+    @JsonProperty("ProductIndex")
+    private int productIndex;
+
+    @Schema(description = "구매한 상품 수량")
+    @JsonProperty("ProductCount")
+    private int productCount;
+
+    @Schema(description = "구매에 사용한 돈")
+    @JsonProperty("BuyMoney")
+    private long buyMoney;
+
+    @Schema(description = "구매 후 유저의 해당 아이템 정보")
+    @JsonProperty("UserProduct")
+    private UserProduct userProduct;
+  }
+
+  @NoArgsConstructor(access = AccessLevel.PROTECTED)
+  @Getter
+  @Setter
+  @SuperBuilder
+  @EqualsAndHashCode(callSuper = true)
+  public static class Response extends CommonResponse {
+
+    @Schema(description = "구매 후 유저의 돈")
+    @JsonProperty("UserMoney")
+    private long userMoney;
+
+    @Schema(description = "상품별 구매 결과")
+    @Builder.Default
+    @JsonProperty("Results")
+    private List<Result> results = new ArrayList<>();
+  }
+}
@@ -3,24 +3,29 @@ package com.example.web.dto.product;
 import com.example.web.jpa.entity.product.Product;
 import com.example.web.jpa.entity.product.UserProduct;
 import com.example.web.jpa.entity.product.UserProductLog;
-import com.example.web.jpa.entity.user.UserInfo;
 import com.example.web.jpa.entity.user.UserMoneyLog;
 import com.example.web.model.response.CommonResponse;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Positive;
 import java.time.OffsetDateTime;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 
 public class UserProductBuyDto {
 
+  // 한번에 구매할 수 있는 상품 최대 수량 (여러 상품 구매시 같은 상품 수량 합계 포함)
+  public static final int MAX_PRODUCT_COUNT = 10000;
+
   @NoArgsConstructor(access = AccessLevel.PROTECTED)
   @Getter
   @Setter
   @SuperBuilder
   public static class Dto {
-    private UserInfo userInfo;
+    private long userIndex;
+    private long userMoney; // 구매 후 유저의 돈
     private UserMoneyLog userMoneyLog;
     private Product product;
     private UserProduct userProduct;
@@ -40,7 +45,8 @@ public class UserProductBuyDto {
     private int productIndex;
 
     @Schema(example = "2", description = "상품 수량")
-    @Min(0)
+    @Positive
+    @Max(MAX_PRODUCT_COUNT)
     @JsonProperty("ProductCount")
     private int productCount;
   }
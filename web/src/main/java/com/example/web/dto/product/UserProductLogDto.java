@@ -1,10 +1,11 @@
 package com.example.web.dto.product;
 
-import com.example.web.jpa.entity.product.UserProductLog;
 import com.example.web.model.response.CommonResponse;
+import com.example.web.util.cursor.LogCursor;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.AccessLevel;
@@ -24,6 +25,21 @@ public class UserProductLogDto {
     private Integer productIndex;
     private LocalDateTime startTime;
     private LocalDateTime endTime;
+    private LogCursor cursor;
+    private int pageSize;
+  }
+
+  /**
+   * 유저 상품 로그 (조회 전용, 필요한 컬럼만 조회)
+   */
+  public record Log(
+      Long logIndex,
+      Long userIndex,
+      Integer productIndex,
+      Integer beforeProductCount,
+      Integer afterProductCount,
+      OffsetDateTime createdAt) {
+
   }
 
   @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -35,6 +51,10 @@ public class UserProductLogDto {
     @Schema(description = "유저의 상품 구매 로그")
     @Builder.Default
     @JsonProperty("UserProductLogs")
-    private List<UserProductLog> userProductLogs = new ArrayList<>();
+    private List<Log> userProductLogs = new ArrayList<>();
+
+    @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)")
+    @JsonProperty("NextCursor")
+    private String nextCursor;
   }
 }
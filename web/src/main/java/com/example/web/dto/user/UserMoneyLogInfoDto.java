@@ -1,10 +1,12 @@
 package com.example.web.dto.user;
 
-import com.example.web.jpa.entity.user.UserMoneyLog;
+import com.example.web.model.enums.MoneyLogType;
 import com.example.web.model.response.CommonResponse;
+import com.example.web.util.cursor.LogCursor;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.AccessLevel;
@@ -24,6 +26,21 @@ public class UserMoneyLogInfoDto {
     private Integer logType;
     private LocalDateTime startTime;
     private LocalDateTime endTime;
+    private LogCursor cursor;
+    private int pageSize;
+  }
+
+  /**
+   * 유저 돈 변화 로그 (조회 전용, 필요한 컬럼만 조회)
+   */
+  public record Log(
+      Long logIndex,
+      MoneyLogType logType,
+      Long userIndex,
+      Long beforeMoney,
+      Long afterMoney,
+      OffsetDateTime createdAt) {
+
   }
 
   @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -35,6 +52,10 @@ public class UserMoneyLogInfoDto {
     @Schema(description = "유저의 돈 변화 로그")
     @Builder.Default
     @JsonProperty("UserMoneyLogs")
-    private List<UserMoneyLog> userMoneyLogs = new ArrayList<>();
+    private List<Log> userMoneyLogs = new ArrayList<>();
+
+    @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)")
+    @JsonProperty("NextCursor")
+    private String nextCursor;
   }
 }
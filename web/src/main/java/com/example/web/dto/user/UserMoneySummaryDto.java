@@ -0,0 +1,59 @@
+package com.example.web.dto.user;
+
+import com.example.web.model.enums.MoneyLogType;
+import com.example.web.model.response.CommonResponse;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+public class UserMoneySummaryDto {
+
+  @Getter
+  @SuperBuilder
+  public static class Dto {
+    private long userIndex;
+    private Integer logType;
+    private LocalDate startDate;
+    private LocalDate endDate;
+  }
+
+  /**
+   * 일별 돈 변화 집계
+   */
+  public record Daily(
+      LocalDate logDate,
+      MoneyLogType logType,
+      Long totalDelta,
+      Long logCount) {
+
+  }
+
+  @NoArgsConstructor(access = AccessLevel.PROTECTED)
+  @Getter
+  @Setter
+  @SuperBuilder
+  @EqualsAndHashCode(callSuper = true)
+  public static class Response extends CommonResponse {
+    @Schema(description = "일별, 로그 타입별 돈 변화 집계 (날짜 오름차순)")
+    @Builder.Default
+    @JsonProperty("Dailies")
+    private List<Daily> dailies = new ArrayList<>();
+
+    @Schema(description = "조회 기간 전체 돈 변화량")
+    @JsonProperty("TotalDelta")
+    private long totalDelta;
+
+    @Schema(description = "조회 기간 전체 로그 수")
+    @JsonProperty("LogCount")
+    private long logCount;
+  }
+}
@@ -0,0 +1,40 @@
+package com.example.web.jpa.entity.attend;
+
+import com.example.web.jpa.entity.attend.id.UserAttendMonthId;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * 유저 월별 1일 1회 출석 비트맵 (1일 = 0번 비트)
+ */
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@SuperBuilder
+@Entity
+@Getter
+@Setter
+@Table(name = "T_User_Attend_Month")
+@IdClass(UserAttendMonthId.class)
+public class UserAttendMonth {
+
+  @Id
+  @Column(name = "UserIndex")
+  private Long userIndex;
+
+  // yyyyMM
+  @Id
+  @Column(name = "AttendMonth")
+  private Integer attendMonth;
+
+  @Column(name = "Days", nullable = false)
+  @Builder.Default
+  private Integer days = 0;
+}
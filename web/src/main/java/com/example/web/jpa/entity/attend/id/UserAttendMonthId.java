@@ -0,0 +1,18 @@
+package com.example.web.jpa.entity.attend.id;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.io.Serializable;
+
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@SuperBuilder
+@EqualsAndHashCode
+public class UserAttendMonthId implements Serializable {
+
+  private Long userIndex;
+
+  private Integer attendMonth;
+}
@@ -0,0 +1,36 @@
+package com.example.web.jpa.entity.idempotency;
+
+import jakarta.persistence.*;
+import java.time.OffsetDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.CreationTimestamp;
+
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@SuperBuilder
+@Entity
+@Getter
+@Table(name = "T_Idempotency_Key",
+    indexes = @Index(name = "Index_CreatedAt", columnList = "CreatedAt"))
+public class IdempotencyRecord {
+  // 멱등 키 별로 처음 처리한 응답을 저장한다.
+  @Id
+  @Column(name = "IdempotencyKey", length = 64)
+  private String idempotencyKey;
+
+  @Column(name = "Status", nullable = false)
+  private Integer status;
+
+  @Column(name = "ContentType")
+  private String contentType;
+
+  @Lob
+  @Column(name = "Body", nullable = false)
+  private byte[] body;
+
+  @CreationTimestamp
+  @Column(name = "CreatedAt", nullable = false)
+  private OffsetDateTime createdAt;
+}
@@ -19,7 +19,8 @@ import org.hibernate.annotations.Nationalized;
 public class Product {
   // 기획 상품 테이블
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "productGenerator")
+  @SequenceGenerator(name = "productGenerator", sequenceName = "SEQ_STATIC_Product", allocationSize = 50)
   @Column(name = "ProductIndex")
   private Integer productIndex;
 
@@ -5,7 +5,6 @@ import lombok.*;
 import lombok.experimental.SuperBuilder;
 
 import java.time.OffsetDateTime;
-import org.hibernate.annotations.CreationTimestamp;
 
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @SuperBuilder
@@ -18,7 +17,8 @@ import org.hibernate.annotations.CreationTimestamp;
 public class UserProductLog {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "userProductLogGenerator")
+  @SequenceGenerator(name = "userProductLogGenerator", sequenceName = "SEQ_User_Product_Log", allocationSize = 50)
   @Column(name = "LogIndex")
   private Long logIndex;
 
@@ -34,7 +34,8 @@ public class UserProductLog {
   @Column(name = "AfterProductCount", nullable = false)
   private Integer afterProductCount;
 
+  // 로그는 비동기로 저장될 수 있어 저장 시점이 아닌 생성 시점을 기록한다.
+  @Builder.Default
   @Column(name = "CreatedAt", nullable = false)
-  @CreationTimestamp
-  private OffsetDateTime createdAt;
+  private OffsetDateTime createdAt = OffsetDateTime.now();
 }
@@ -1,5 +1,6 @@
 package com.example.web.jpa.entity.user;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
@@ -16,7 +17,8 @@ import java.time.LocalDateTime;
 public class UserInfo {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "userInfoGenerator")
+  @SequenceGenerator(name = "userInfoGenerator", sequenceName = "SEQ_User_Info", allocationSize = 50)
   @Column(name = "UserIndex", nullable = false)
   private Long userIndex;
 
@@ -38,6 +40,13 @@ public class UserInfo {
   @CreationTimestamp
   private LocalDateTime lastLoginAt;
 
+  // 캐시된(오래된) 유저 정보로 덮어쓰지 않도록 저장시 버전을 확인한다. (돈 증감 update 문도 올린다.)
+  @JsonIgnore
+  @Version
+  @Column(name = "Version", nullable = false)
+  @Builder.Default
+  private Long version = 0L;
+
   public void addMoney(Long addMoney) {
     this.money += addMoney;
   }
@@ -0,0 +1,44 @@
+package com.example.web.jpa.entity.user;
+
+import com.example.web.jpa.entity.user.id.UserMoneyDailyId;
+import com.example.web.model.enums.MoneyLogType;
+import com.example.web.model.enums.converter.MoneyLogTypeConverter;
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * 유저 일별 돈 변화 집계 (T_User_Money_Log 를 유저, 날짜, 로그 타입별로 합산)
+ */
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@SuperBuilder
+@Entity
+@Getter
+@Setter
+@Table(name = "T_User_Money_Daily")
+@IdClass(UserMoneyDailyId.class)
+public class UserMoneyDaily {
+
+  @Id
+  @Column(name = "UserIndex")
+  private Long userIndex;
+
+  @Id
+  @Column(name = "LogDate")
+  private LocalDate logDate;
+
+  @Id
+  @Column(name = "LogType")
+  @Convert(converter = MoneyLogTypeConverter.class)
+  private MoneyLogType logType;
+
+  // 돈 변화량 합 (afterMoney - beforeMoney)
+  @Column(name = "TotalDelta", nullable = false)
+  @Builder.Default
+  private Long totalDelta = 0L;
+
+  @Column(name = "LogCount", nullable = false)
+  @Builder.Default
+  private Long logCount = 0L;
+}
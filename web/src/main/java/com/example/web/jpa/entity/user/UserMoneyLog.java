@@ -9,14 +9,15 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.OffsetDateTime;
 import lombok.AccessLevel;
+import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
-import org.hibernate.annotations.CreationTimestamp;
 
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @SuperBuilder
@@ -29,7 +30,8 @@ import org.hibernate.annotations.CreationTimestamp;
 public class UserMoneyLog {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "userMoneyLogGenerator")
+  @SequenceGenerator(name = "userMoneyLogGenerator", sequenceName = "SEQ_User_Money_Log", allocationSize = 50)
   @Column(name = "LogIndex", nullable = false)
   private Long logIndex;
 
@@ -46,7 +48,8 @@ public class UserMoneyLog {
   @Column(name = "AfterMoney", nullable = false)
   private Long afterMoney;
 
-  @CreationTimestamp
+  // 로그는 비동기로 저장될 수 있어 저장 시점이 아닌 생성 시점을 기록한다.
+  @Builder.Default
   @Column(name = "CreatedAt", nullable = false)
-  private OffsetDateTime createdAt;
+  private OffsetDateTime createdAt = OffsetDateTime.now();
 }
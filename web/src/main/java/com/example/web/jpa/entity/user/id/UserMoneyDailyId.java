@@ -0,0 +1,21 @@
+package com.example.web.jpa.entity.user.id;
+
+import com.example.web.model.enums.MoneyLogType;
+import java.io.Serializable;
+import java.time.LocalDate;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@SuperBuilder
+@EqualsAndHashCode
+public class UserMoneyDailyId implements Serializable {
+
+  private Long userIndex;
+
+  private LocalDate logDate;
+
+  private MoneyLogType logType;
+}
@@ -0,0 +1,45 @@
+package com.example.web.jpa.repository.attend;
+
+import com.example.web.jpa.entity.attend.UserAttendMonth;
+import com.example.web.jpa.entity.attend.id.UserAttendMonthId;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface UserAttendMonthRepository extends JpaRepository<UserAttendMonth, UserAttendMonthId> {
+
+  List<UserAttendMonth> findByUserIndex(Long userIndex);
+
+  /**
+   * 출석 비트 설정 (없으면 추가)
+   * 이미 설정된 비트면 아무것도 바꾸지 않으므로, 반환값으로 중복 출석을 판단한다.
+   *
+   * @return 설정했으면 1, 이미 출석한 날이면 0
+   */
+  @Modifying
+  @Query(value = "MERGE INTO t_user_attend_month d "
+      + "USING (SELECT CAST(:userIndex AS BIGINT) AS user_index, "
+      + "CAST(:attendMonth AS INT) AS attend_month) s "
+      + "ON d.user_index = s.user_index AND d.attend_month = s.attend_month "
+      + "WHEN MATCHED AND BITAND(d.days, :bit) = 0 THEN UPDATE SET days = BITOR(d.days, :bit) "
+      + "WHEN NOT MATCHED THEN INSERT (user_index, attend_month, days) "
+      + "VALUES (s.user_index, s.attend_month, :bit)",
+      nativeQuery = true)
+  int setDay(@Param("userIndex") long userIndex, @Param("attendMonth") int attendMonth,
+      @Param("bit") int bit);
+
+  /**
+   * 출석 비트 해제 (같은 트랜잭션에서 설정한 출석을 되돌릴 때 사용)
+   *
+   * @return 해제했으면 1, 설정되지 않은 날이면 0
+   */
+  @Modifying
+  @Query(value = "UPDATE t_user_attend_month SET days = days - :bit "
+      + "WHERE user_index = :userIndex AND attend_month = :attendMonth "
+      + "AND BITAND(days, :bit) <> 0",
+      nativeQuery = true)
+  int clearDay(@Param("userIndex") long userIndex, @Param("attendMonth") int attendMonth,
+      @Param("bit") int bit);
+}
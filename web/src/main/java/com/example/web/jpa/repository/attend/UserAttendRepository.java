@@ -2,11 +2,32 @@ package com.example.web.jpa.repository.attend;
 
 import com.example.web.jpa.entity.attend.UserAttend;
 import com.example.web.jpa.entity.attend.id.UserAttendId;
+import java.time.OffsetDateTime;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface UserAttendRepository extends JpaRepository<UserAttend, UserAttendId> {
 
   List<UserAttend> findByUserIndex(Long userIndex);
+
+  /**
+   * 출석 횟수 증가, 마지막 출석 시간 갱신 (없으면 추가)
+   * 조회 없이 MERGE 문 한번으로 처리한다.
+   */
+  @Modifying
+  @Query(value = "MERGE INTO t_user_attend d "
+      + "USING (SELECT CAST(:userIndex AS BIGINT) AS user_index, "
+      + "CAST(:attendType AS INT) AS attend_type) s "
+      + "ON d.user_index = s.user_index AND d.attend_type = s.attend_type "
+      + "WHEN MATCHED THEN UPDATE SET attend_count = d.attend_count + 1, "
+      + "last_attend_at = :attendAt "
+      + "WHEN NOT MATCHED THEN INSERT (user_index, attend_type, attend_count, last_attend_at) "
+      + "VALUES (s.user_index, s.attend_type, 1, :attendAt)",
+      nativeQuery = true)
+  void addAttend(@Param("userIndex") long userIndex, @Param("attendType") int attendType,
+      @Param("attendAt") OffsetDateTime attendAt);
 }
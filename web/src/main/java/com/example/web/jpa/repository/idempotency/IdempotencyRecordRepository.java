@@ -0,0 +1,23 @@
+package com.example.web.jpa.repository.idempotency;
+
+import com.example.web.jpa.entity.idempotency.IdempotencyRecord;
+import java.time.OffsetDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+  /**
+   * 만료된 멱등 키 삭제
+   *
+   * @param time 기준 시간 (이 시간 이전에 생성된 키 삭제)
+   * @return 삭제된 row 수
+   */
+  @Transactional
+  @Modifying
+  @Query("delete from IdempotencyRecord r where r.createdAt < :time")
+  int deleteByCreatedAtBefore(@Param("time") OffsetDateTime time);
+}
@@ -2,9 +2,33 @@ package com.example.web.jpa.repository.product;
 
 import com.example.web.jpa.entity.product.Product;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.Optional;
 
 public interface ProductRepository extends JpaRepository<Product, Integer> {
 
   Optional<Product> findByProductName(String productName);
+
+  @Query("select p.quantity from Product p where p.productIndex = :productIndex")
+  Optional<Integer> findQuantityByProductIndex(@Param("productIndex") int productIndex);
+
+  /**
+   * 상품 수량 증감
+   * 엔티티 조회 없이 한번의 update 문으로 반영한다.
+   * 메모리 재고 반영용으로, 커밋 후 콜백에서 호출해도 반영되도록 항상 새 트랜잭션에서 실행한다.
+   *
+   * @param productIndex 상품 인덱스
+   * @param quantity     증감할 수량 (음수면 차감)
+   * @return 변경된 row 수
+   */
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  @Modifying
+  @Query("update Product p set p.quantity = p.quantity + :quantity "
+      + "where p.productIndex = :productIndex")
+  int addProductQuantity(@Param("productIndex") int productIndex,
+      @Param("quantity") int quantity);
 }
@@ -1,7 +1,18 @@
 package com.example.web.jpa.repository.product;
 
 import com.example.web.jpa.entity.product.UserProductLog;
+import java.util.Collection;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface UserProductLogRepository extends JpaRepository<UserProductLog, Long> {
+
+  /**
+   * 아카이브한 로그 삭제 (엔티티 조회 없이 한번에 삭제)
+   */
+  @Modifying
+  @Query("delete from UserProductLog l where l.logIndex in :logIndexes")
+  int deleteByLogIndexIn(@Param("logIndexes") Collection<Long> logIndexes);
 }
@@ -2,16 +2,25 @@ package com.example.web.jpa.repository.product;
 
 import static com.example.web.jpa.entity.product.QUserProductLog.userProductLog;
 
-import com.example.web.jpa.entity.product.UserProductLog;
+import com.example.web.dto.product.UserProductLogDto;
+import com.example.web.util.archive.ArchiveRow;
+import com.example.web.util.archive.LogArchiveStore;
+import com.example.web.util.archive.LogArchiveType;
+import com.example.web.util.cursor.LogCursor;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 
 @RequiredArgsConstructor
 @Repository
@@ -20,6 +29,8 @@ public class UserProductLogRepositorySupport {
   @Qualifier("QueryDslJpaQueryFactory")
   private final JPAQueryFactory queryFactory;
 
+  private final LogArchiveStore logArchiveStore;
+
   /**
    * 유저 상품 로그 조회 유저 정보(userIndex)는 있어야 하며, 나머지 항목(productIndex, startTime, endTime)은 nullable. 조건에
    * 따라 동적 쿼리 생성
@@ -28,18 +39,127 @@ public class UserProductLogRepositorySupport {
    * @param productIndex 싱품 인덱스
    * @param startTime    조회 시작 시간
    * @param endTime      조회 끝 시간
+   * @param cursor       이전 페이지 마지막 로그 커서 (null 이면 처음부터)
+   * @param limit        최대 조회 수
    * @return 유저 상품 로그
    */
-  public List<UserProductLog> getUserProductLogs(long userIndex, Integer productIndex,
-      LocalDateTime startTime, LocalDateTime endTime) {
+  public List<UserProductLogDto.Log> getUserProductLogs(long userIndex, Integer productIndex,
+      LocalDateTime startTime, LocalDateTime endTime, LogCursor cursor, int limit) {
 
-    return queryFactory
-        .selectFrom(userProductLog)
+    // 영속성 컨텍스트에 올리지 않도록 엔티티 대신 DTO 로 바로 조회
+    List<UserProductLogDto.Log> logs = queryFactory
+        .select(Projections.constructor(UserProductLogDto.Log.class,
+            userProductLog.logIndex,
+            userProductLog.userIndex,
+            userProductLog.productIndex,
+            userProductLog.beforeProductCount,
+            userProductLog.afterProductCount,
+            userProductLog.createdAt))
+        .from(userProductLog)
         .where(userProductLog.userIndex.eq(userIndex)
             .and(eqProductIndex(productIndex))
             .and(afterStartTime(startTime))
-            .and(beforeEndTime(endTime)))
+            .and(beforeEndTime(endTime))
+            .and(afterCursor(cursor)))
+        .orderBy(userProductLog.createdAt.desc(), userProductLog.logIndex.desc())
+        .limit(limit)
         .fetch();
+
+    // 오래된 로그는 아카이브로 옮겨지므로 모자란 만큼 아카이브에서 이어서 조회
+    if (logs.size() >= limit) {
+      return logs;
+    }
+
+    List<UserProductLogDto.Log> result = new ArrayList<>(logs);
+    logArchiveStore.read(LogArchiveType.USER_PRODUCT_LOG, userIndex, productIndex,
+            toOffsetDateTime(startTime), toOffsetDateTime(endTime), cursor, limit - logs.size())
+        .forEach(row -> result.add(toLog(row)));
+    return result;
+  }
+
+  /**
+   * 유저 상품 로그 전체 스트림 조회 (내보내기용)
+   * 한번에 읽지 않고 fetch size 만큼씩 DB 커서로 읽는다. 호출한 쪽에서 트랜잭션 안에서 사용 후 닫아야 한다.
+   * 엔티티 대신 DTO 로 바로 조회하므로 영속성 컨텍스트에 쌓이지 않는다.
+   *
+   * @param userIndex    유저 인덱스
+   * @param productIndex 상품 인덱스
+   * @param startTime    조회 시작 시간
+   * @param endTime      조회 끝 시간
+   * @param fetchSize    한번에 읽어올 row 수
+   * @return 오래된 순 유저 상품 로그 스트림
+   */
+  public Stream<UserProductLogDto.Log> streamUserProductLogs(long userIndex,
+      Integer productIndex, LocalDateTime startTime, LocalDateTime endTime, int fetchSize) {
+
+    // 아카이브 로그가 항상 더 오래되었으므로 아카이브 -> DB 순으로 이어 붙인다.
+    Stream<UserProductLogDto.Log> archivedLogs = logArchiveStore
+        .stream(LogArchiveType.USER_PRODUCT_LOG, userIndex, productIndex,
+            toOffsetDateTime(startTime), toOffsetDateTime(endTime))
+        .map(this::toLog);
+
+    Stream<UserProductLogDto.Log> logs = queryFactory
+        .select(Projections.constructor(UserProductLogDto.Log.class,
+            userProductLog.logIndex,
+            userProductLog.userIndex,
+            userProductLog.productIndex,
+            userProductLog.beforeProductCount,
+            userProductLog.afterProductCount,
+            userProductLog.createdAt))
+        .from(userProductLog)
+        .where(userProductLog.userIndex.eq(userIndex)
+            .and(eqProductIndex(productIndex))
+            .and(afterStartTime(startTime))
+            .and(beforeEndTime(endTime)))
+        .orderBy(userProductLog.createdAt.asc(), userProductLog.logIndex.asc())
+        .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+        .stream();
+
+    return Stream.concat(archivedLogs, logs);
+  }
+
+  /**
+   * 아카이브할 로그 조회 (유저 인덱스, 로그 인덱스 순)
+   *
+   * @param startTime 시작 시간 (포함)
+   * @param endTime   끝 시간 (미포함)
+   * @param limit     최대 조회 수
+   * @return 아카이브 파일 행
+   */
+  public List<ArchiveRow> getArchiveRows(OffsetDateTime startTime, OffsetDateTime endTime,
+      int limit) {
+
+    return queryFactory
+        .select(Projections.constructor(UserProductLogDto.Log.class,
+            userProductLog.logIndex,
+            userProductLog.userIndex,
+            userProductLog.productIndex,
+            userProductLog.beforeProductCount,
+            userProductLog.afterProductCount,
+            userProductLog.createdAt))
+        .from(userProductLog)
+        .where(userProductLog.createdAt.goe(startTime)
+            .and(userProductLog.createdAt.lt(endTime)))
+        .orderBy(userProductLog.userIndex.asc(), userProductLog.logIndex.asc())
+        .limit(limit)
+        .fetch()
+        .stream()
+        .map(f -> new ArchiveRow(f.logIndex(), f.userIndex(), f.productIndex(),
+            f.beforeProductCount(), f.afterProductCount(),
+            LogArchiveStore.toMicros(f.createdAt())))
+        .toList();
+  }
+
+  /**
+   * 가장 오래된 로그 생성 시간
+   *
+   * @return 로그가 없으면 null
+   */
+  public OffsetDateTime getOldestCreatedAt() {
+    return queryFactory
+        .select(userProductLog.createdAt.min())
+        .from(userProductLog)
+        .fetchOne();
   }
 
   /**
@@ -78,4 +198,31 @@ public class UserProductLogRepositorySupport {
         ? userProductLog.createdAt.before(endTime.atOffset(ZoneOffset.UTC))
         : null;
   }
+
+  /**
+   * 커서 이후(더 오래된) 로그 조회 조건 설정
+   * 정렬(CreatedAt desc, LogIndex desc)과 같은 순서로 비교한다.
+   *
+   * @param cursor 이전 페이지 마지막 로그 커서
+   * @return 커서가 있으면 커서 이후 로그만 조회하는 조건 동적 설정
+   */
+  private BooleanExpression afterCursor(LogCursor cursor) {
+    if (cursor == null) {
+      return null;
+    }
+
+    return userProductLog.createdAt.lt(cursor.getCreatedAt())
+        .or(userProductLog.createdAt.eq(cursor.getCreatedAt())
+            .and(userProductLog.logIndex.lt(cursor.getLogIndex())));
+  }
+
+  private UserProductLogDto.Log toLog(ArchiveRow row) {
+    return new UserProductLogDto.Log(row.logIndex(), row.userIndex(), row.kind(),
+        (int) row.before(), (int) row.after(),
+        LogArchiveStore.toOffsetDateTime(row.createdAtMicros()));
+  }
+
+  private OffsetDateTime toOffsetDateTime(LocalDateTime time) {
+    return time != null ? time.atOffset(ZoneOffset.UTC) : null;
+  }
 }
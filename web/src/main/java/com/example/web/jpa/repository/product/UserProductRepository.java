@@ -1,12 +1,18 @@
 package com.example.web.jpa.repository.product;
 
+import com.example.web.jpa.entity.product.Product;
 import com.example.web.jpa.entity.product.UserProduct;
 import com.example.web.jpa.entity.product.id.UserProductId;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface UserProductRepository extends JpaRepository<UserProduct, UserProductId> {
 
   List<UserProduct> findByUserIndex(Long userIndex);
+
+  List<UserProduct> findByProductAndUserIndexIn(Product product, Collection<Long> userIndexes);
+
+  List<UserProduct> findByUserIndexAndProductIn(Long userIndex, Collection<Product> products);
 }
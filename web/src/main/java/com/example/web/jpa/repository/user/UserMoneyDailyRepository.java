@@ -0,0 +1,65 @@
+package com.example.web.jpa.repository.user;
+
+import com.example.web.jpa.entity.user.UserMoneyDaily;
+import com.example.web.jpa.entity.user.id.UserMoneyDailyId;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UserMoneyDailyRepository extends JpaRepository<UserMoneyDaily, UserMoneyDailyId> {
+
+  /**
+   * 일별 집계 증감 (없으면 추가)
+   * 조회 없이 MERGE 문 한번으로 처리하여 동시에 같은 키를 갱신해도 합이 유실되지 않는다.
+   */
+  @Modifying
+  @Query(value = "MERGE INTO t_user_money_daily d "
+      + "USING (SELECT CAST(:userIndex AS BIGINT) AS user_index, "
+      + "CAST(:logDate AS DATE) AS log_date, CAST(:logType AS INT) AS log_type) s "
+      + "ON d.user_index = s.user_index AND d.log_date = s.log_date AND d.log_type = s.log_type "
+      + "WHEN MATCHED THEN UPDATE SET total_delta = d.total_delta + :totalDelta, "
+      + "log_count = d.log_count + :logCount "
+      + "WHEN NOT MATCHED THEN INSERT (user_index, log_date, log_type, total_delta, log_count) "
+      + "VALUES (s.user_index, s.log_date, s.log_type, :totalDelta, :logCount)",
+      nativeQuery = true)
+  void addDaily(@Param("userIndex") long userIndex, @Param("logDate") LocalDate logDate,
+      @Param("logType") int logType, @Param("totalDelta") long totalDelta,
+      @Param("logCount") long logCount);
+
+  /**
+   * 하루치 일별 집계를 로그 합계로 덮어쓰기 (없으면 추가)
+   * 로그 합계 조회와 반영을 MERGE 문 하나로 처리하여, 중간에 들어온 addDaily 가 유실되거나
+   * 같은 키를 먼저 추가하여 실패하지 않는다.
+   */
+  @Modifying
+  @Query(value = "MERGE INTO t_user_money_daily d "
+      + "USING (SELECT l.user_index, CAST(:logDate AS DATE) AS log_date, l.log_type, "
+      + "SUM(l.after_money - l.before_money) AS total_delta, COUNT(*) AS log_count "
+      + "FROM t_user_money_log l "
+      + "WHERE l.created_at >= :startTime AND l.created_at < :endTime "
+      + "GROUP BY l.user_index, l.log_type) s "
+      + "ON d.user_index = s.user_index AND d.log_date = s.log_date AND d.log_type = s.log_type "
+      + "WHEN MATCHED THEN UPDATE SET total_delta = s.total_delta, log_count = s.log_count "
+      + "WHEN NOT MATCHED THEN INSERT (user_index, log_date, log_type, total_delta, log_count) "
+      + "VALUES (s.user_index, s.log_date, s.log_type, s.total_delta, s.log_count)",
+      nativeQuery = true)
+  int rebuildDaily(@Param("logDate") LocalDate logDate,
+      @Param("startTime") OffsetDateTime startTime, @Param("endTime") OffsetDateTime endTime);
+
+  /**
+   * 하루치 일별 집계 중 로그가 없는 집계 삭제 (중복 반영 등으로 잘못 생긴 집계)
+   */
+  @Modifying
+  @Query(value = "DELETE FROM t_user_money_daily d "
+      + "WHERE d.log_date = :logDate AND NOT EXISTS (SELECT 1 FROM t_user_money_log l "
+      + "WHERE l.user_index = d.user_index AND l.log_type = d.log_type "
+      + "AND l.created_at >= :startTime AND l.created_at < :endTime)",
+      nativeQuery = true)
+  int deleteDailyWithoutLogs(@Param("logDate") LocalDate logDate,
+      @Param("startTime") OffsetDateTime startTime, @Param("endTime") OffsetDateTime endTime);
+}
@@ -0,0 +1,56 @@
+package com.example.web.jpa.repository.user;
+
+import static com.example.web.jpa.entity.user.QUserMoneyDaily.userMoneyDaily;
+
+import com.example.web.dto.user.UserMoneySummaryDto;
+import com.example.web.model.enums.MoneyLogType;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Repository;
+
+@RequiredArgsConstructor
+@Repository
+public class UserMoneyDailyRepositorySupport {
+
+  @Qualifier("QueryDslJpaQueryFactory")
+  private final JPAQueryFactory queryFactory;
+
+  /**
+   * 유저 일별 돈 변화 집계 조회
+   * 로그 row 수와 관계 없이 (조회 일수 x 로그 타입 수) 만큼만 읽는다.
+   *
+   * @param userIndex 유저 인덱스
+   * @param logType   로그 타입 (null 이면 전체)
+   * @param startDate 조회 시작 날짜 (포함)
+   * @param endDate   조회 끝 날짜 (포함)
+   * @return 날짜 오름차순 일별 집계
+   */
+  public List<UserMoneySummaryDto.Daily> getUserMoneyDailies(long userIndex, Integer logType,
+      LocalDate startDate, LocalDate endDate) {
+
+    return queryFactory
+        .select(Projections.constructor(UserMoneySummaryDto.Daily.class,
+            userMoneyDaily.logDate,
+            userMoneyDaily.logType,
+            userMoneyDaily.totalDelta,
+            userMoneyDaily.logCount))
+        .from(userMoneyDaily)
+        .where(userMoneyDaily.userIndex.eq(userIndex)
+            .and(eqMoneyLogType(logType))
+            .and(userMoneyDaily.logDate.between(startDate, endDate)))
+        .orderBy(userMoneyDaily.logDate.asc(), userMoneyDaily.logType.asc())
+        .fetch();
+  }
+
+  private BooleanExpression eqMoneyLogType(Integer moneyLogType) {
+
+    return moneyLogType != null
+        ? userMoneyDaily.logType.eq(MoneyLogType.ofMoneyLogType(moneyLogType))
+        : null;
+  }
+}
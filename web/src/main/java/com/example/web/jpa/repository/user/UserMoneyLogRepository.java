@@ -1,10 +1,20 @@
 package com.example.web.jpa.repository.user;
 
 import com.example.web.jpa.entity.user.UserMoneyLog;
+import java.util.Collection;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface UserMoneyLogRepository extends JpaRepository<UserMoneyLog, Long> {
 
+  /**
+   * 아카이브한 로그 삭제 (엔티티 조회 없이 한번에 삭제)
+   */
+  @Modifying
+  @Query("delete from UserMoneyLog l where l.logIndex in :logIndexes")
+  int deleteByLogIndexIn(@Param("logIndexes") Collection<Long> logIndexes);
 }
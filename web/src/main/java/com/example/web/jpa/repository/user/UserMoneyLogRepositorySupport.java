@@ -1,17 +1,25 @@
 package com.example.web.jpa.repository.user;
 
-import com.example.web.jpa.entity.user.UserMoneyLog;
+import com.example.web.dto.user.UserMoneyLogInfoDto;
 import com.example.web.model.enums.MoneyLogType;
+import com.example.web.util.archive.ArchiveRow;
+import com.example.web.util.archive.LogArchiveStore;
+import com.example.web.util.archive.LogArchiveType;
+import com.example.web.util.cursor.LogCursor;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Repository;
 
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static com.example.web.jpa.entity.user.QUserMoneyLog.userMoneyLog;
 
@@ -22,6 +30,8 @@ public class UserMoneyLogRepositorySupport {
   @Qualifier("QueryDslJpaQueryFactory")
   private final JPAQueryFactory queryFactory;
 
+  private final LogArchiveStore logArchiveStore;
+
   /**
    * 유저 돈 변화 로그
    * 유저 정보(userIndex)는 있어야 하며, 나머지 항목 들은 nullable.
@@ -31,18 +41,126 @@ public class UserMoneyLogRepositorySupport {
    * @param logType   로그 타입
    * @param startTime 조회 시작 시간
    * @param endTime   조회 끝 시간
+   * @param cursor    이전 페이지 마지막 로그 커서 (null 이면 처음부터)
+   * @param limit     최대 조회 수
    * @return          유저 돈 변화 로그
    */
-  public List<UserMoneyLog> getUserMoneyLogs(long userIndex, Integer logType,
-      LocalDateTime startTime, LocalDateTime endTime) {
+  public List<UserMoneyLogInfoDto.Log> getUserMoneyLogs(long userIndex, Integer logType,
+      LocalDateTime startTime, LocalDateTime endTime, LogCursor cursor, int limit) {
 
-    return queryFactory
-        .selectFrom(userMoneyLog)
+    // 영속성 컨텍스트에 올리지 않도록 엔티티 대신 DTO 로 바로 조회
+    List<UserMoneyLogInfoDto.Log> logs = queryFactory
+        .select(Projections.constructor(UserMoneyLogInfoDto.Log.class,
+            userMoneyLog.logIndex,
+            userMoneyLog.logType,
+            userMoneyLog.userIndex,
+            userMoneyLog.beforeMoney,
+            userMoneyLog.afterMoney,
+            userMoneyLog.createdAt))
+        .from(userMoneyLog)
         .where(userMoneyLog.userIndex.eq(userIndex)
             .and(eqMoneyLogType(logType))
             .and(afterStartTime(startTime))
-            .and(beforeEndTime(endTime)))
+            .and(beforeEndTime(endTime))
+            .and(afterCursor(cursor)))
+        .orderBy(userMoneyLog.createdAt.desc(), userMoneyLog.logIndex.desc())
+        .limit(limit)
         .fetch();
+
+    // 오래된 로그는 아카이브로 옮겨지므로 모자란 만큼 아카이브에서 이어서 조회
+    if (logs.size() >= limit) {
+      return logs;
+    }
+
+    List<UserMoneyLogInfoDto.Log> result = new ArrayList<>(logs);
+    logArchiveStore.read(LogArchiveType.USER_MONEY_LOG, userIndex, logType,
+            toOffsetDateTime(startTime), toOffsetDateTime(endTime), cursor, limit - logs.size())
+        .forEach(row -> result.add(toLog(row)));
+    return result;
+  }
+
+  /**
+   * 유저 돈 변화 로그 전체 스트림 조회 (내보내기용)
+   * 한번에 읽지 않고 fetch size 만큼씩 DB 커서로 읽는다. 호출한 쪽에서 트랜잭션 안에서 사용 후 닫아야 한다.
+   * 엔티티 대신 DTO 로 바로 조회하므로 영속성 컨텍스트에 쌓이지 않는다.
+   *
+   * @param userIndex 유저 인덱스
+   * @param logType   로그 타입
+   * @param startTime 조회 시작 시간
+   * @param endTime   조회 끝 시간
+   * @param fetchSize 한번에 읽어올 row 수
+   * @return 오래된 순 유저 돈 변화 로그 스트림
+   */
+  public Stream<UserMoneyLogInfoDto.Log> streamUserMoneyLogs(long userIndex, Integer logType,
+      LocalDateTime startTime, LocalDateTime endTime, int fetchSize) {
+
+    // 아카이브 로그가 항상 더 오래되었으므로 아카이브 -> DB 순으로 이어 붙인다.
+    Stream<UserMoneyLogInfoDto.Log> archivedLogs = logArchiveStore
+        .stream(LogArchiveType.USER_MONEY_LOG, userIndex, logType,
+            toOffsetDateTime(startTime), toOffsetDateTime(endTime))
+        .map(this::toLog);
+
+    Stream<UserMoneyLogInfoDto.Log> logs = queryFactory
+        .select(Projections.constructor(UserMoneyLogInfoDto.Log.class,
+            userMoneyLog.logIndex,
+            userMoneyLog.logType,
+            userMoneyLog.userIndex,
+            userMoneyLog.beforeMoney,
+            userMoneyLog.afterMoney,
+            userMoneyLog.createdAt))
+        .from(userMoneyLog)
+        .where(userMoneyLog.userIndex.eq(userIndex)
+            .and(eqMoneyLogType(logType))
+            .and(afterStartTime(startTime))
+            .and(beforeEndTime(endTime)))
+        .orderBy(userMoneyLog.createdAt.asc(), userMoneyLog.logIndex.asc())
+        .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+        .stream();
+
+    return Stream.concat(archivedLogs, logs);
+  }
+
+  /**
+   * 아카이브할 로그 조회 (유저 인덱스, 로그 인덱스 순)
+   *
+   * @param startTime 시작 시간 (포함)
+   * @param endTime   끝 시간 (미포함)
+   * @param limit     최대 조회 수
+   * @return 아카이브 파일 행
+   */
+  public List<ArchiveRow> getArchiveRows(OffsetDateTime startTime, OffsetDateTime endTime,
+      int limit) {
+
+    return queryFactory
+        .select(Projections.constructor(UserMoneyLogInfoDto.Log.class,
+            userMoneyLog.logIndex,
+            userMoneyLog.logType,
+            userMoneyLog.userIndex,
+            userMoneyLog.beforeMoney,
+            userMoneyLog.afterMoney,
+            userMoneyLog.createdAt))
+        .from(userMoneyLog)
+        .where(userMoneyLog.createdAt.goe(startTime)
+            .and(userMoneyLog.createdAt.lt(endTime)))
+        .orderBy(userMoneyLog.userIndex.asc(), userMoneyLog.logIndex.asc())
+        .limit(limit)
+        .fetch()
+        .stream()
+        .map(f -> new ArchiveRow(f.logIndex(), f.userIndex(), f.logType().getType(),
+            f.beforeMoney(), f.afterMoney(), LogArchiveStore.toMicros(f.createdAt())))
+        .toList();
+  }
+
+  /**
+   * 가장 오래된 로그 생성 시간
+   *
+   * @return 로그가 없으면 null
+   */
+  public OffsetDateTime getOldestCreatedAt() {
+    return queryFactory
+        .select(userMoneyLog.createdAt.min())
+        .from(userMoneyLog)
+        .fetchOne();
   }
 
   /**
@@ -85,4 +203,31 @@ public class UserMoneyLogRepositorySupport {
   private OffsetDateTime convert(LocalDateTime time) {
     return time.atZone(ZoneId.systemDefault()).toOffsetDateTime();
   }
+
+  /**
+   * 커서 이후(더 오래된) 로그 조회 조건 설정
+   * 정렬(CreatedAt desc, LogIndex desc)과 같은 순서로 비교한다.
+   *
+   * @param cursor 이전 페이지 마지막 로그 커서
+   * @return 커서가 있으면 커서 이후 로그만 조회하는 조건 동적 설정
+   */
+  private BooleanExpression afterCursor(LogCursor cursor) {
+    if (cursor == null) {
+      return null;
+    }
+
+    return userMoneyLog.createdAt.lt(cursor.getCreatedAt())
+        .or(userMoneyLog.createdAt.eq(cursor.getCreatedAt())
+            .and(userMoneyLog.logIndex.lt(cursor.getLogIndex())));
+  }
+
+  private UserMoneyLogInfoDto.Log toLog(ArchiveRow row) {
+    return new UserMoneyLogInfoDto.Log(row.logIndex(),
+        MoneyLogType.ofMoneyLogType(row.kind()), row.userIndex(), row.before(), row.after(),
+        LogArchiveStore.toOffsetDateTime(row.createdAtMicros()));
+  }
+
+  private OffsetDateTime toOffsetDateTime(LocalDateTime time) {
+    return time != null ? convert(time) : null;
+  }
 }
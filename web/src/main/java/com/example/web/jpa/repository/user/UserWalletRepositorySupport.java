@@ -0,0 +1,59 @@
+package com.example.web.jpa.repository.user;
+
+import static com.example.web.jpa.entity.user.QUserInfo.userInfo;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 유저 돈(T_User_Info.Money) 증감 전용
+ * 엔티티를 조회/변경 감지 하지 않고 조건부 update 문 한번으로 처리한다.
+ */
+@RequiredArgsConstructor
+@Repository
+public class UserWalletRepositorySupport {
+
+  @Qualifier("QueryDslJpaQueryFactory")
+  private final JPAQueryFactory queryFactory;
+
+  /**
+   * 유저 돈 증감
+   * update T_User_Info set Money = Money + :addMoney, Version = Version + 1
+   * where UserIndex = :userIndex and Money >= -:addMoney
+   *
+   * @param userIndex 유저 인덱스
+   * @param addMoney  증감할 돈 (음수면 차감)
+   * @return 반영 후 유저의 돈 (유저 정보가 없거나 돈이 부족해 반영되지 않으면 null)
+   */
+  public Long addMoney(long userIndex, long addMoney) {
+    long updatedCount = queryFactory
+        .update(userInfo)
+        .set(userInfo.money, userInfo.money.add(addMoney))
+        .set(userInfo.version, userInfo.version.add(1L))
+        .where(userInfo.userIndex.eq(userIndex)
+            .and(userInfo.money.goe(-addMoney)))
+        .execute();
+
+    if (updatedCount == 0) {
+      return null;
+    }
+
+    return getMoney(userIndex);
+  }
+
+  /**
+   * 유저 돈 조회
+   *
+   * @param userIndex 유저 인덱스
+   * @return 유저의 돈 (유저 정보가 없으면 null)
+   */
+  public Long getMoney(long userIndex) {
+    return queryFactory
+        .select(userInfo.money)
+        .from(userInfo)
+        .where(userInfo.userIndex.eq(userIndex))
+        .fetchOne();
+  }
+}
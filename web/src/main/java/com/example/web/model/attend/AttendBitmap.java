@@ -0,0 +1,144 @@
+package com.example.web.model.attend;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 유저 1일 1회 출석 비트맵
+ * 월(yyyyMM)별로 int 하나에 하루 1비트(1일 = 0번 비트)로 출석 여부를 보관한다.
+ * 연속 출석 일수와 마지막 출석 날짜를 같이 보관하여 오늘 출석 여부, 연속 출석, 월 달력을 모두 상수 시간에 조회한다.
+ */
+public class AttendBitmap {
+
+  // 월(yyyyMM)별 출석 비트
+  private final Map<Integer, Integer> monthDays;
+
+  private int attendCount;
+
+  private OffsetDateTime lastAttendAt;
+
+  private LocalDate lastAttendDate;
+
+  // lastAttendDate 까지 연속 출석 일수
+  private int streak;
+
+  /**
+   * @param monthDays    월(yyyyMM)별 출석 비트 (T_User_Attend_Month)
+   * @param attendCount  누적 출석 횟수 (T_User_Attend)
+   * @param lastAttendAt 마지막 출석 시간 (T_User_Attend, 없으면 null)
+   */
+  public AttendBitmap(Map<Integer, Integer> monthDays, int attendCount,
+      OffsetDateTime lastAttendAt) {
+    this.monthDays = new HashMap<>(monthDays);
+    this.attendCount = attendCount;
+    this.lastAttendAt = lastAttendAt;
+    this.lastAttendDate = findLastAttendDate();
+
+    // 로드시 한번만 마지막 출석 날짜부터 거꾸로 센다.
+    if (lastAttendDate != null) {
+      LocalDate day = lastAttendDate;
+      while (isSet(day)) {
+        streak++;
+        day = day.minusDays(1);
+      }
+    }
+  }
+
+  public static int toAttendMonth(LocalDate day) {
+    return day.getYear() * 100 + day.getMonthValue();
+  }
+
+  public static int toBit(LocalDate day) {
+    return 1 << (day.getDayOfMonth() - 1);
+  }
+
+  public synchronized boolean isAttended(LocalDate day) {
+    return isSet(day);
+  }
+
+  /**
+   * 출석 기록
+   *
+   * @param day 출석 날짜
+   * @param now 출석 시간
+   * @return 새로 기록했으면 true, 이미 출석한 날이면 false
+   */
+  public synchronized boolean attend(LocalDate day, OffsetDateTime now) {
+    if (isSet(day)) {
+      return false;
+    }
+
+    monthDays.merge(toAttendMonth(day), toBit(day), (current, bit) -> current | bit);
+    attendCount++;
+    lastAttendAt = now;
+
+    if (lastAttendDate == null || day.isAfter(lastAttendDate)) {
+      streak = day.minusDays(1).equals(lastAttendDate) ? streak + 1 : 1;
+      lastAttendDate = day;
+    }
+    return true;
+  }
+
+  /**
+   * 현재 연속 출석 일수 (오늘 아직 출석하지 않았으면 어제까지의 연속 출석)
+   *
+   * @param today 오늘 날짜
+   * @return 연속 출석 일수
+   */
+  public synchronized int getStreak(LocalDate today) {
+    return Math.max(getStreakUntil(today), getStreakUntil(today.minusDays(1)));
+  }
+
+  /**
+   * day 에 끝나는 연속 출석 일수
+   *
+   * @param day 날짜
+   * @return 연속 출석 일수 (day 에 출석하지 않았으면 0)
+   */
+  public synchronized int getStreakUntil(LocalDate day) {
+    return day.equals(lastAttendDate) ? streak : 0;
+  }
+
+  /**
+   * 월 출석 달력
+   *
+   * @param yearMonth 조회할 월
+   * @return 출석한 날짜(일) 목록
+   */
+  public synchronized List<Integer> getCalendar(YearMonth yearMonth) {
+    int days = monthDays.getOrDefault(toAttendMonth(yearMonth.atDay(1)), 0);
+
+    List<Integer> calendar = new ArrayList<>(Integer.bitCount(days));
+    while (days != 0) {
+      calendar.add(Integer.numberOfTrailingZeros(days) + 1);
+      days &= days - 1;
+    }
+    return calendar;
+  }
+
+  public synchronized int getAttendCount() {
+    return attendCount;
+  }
+
+  public synchronized OffsetDateTime getLastAttendAt() {
+    return lastAttendAt;
+  }
+
+  private boolean isSet(LocalDate day) {
+    return (monthDays.getOrDefault(toAttendMonth(day), 0) & toBit(day)) != 0;
+  }
+
+  private LocalDate findLastAttendDate() {
+    return monthDays.entrySet().stream()
+        .filter(f -> f.getValue() != 0)
+        .max(Map.Entry.comparingByKey())
+        .map(f -> LocalDate.of(f.getKey() / 100, f.getKey() % 100,
+            32 - Integer.numberOfLeadingZeros(f.getValue())))
+        .orElse(null);
+  }
+}
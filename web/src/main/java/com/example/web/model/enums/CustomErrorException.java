@@ -12,12 +12,17 @@ public enum CustomErrorException {
   ENUM_CONVERT_FAILED(2, "Enum 변환 실패입니다."),
   EXTERNAL_API_RESPONSE_FAILED(3, "외부 API 호출에 대한 응답 실패입니다."),
   NONE_SESSION_INFO(4, "세션 정보가 없습니다."),
+  DUPLICATE_REQUEST_IN_PROGRESS(5, "동일한 요청(Idempotency-Key)을 처리 중입니다."),
+  INVALID_CURSOR(6, "잘못된 커서입니다."),
+  TOO_MANY_REQUESTS(7, "요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해 주세요."),
+  EXTERNAL_API_UNAVAILABLE(8, "외부 API 를 일시적으로 사용할 수 없습니다. 잠시 후 다시 시도해 주세요."),
   // 10000 : 유저 정보 관련
   NOT_EXIST_USER_INFO(10000, "유저 정보가 없습니다."),
   NOT_ENOUGH_MONEY(10001, "돈이 부족합니다."),
   // 10100 : 상품 관련
   NOT_EXIST_PRODUCT_INFO(10100, "상품 정보가 없습니다"),
   NOT_ENOUGH_PRODUCT_QUANTITY(10101, "남아있는 상품 수량이 부족합니다."),
+  INVALID_PRODUCT_COUNT(10102, "상품 구매 수량이 잘못되었습니다."),
   // 10200 : 출석 관련
   ALREADY_DAILY_ATTEND(10200, "이미 1일 1회 출석을 하였습니다.");
 
@@ -0,0 +1,26 @@
+package com.example.web.model.enums;
+
+import com.example.web.model.exception.CustomErrorException;
+import java.util.Arrays;
+import lombok.Getter;
+
+@Getter
+public enum ExportFormat {
+  NDJSON("ndjson", "application/x-ndjson"),
+  CSV("csv", "text/csv");
+
+  private final String format;
+  private final String contentType;
+
+  ExportFormat(String format, String contentType) {
+    this.format = format;
+    this.contentType = contentType;
+  }
+
+  public static ExportFormat ofExportFormat(String format) {
+    return Arrays.stream(ExportFormat.values())
+        .filter(v -> v.getFormat().equalsIgnoreCase(format))
+        .findAny()
+        .orElseThrow(() -> CustomErrorException.builder().resultValue(2).build());
+  }
+}
@@ -10,4 +10,6 @@ import lombok.Setter;
 public class CustomErrorException extends RuntimeException {
   // enum CustomExceptionHandler 참고
   private final int resultValue;
+  // 0 보다 크면 429(과부하) or 503 + Retry-After(초) 로 응답한다.
+  private final long retryAfterSec;
 }
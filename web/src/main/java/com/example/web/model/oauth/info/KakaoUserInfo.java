@@ -1,4 +1,46 @@
 package com.example.web.model.oauth.info;
 
-public class KakaoUserInfo {
+import com.example.web.model.enums.OauthType;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+
+//사용자 정보 가져오기 참고 - https://developers.kakao.com/docs/latest/ko/kakaologin/rest-api#req-user-info
+@Getter
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class KakaoUserInfo implements OauthUserInfo {
+
+    private Long id;
+
+    @JsonProperty("kakao_account")
+    private KakaoAccount kakaoAccount;
+
+    @Getter
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    static class KakaoAccount {
+        private String email;
+        private Profile profile;
+    }
+
+    @Getter
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    static class Profile {
+        private String nickname;
+    }
+
+    @Override
+    public OauthType getOauthType() {
+        return OauthType.KAKAO;
+    }
+
+    @Override
+    public String getEmailAddress() {
+        return kakaoAccount == null ? null : kakaoAccount.email;
+    }
+
+    @Override
+    public String getNickName() {
+        return kakaoAccount == null || kakaoAccount.profile == null
+            ? null : kakaoAccount.profile.nickname;
+    }
 }
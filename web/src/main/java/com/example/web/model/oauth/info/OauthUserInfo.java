@@ -2,7 +2,7 @@ package com.example.web.model.oauth.info;
 
 import com.example.web.model.enums.OauthType;
 
-// 현재는 NaveOauth 만 되어있는데, 추후 확장 가능하다.
+// 외부 플랫폼(OauthProvider)별 유저 정보
 public interface OauthUserInfo {
 
     OauthType getOauthType();
@@ -1,21 +1,18 @@
 package com.example.web.service;
 
-import com.example.web.model.exception.CustomErrorException;
 import com.example.web.model.oauth.JwtUser;
-import com.example.web.util.container.SessionContainer;
+import com.example.web.util.container.RequestContext;
 
 public abstract class ServiceBase {
 
   protected JwtUser getSessions() {
-    return SessionContainer.getSession();
+    return RequestContext.getUser();
   }
 
+  /**
+   * 현재 요청의 유저 인덱스 (세션이 없으면 4 예외)
+   */
   protected long getUserIndex() {
-    JwtUser jwtUser = getSessions();
-    if(jwtUser == null) {
-      throw CustomErrorException.builder().resultValue(4).build();
-    }
-
-    return jwtUser.getUserIndex();
+    return RequestContext.getUserIndex();
   }
 }
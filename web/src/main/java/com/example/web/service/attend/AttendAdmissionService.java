@@ -0,0 +1,102 @@
+package com.example.web.service.attend;
+
+import com.example.web.dto.attend.AttendDto;
+import com.example.web.model.exception.CustomErrorException;
+import com.example.web.service.ServiceBase;
+import com.example.web.util.admission.TokenBucket;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.OffsetDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 출석 진입점 (유입 제어)
+ * 자정에 몰리는 출석 요청을 트랜잭션 시작 전에 토큰 버킷으로 제한하고,
+ * 통과한 요청은 그룹 커밋 파이프라인에 넘겨 배치 트랜잭션으로 보상을 지급한다.
+ * 토큰을 기다릴 수 있는 시간/수를 넘으면 429 + Retry-After 로 바로 거절한다.
+ */
+@Service
+public class AttendAdmissionService extends ServiceBase {
+
+  private final AttendService attendService;
+  private final AttendPipeline attendPipeline;
+
+  private final boolean admissionEnabled;
+  private final boolean groupCommitEnabled;
+  private final long maxWaitNanos;
+  private final int maxWaiting;
+
+  private final TokenBucket tokenBucket;
+
+  private final Counter admittedCounter;
+  private final Counter shedCounter;
+
+  public AttendAdmissionService(AttendService attendService, AttendPipeline attendPipeline,
+      MeterRegistry meterRegistry,
+      @Value("${attend.admission.enabled}") boolean admissionEnabled,
+      @Value("${attend.admission.permits-per-sec}") double permitsPerSec,
+      @Value("${attend.admission.burst}") int burst,
+      @Value("${attend.admission.max-wait-milsec}") long maxWaitMilSec,
+      @Value("${attend.admission.max-waiting}") int maxWaiting,
+      @Value("${attend.group-commit.enabled}") boolean groupCommitEnabled) {
+    this.attendService = attendService;
+    this.attendPipeline = attendPipeline;
+    this.admissionEnabled = admissionEnabled;
+    this.groupCommitEnabled = groupCommitEnabled;
+    this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMilSec);
+    this.maxWaiting = maxWaiting;
+    this.tokenBucket = new TokenBucket(permitsPerSec, burst);
+
+    Gauge.builder("attend.admission.waiting", tokenBucket, TokenBucket::getWaiting)
+        .description("토큰을 기다리는 출석 요청 수")
+        .register(meterRegistry);
+    this.admittedCounter = Counter.builder("attend.admission.admitted")
+        .description("유입 제어를 통과한 출석 요청 수")
+        .register(meterRegistry);
+    this.shedCounter = Counter.builder("attend.admission.shed")
+        .description("유입 제어로 거절(429)한 출석 요청 수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 출석
+   *
+   * @return 출석 결과 (그룹 커밋이면 배치 트랜잭션이 끝날 때 완료)
+   */
+  public CompletableFuture<AttendDto.Response> attend() {
+    long userIndex = getUserIndex();
+    OffsetDateTime now = OffsetDateTime.now();
+
+    // 1. 오늘 이미 출석했으면 토큰을 쓰지 않고 바로 거절
+    // (메모리 비트맵만 확인하고, 메모리에 없는 유저는 유입 제어 후 출석 처리에서 DB 로 확인)
+    attendService.checkNotAttendedToday(userIndex, now);
+
+    // 2. 유입 제어 (트랜잭션 시작 전이라 대기 중에 DB 커넥션을 잡지 않음)
+    if (admissionEnabled) {
+      admit();
+    }
+
+    // 3. 1일 1회 출석 기간이면 그룹 커밋, 아니면 기존 트랜잭션으로 처리
+    // (요청 스레드는 배치 결과를 기다리지 않고 반환하여, 결과는 비동기로 응답한다.)
+    if (groupCommitEnabled && attendService.isDailyAttendOpen(now)) {
+      return attendPipeline.submit(userIndex, now);
+    }
+    return CompletableFuture.completedFuture(attendService.attend());
+  }
+
+  private void admit() {
+    long waitNanos = tokenBucket.acquire(maxWaitNanos, maxWaiting);
+    if (waitNanos > 0) {
+      shedCounter.increment();
+      throw CustomErrorException.builder()
+          .resultValue(7)
+          .retryAfterSec(Math.max(1, (long) Math.ceil(waitNanos / 1e9)))
+          .build();
+    }
+    admittedCounter.increment();
+  }
+}
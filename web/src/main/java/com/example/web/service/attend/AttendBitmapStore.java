@@ -0,0 +1,151 @@
+package com.example.web.service.attend;
+
+import com.example.web.jpa.entity.attend.UserAttend;
+import com.example.web.jpa.entity.attend.UserAttendMonth;
+import com.example.web.jpa.entity.attend.id.UserAttendId;
+import com.example.web.jpa.repository.attend.UserAttendMonthRepository;
+import com.example.web.jpa.repository.attend.UserAttendRepository;
+import com.example.web.model.attend.AttendBitmap;
+import com.example.web.model.enums.AttendType;
+import com.example.web.util.cache.CacheLoads;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 유저 1일 1회 출석 비트맵 메모리 저장소
+ * 유저별로 처음 조회할 때 T_User_Attend_Month, T_User_Attend 를 한번 읽어 보관하고,
+ * 이후 출석 여부/연속 출석/월 달력은 메모리에서만 조회한다.
+ * 출석은 커밋 후 메모리에 반영한다. (DB 의 T_User_Attend_Month 가 기준이다.)
+ */
+@Component
+public class AttendBitmapStore {
+
+  private final UserAttendMonthRepository userAttendMonthRepository;
+  private final UserAttendRepository userAttendRepository;
+
+  // 로드는 CacheLoads 로 락 밖에서 한다. (가상 스레드 pinning 방지)
+  private final AsyncCache<Long, AttendBitmap> cache;
+
+  public AttendBitmapStore(UserAttendMonthRepository userAttendMonthRepository,
+      UserAttendRepository userAttendRepository, MeterRegistry meterRegistry,
+      @Value("${attend.bitmap.cache.max-size}") long maxSize,
+      @Value("${attend.bitmap.cache.ttl-sec}") long ttlSec) {
+    this.userAttendMonthRepository = userAttendMonthRepository;
+    this.userAttendRepository = userAttendRepository;
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(Duration.ofSeconds(ttlSec))
+        .recordStats()
+        .buildAsync();
+
+    CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), "attendBitmap");
+  }
+
+  /**
+   * 출석 날짜 (서버 시간대 기준)
+   *
+   * @param time 시간
+   * @return 날짜
+   */
+  public static LocalDate getAttendDate(OffsetDateTime time) {
+    return time.atZoneSameInstant(ZoneId.systemDefault()).toLocalDate();
+  }
+
+  /**
+   * 유저 출석 비트맵 조회 (없으면 DB 에서 로드)
+   *
+   * @param userIndex 유저 인덱스
+   * @return 출석 비트맵
+   */
+  public AttendBitmap get(long userIndex) {
+    return CacheLoads.get(cache, userIndex, this::load);
+  }
+
+  /**
+   * 메모리에 로드된 유저 출석 비트맵 조회 (DB 에서 로드하지 않는다)
+   *
+   * @param userIndex 유저 인덱스
+   * @return 출석 비트맵 (없거나 로드 중이면 null)
+   */
+  public AttendBitmap getIfPresent(long userIndex) {
+    CompletableFuture<AttendBitmap> future = cache.getIfPresent(userIndex);
+    if (future == null || !future.isDone() || future.isCompletedExceptionally()) {
+      return null;
+    }
+    return future.join();
+  }
+
+  /**
+   * 트랜잭션 커밋 후 메모리 비트맵에 출석 반영 (트랜잭션이 없으면 바로 반영)
+   *
+   * @param userIndex 유저 인덱스
+   * @param attendAt  출석 시간
+   */
+  public void attendAfterCommit(long userIndex, OffsetDateTime attendAt) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      attend(userIndex, attendAt);
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        attend(userIndex, attendAt);
+      }
+    });
+  }
+
+  public void invalidate(long userIndex) {
+    cache.synchronous().invalidate(userIndex);
+  }
+
+  private void attend(long userIndex, OffsetDateTime attendAt) {
+    CompletableFuture<AttendBitmap> future = cache.getIfPresent(userIndex);
+    if (future == null) {
+      return;
+    }
+
+    if (!future.isDone() || future.isCompletedExceptionally()) {
+      // 커밋 전 상태를 로드 중일 수 있으므로 로드 결과를 버린다.
+      invalidate(userIndex);
+      return;
+    }
+    future.join().attend(getAttendDate(attendAt), attendAt);
+  }
+
+  private AttendBitmap load(long userIndex) {
+    Map<Integer, Integer> monthDays = userAttendMonthRepository.findByUserIndex(userIndex)
+        .stream()
+        .collect(Collectors.toMap(UserAttendMonth::getAttendMonth, UserAttendMonth::getDays));
+
+    Optional<UserAttend> userAttend = userAttendRepository.findById(UserAttendId.builder()
+        .userIndex(userIndex)
+        .attendType(AttendType.DAILY_ATTEND)
+        .build());
+
+    OffsetDateTime lastAttendAt = userAttend.map(UserAttend::getLastAttendAt).orElse(null);
+    if (lastAttendAt != null) {
+      // 비트맵 도입 전 마지막 출석도 출석한 날로 본다.
+      LocalDate lastAttendDate = getAttendDate(lastAttendAt);
+      monthDays.merge(AttendBitmap.toAttendMonth(lastAttendDate),
+          AttendBitmap.toBit(lastAttendDate), (current, bit) -> current | bit);
+    }
+
+    return new AttendBitmap(monthDays,
+        userAttend.map(UserAttend::getAttendCount).orElse(0), lastAttendAt);
+  }
+}
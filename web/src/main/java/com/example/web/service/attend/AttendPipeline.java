@@ -0,0 +1,124 @@
+package com.example.web.service.attend;
+
+import com.example.web.dto.attend.AttendDto;
+import com.example.web.model.exception.CustomErrorException;
+import com.example.web.util.batch.MicroBatchQueue;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 그룹 커밋 출석 파이프라인
+ * 출석 요청을 유저 인덱스로 나눈 큐에 쌓고, 큐별 단일 writer 가 마이크로 배치 단위로 한 트랜잭션에 보상을 지급한다.
+ * 자정에 몰리는 출석이 요청마다 트랜잭션(DB 커넥션)을 잡지 않고 writer 수 만큼만 사용한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AttendPipeline {
+
+  @Value("${attend.group-commit.batch-size}")
+  private int batchSize;
+
+  @Value("${attend.group-commit.max-wait-milsec}")
+  private long maxWaitMilSec;
+
+  @Value("${attend.group-commit.writer-threads}")
+  private int writerThreads;
+
+  @Value("${attend.group-commit.queue-capacity}")
+  private int queueCapacity;
+
+  @Value("${attend.group-commit.max-batches-per-drain}")
+  private int maxBatchesPerDrain;
+
+  private final AttendService attendService;
+  private final MeterRegistry meterRegistry;
+
+  // 유저 인덱스 % writerThreads 별 출석 요청 큐
+  private final List<MicroBatchQueue<AttendTask>> attendQueues = new ArrayList<>();
+
+  private ExecutorService writerExecutor;
+
+  private DistributionSummary batchSizeSummary;
+
+  @PostConstruct
+  private void init() {
+    writerExecutor = Executors.newFixedThreadPool(writerThreads,
+        new CustomizableThreadFactory("attend-writer-"));
+    for (int i = 0; i < writerThreads; i++) {
+      attendQueues.add(new MicroBatchQueue<>(batchSize, maxWaitMilSec, queueCapacity,
+          maxBatchesPerDrain, writerExecutor, this::processBatch));
+    }
+
+    Gauge.builder("attend.batch.queue.size", attendQueues,
+            f -> f.stream().mapToInt(MicroBatchQueue::size).sum())
+        .description("배치 처리를 기다리는 출석 요청 수")
+        .register(meterRegistry);
+    batchSizeSummary = DistributionSummary.builder("attend.batch.size")
+        .description("출석 배치 하나의 요청 수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 출석 요청 추가
+   *
+   * @param userIndex 유저 인덱스
+   * @param now       출석 시간
+   * @return 배치 트랜잭션이 끝나면 완료되는 출석 결과
+   */
+  public CompletableFuture<AttendDto.Response> submit(long userIndex, OffsetDateTime now) {
+    AttendTask task = new AttendTask(userIndex, now);
+    try {
+      attendQueues.get(Math.floorMod(userIndex, writerThreads)).submit(task);
+    } catch (RejectedExecutionException e) {
+      throw CustomErrorException.builder().resultValue(7).retryAfterSec(1).build();
+    }
+
+    return task.getFuture();
+  }
+
+  /**
+   * 배치 처리
+   * 한 트랜잭션에서 처리한 뒤 요청자에게 응답한다.
+   *
+   * @param tasks 출석 요청들
+   */
+  private void processBatch(List<AttendTask> tasks) {
+    batchSizeSummary.record(tasks.size());
+    try {
+      attendService.attendUsers(tasks);
+    } catch (RuntimeException e) {
+      // 트랜잭션이 롤백되었으므로 배치 전체 실패
+      log.error("attend batch failed. size : {}", tasks.size(), e);
+      tasks.forEach(task -> task.fail(e));
+    }
+
+    tasks.forEach(AttendTask::complete);
+  }
+
+  @PreDestroy
+  private void destroy() throws InterruptedException {
+    writerExecutor.shutdown();
+    if (!writerExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+      log.warn("attend writer did not terminate in time");
+    }
+    // 종료 전 남은 요청 처리
+    attendQueues.forEach(MicroBatchQueue::flush);
+  }
+}
@@ -4,15 +4,20 @@ import com.example.web.dto.attend.AttendDto;
 import com.example.web.dto.attend.AttendInfoDto;
 import com.example.web.jpa.entity.attend.AttendTime;
 import com.example.web.jpa.entity.attend.UserAttend;
-import com.example.web.jpa.entity.user.UserInfo;
 import com.example.web.jpa.entity.user.UserMoneyLog;
+import com.example.web.jpa.repository.attend.UserAttendMonthRepository;
 import com.example.web.jpa.repository.attend.UserAttendRepository;
+import com.example.web.model.attend.AttendBitmap;
 import com.example.web.model.enums.AttendType;
 import com.example.web.model.enums.MoneyLogType;
 import com.example.web.model.exception.CustomErrorException;
 import com.example.web.service.ServiceBase;
 import com.example.web.service.user.UserService;
+import java.time.LocalDate;
 import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,28 +28,48 @@ import java.util.List;
 @RequiredArgsConstructor
 public class AttendService extends ServiceBase {
 
+  private static final int DAILY_ATTEND_REWARD_MONEY = 2000;
+
   private final UserService userService;
   private final AttendTimeService attendTimeService;
+  private final AttendBitmapStore attendBitmapStore;
   private final UserAttendRepository userAttendRepository;
+  private final UserAttendMonthRepository userAttendMonthRepository;
 
+  /**
+   * 출석 정보 조회
+   * 유저 출석 정보, 연속 출석, 이번 달 출석 달력은 출석 비트맵(메모리)에서 조회한다.
+   */
   public AttendInfoDto.Response getAttendInfo() {
 
     OffsetDateTime now = OffsetDateTime.now();
+    LocalDate today = AttendBitmapStore.getAttendDate(now);
 
     List<AttendTime> nowAttendTimes = attendTimeService.getNowAttendTimes(now);
 
-    List<UserAttend> userAttends = getUserAttends(getUserIndex());
+    AttendBitmap attendBitmap = attendBitmapStore.get(getUserIndex());
 
     return AttendInfoDto.Response.
         builder()
         .now(now)
         .nowAttendTimes(nowAttendTimes)
-        .userAttends(userAttends)
+        .userAttends(getUserAttends(getUserIndex(), attendBitmap))
+        .attendStreak(attendBitmap.getStreak(today))
+        .attendCalendar(attendBitmap.getCalendar(YearMonth.from(today)))
         .build();
   }
 
-  private List<UserAttend> getUserAttends(Long userIndex) {
-    return userAttendRepository.findByUserIndex(userIndex);
+  private List<UserAttend> getUserAttends(long userIndex, AttendBitmap attendBitmap) {
+    List<UserAttend> userAttends = new ArrayList<>();
+    if (attendBitmap.getAttendCount() > 0) {
+      userAttends.add(UserAttend.builder()
+          .userIndex(userIndex)
+          .attendType(AttendType.DAILY_ATTEND)
+          .attendCount(attendBitmap.getAttendCount())
+          .lastAttendAt(attendBitmap.getLastAttendAt())
+          .build());
+    }
+    return userAttends;
   }
 
   @Transactional
@@ -55,26 +80,26 @@ public class AttendService extends ServiceBase {
     // 2. 출석 종류별 출석 진행
     processAttend(dto);
 
-    // 3. DB에 저장
-    saveAttendInfo(dto);
+    // 3. 응답에 필요한 돈 조회
+    setMoney(dto);
 
     return AttendDto.Response
         .builder()
-        .money(dto.getUserInfo().getMoney())
+        .money(dto.getMoney())
         .userAttends(dto.getUserAttends())
+        .attendStreak(dto.getAttendStreak())
         .build();
   }
 
   private AttendDto.Dto getAttendDto() {
     long userIndex = getUserIndex();
-    UserInfo userInfo = userService.getUserInfoOrElseThrow(userIndex);
     OffsetDateTime now = OffsetDateTime.now();
 
     return AttendDto.Dto.builder()
         .userIndex(userIndex)
         .now(now)
-        .userInfo(userInfo)
-        .userAttends(getUserAttends(userIndex))
+        .userAttends(new ArrayList<>())
+        .attendBitmap(attendBitmapStore.get(userIndex))
         .nowAttendTimes(attendTimeService.getNowAttendTimes(now))
         .build();
   }
@@ -90,94 +115,167 @@ public class AttendService extends ServiceBase {
     for (AttendTime nowAttendTime : nowAttendTimes) {
       // 현재는 1일 출석만 있음.
       if (nowAttendTime.getAttendType() == AttendType.DAILY_ATTEND) {
-        UserAttend userAttend = getUserDailyAttend(dto);
-
-        processDailyAttend(userAttend, dto);
+        processDailyAttend(dto);
       }
     }
   }
 
   /**
-   * 유저의 1일 1회 출석 정보 획득
-   * dto 에 1일 1회 출석 정보 조회 후 없으면 기본 정보 생성
+   * 1일 1회 출석 처리
+   * 1일 1회 출석인 경우 진행
+   * 2000원 지급, 출석 비트 설정, 출석 횟수 증가, 마지막 출석 시간 업뎃
+   * 유저 출석 정보(T_User_Attend)는 조회하지 않고 MERGE 문으로 갱신한다.
    *
    * @param dto dto
-   * @return 유저의 1일 1회 출석 정보
    */
-  private UserAttend getUserDailyAttend(AttendDto.Dto dto) {
-    return dto.getUserAttends().stream()
-        .filter(f -> f.getAttendType() == AttendType.DAILY_ATTEND)
-        .findFirst()
-        .orElseGet(() -> UserAttend.builder()
-            .userIndex(dto.getUserIndex())
-            .attendType(AttendType.DAILY_ATTEND)
-            .build());
+  private void processDailyAttend(AttendDto.Dto dto) {
+    LocalDate today = AttendBitmapStore.getAttendDate(dto.getNow());
+    // 현재는 출석이 1일 1회 뿐이여서 throw 로 처리.
+    // 추후 다른 종류의 출석이 생기면 return false 로 처리
+    if (!markDailyAttend(dto.getUserIndex(), today, dto.getAttendBitmap())) {
+      throw CustomErrorException.builder().resultValue(10200).build();
+    }
+
+    // 유저 정보 조회 없이 update 문 한번으로 지급
+    UserMoneyLog userMoneyLog = userService.saveUserMoney(dto.getUserIndex(),
+        DAILY_ATTEND_REWARD_MONEY, MoneyLogType.ATTEND);
+
+    dto.setUserMoneyLog(userMoneyLog);
+    dto.setMoney(userMoneyLog.getAfterMoney());
+
+    saveDailyAttend(dto.getUserIndex(), dto.getNow());
+
+    dto.getUserAttends().add(getDailyUserAttend(dto.getUserIndex(), dto.getAttendBitmap(),
+        dto.getNow()));
+    dto.setAttendStreak(getAttendStreak(dto.getAttendBitmap(), today));
   }
 
   /**
-   * 1일 1회 출석 처리
-   * 1일 1회 출석인 경우 진행
-   * 2000원 지급, 출석 횟수 증가, 마지막 출석 시간 업뎃
+   * 여러 유저 1일 1회 출석 (배치)
+   * 한 트랜잭션에서 처리하며, 실패한 요청은 예외 없이 결과에 기록하여 배치 트랜잭션은 유지한다.
+   * 보상 지급 로그는 모아서 한번에 저장한다.
    *
-   * @param userAttend 유저 출석 정보
-   * @param dto        dto
+   * @param tasks 출석 요청들
    */
-  private void processDailyAttend(UserAttend userAttend, AttendDto.Dto dto) {
-    checkDailyAttendCondition(userAttend, dto.getNow());
-
-    final int dailyAttendRewardMoney = 2000;
-
-    UserInfo userInfo = dto.getUserInfo();
-    userInfo.addMoney((long) dailyAttendRewardMoney);
-
-    long afterAttendMoney = userInfo.getMoney();
+  @Transactional
+  public void attendUsers(List<AttendTask> tasks) {
+    // 유저 인덱스 순으로 처리하여 배치 간 유저 row lock 획득 순서를 맞춘다.
+    List<AttendTask> sortedTasks = tasks.stream()
+        .sorted(Comparator.comparingLong(AttendTask::getUserIndex))
+        .toList();
 
-    UserMoneyLog userMoneyLog = UserMoneyLog.builder()
-        .logType(MoneyLogType.ATTEND)
-        .userIndex(userInfo.getUserIndex())
-        .beforeMoney(afterAttendMoney - dailyAttendRewardMoney)
-        .afterMoney(afterAttendMoney)
-        .build();
+    List<UserMoneyLog> userMoneyLogs = new ArrayList<>();
+    for (AttendTask task : sortedTasks) {
+      long userIndex = task.getUserIndex();
+      LocalDate today = AttendBitmapStore.getAttendDate(task.getNow());
+      AttendBitmap attendBitmap = attendBitmapStore.get(userIndex);
+      // 1. 출석 비트 설정
+      if (!markDailyAttend(userIndex, today, attendBitmap)) {
+        task.fail(CustomErrorException.builder().resultValue(10200).build());
+        continue;
+      }
+      // 2. 보상 지급 (실패해도 배치 트랜잭션은 유지)
+      UserMoneyLog userMoneyLog = userService.addUserMoney(userIndex,
+          DAILY_ATTEND_REWARD_MONEY, MoneyLogType.ATTEND);
+      if (userMoneyLog == null) {
+        // 보상 없이 출석만 커밋되지 않도록 설정한 출석 비트를 되돌린다.
+        userAttendMonthRepository.clearDay(userIndex, AttendBitmap.toAttendMonth(today),
+            AttendBitmap.toBit(today));
+        task.fail(userService.getMoneyFailedException(userIndex));
+        continue;
+      }
+      userMoneyLogs.add(userMoneyLog);
+      // 3. 출석 횟수, 마지막 출석 시간 갱신
+      saveDailyAttend(userIndex, task.getNow());
 
-    dto.setUserMoneyLog(userMoneyLog);
-    // 영속성 컨텍스트에 관리중인 userAttends 에 add
-    if (userAttend.getAttendCount() == 0) {
-      dto.getUserAttends().add(userAttend);
+      List<UserAttend> userAttends = new ArrayList<>();
+      userAttends.add(getDailyUserAttend(userIndex, attendBitmap, task.getNow()));
+      task.succeed(AttendDto.Response.builder()
+          .money(userMoneyLog.getAfterMoney())
+          .userAttends(userAttends)
+          .attendStreak(getAttendStreak(attendBitmap, today))
+          .build());
     }
+    // 4. 로그 저장
+    userService.saveUserMoneyLogs(userMoneyLogs);
+  }
 
-    userAttend.increaseAttendCount();
+  /**
+   * 오늘 1일 1회 출석이 진행 중인지 여부
+   *
+   * @param now 현재 시간
+   * @return 진행 중이면 true
+   */
+  public boolean isDailyAttendOpen(OffsetDateTime now) {
+    return attendTimeService.getNowAttendTimes(now).stream()
+        .anyMatch(f -> f.getAttendType() == AttendType.DAILY_ATTEND);
+  }
 
-    userAttend.setLastAttendAt(dto.getNow());
+  /**
+   * 오늘 이미 출석했으면 DB 접근 없이 바로 예외 (메모리 비트맵 기준)
+   * 메모리에 없는 유저는 DB 에서 로드하지 않고 통과시킨다. (출석 처리시 로드하여 확정한다.)
+   *
+   * @param userIndex 유저 인덱스
+   * @param now       현재 시간
+   */
+  public void checkNotAttendedToday(long userIndex, OffsetDateTime now) {
+    AttendBitmap attendBitmap = attendBitmapStore.getIfPresent(userIndex);
+    if (attendBitmap != null && attendBitmap.isAttended(AttendBitmapStore.getAttendDate(now))) {
+      throw CustomErrorException.builder().resultValue(10200).build();
+    }
   }
 
   /**
-   * 1일 1회 출석 조건 만족 판단
+   * 1일 1회 출석 조건 만족 판단 후 출석 비트 설정
    * 유저는 오늘 처음 출석 여부로 판단
+   * 메모리 비트맵으로 먼저 거르고, DB 비트 설정(이미 설정되어 있으면 0)으로 확정한다.
    *
-   * @param userAttend 유저 출석 정보(AttendType = DAILY_ATTEND)
-   * @param now        현재 시간
-   * @return 1일 1회 출석 조건 여부(true : 조건 만족, false : 조건 불만족)
+   * @param userIndex    유저 인덱스
+   * @param today        오늘 날짜
+   * @param attendBitmap 유저 출석 비트맵
+   * @return 오늘 처음 출석이면 true
    */
-  private void checkDailyAttendCondition(UserAttend userAttend, OffsetDateTime now) {
-    OffsetDateTime userLastAttendAt = userAttend.getLastAttendAt();
-    // 한번도 출석한 적 없으면 출석 가능
-    if (userLastAttendAt == null) {
-      return;
+  private boolean markDailyAttend(long userIndex, LocalDate today, AttendBitmap attendBitmap) {
+    if (attendBitmap.isAttended(today)) {
+      return false;
     }
-    // 유저의 마지막 출석 날짜(년,월,일)가 현재 시간의 날짜와 다르면 오늘 처음 출석)
-    boolean isTodayFirstAttend = !userLastAttendAt.toLocalDate()
-        .equals(now.toLocalDate());
-    // 현재는 출석이 1일 1회 뿐이여서 throw 로 처리.
-    // 추후 다른 종류의 출석이 생기면 return false 로 처리
-    if (!isTodayFirstAttend) {
-      throw CustomErrorException.builder().resultValue(10200).build();
+
+    int updatedCount = userAttendMonthRepository.setDay(userIndex,
+        AttendBitmap.toAttendMonth(today), AttendBitmap.toBit(today));
+    if (updatedCount == 0) {
+      // 다른 서버/요청에서 먼저 출석한 경우 메모리 비트맵을 다시 로드하게 한다.
+      attendBitmapStore.invalidate(userIndex);
+      return false;
     }
+    return true;
+  }
+
+  private void saveDailyAttend(long userIndex, OffsetDateTime now) {
+    userAttendRepository.addAttend(userIndex, AttendType.DAILY_ATTEND.getType(), now);
+    attendBitmapStore.attendAfterCommit(userIndex, now);
+  }
+
+  /**
+   * 출석 후 유저 출석 정보 (비트맵은 커밋 후 반영되므로 이번 출석을 더해서 만든다.)
+   */
+  private UserAttend getDailyUserAttend(long userIndex, AttendBitmap attendBitmap,
+      OffsetDateTime now) {
+    return UserAttend.builder()
+        .userIndex(userIndex)
+        .attendType(AttendType.DAILY_ATTEND)
+        .attendCount(attendBitmap.getAttendCount() + 1)
+        .lastAttendAt(now)
+        .build();
+  }
+
+  private int getAttendStreak(AttendBitmap attendBitmap, LocalDate today) {
+    return attendBitmap.getStreakUntil(today.minusDays(1)) + 1;
   }
 
-  private void saveAttendInfo(AttendDto.Dto dto) {
-    if (dto.getUserMoneyLog() != null) {
-      userService.saveUserMoney(dto.getUserInfo(), dto.getUserMoneyLog());
+  private void setMoney(AttendDto.Dto dto) {
+    // 지급한 보상이 없으면 응답에 필요한 현재 돈만 조회
+    if (dto.getUserMoneyLog() == null) {
+      dto.setMoney(userService.getUserMoneyOrElseThrow(dto.getUserIndex()));
     }
-    userAttendRepository.saveAll(dto.getUserAttends());
   }
 }
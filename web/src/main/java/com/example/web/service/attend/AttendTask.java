@@ -0,0 +1,51 @@
+package com.example.web.service.attend;
+
+import com.example.web.dto.attend.AttendDto;
+import java.time.OffsetDateTime;
+import java.util.concurrent.CompletableFuture;
+import lombok.Getter;
+
+/**
+ * 배치 출석 요청 하나
+ * 배치 트랜잭션 안에서 결과(response or exception)를 기록하고, 트랜잭션이 끝난 뒤 complete 한다.
+ */
+@Getter
+public class AttendTask {
+
+  private final long userIndex;
+  private final OffsetDateTime now;
+  private final CompletableFuture<AttendDto.Response> future = new CompletableFuture<>();
+
+  private AttendDto.Response response;
+  private RuntimeException exception;
+
+  public AttendTask(long userIndex, OffsetDateTime now) {
+    this.userIndex = userIndex;
+    this.now = now;
+  }
+
+  public void succeed(AttendDto.Response response) {
+    this.response = response;
+    this.exception = null;
+  }
+
+  public void fail(RuntimeException exception) {
+    this.response = null;
+    this.exception = exception;
+  }
+
+  public boolean isSucceeded() {
+    return response != null;
+  }
+
+  /**
+   * 기록된 결과로 요청자에게 응답
+   */
+  public void complete() {
+    if (isSucceeded()) {
+      future.complete(response);
+      return;
+    }
+    future.completeExceptionally(exception);
+  }
+}
@@ -4,18 +4,41 @@ import com.example.web.jpa.entity.attend.AttendTime;
 import com.example.web.jpa.repository.attend.AttendRepository;
 import com.example.web.model.enums.AttendType;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.locks.ReentrantLock;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 
+/**
+ * 출석부 시간(T_STATIC_Attend) 관리
+ * 출석부 시간은 거의 바뀌지 않으므로 메모리에 시작/종료 시간 순으로 정렬해 보관하고,
+ * 진행 중인 출석부 목록은 다음 시작/종료 경계 시간에 맞춰 다시 계산한다.
+ * 조회는 DB 접근 없이 volatile 읽기 한번으로 처리한다.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AttendTimeService {
 
   private final AttendRepository attendRepository;
+  private final TaskScheduler taskScheduler;
+
+  private volatile AttendTimeIndex attendTimeIndex = AttendTimeIndex.EMPTY;
+
+  // DB 조회 중에 잡는 락이므로 synchronized 대신 사용 (가상 스레드 pinning 방지)
+  private final ReentrantLock lock = new ReentrantLock();
+
+  private ScheduledFuture<?> refreshFuture;
 
   @PostConstruct
   private void init() {
@@ -26,6 +49,20 @@ public class AttendTimeService {
         "1일 출석", now.minusDays(10), now.plusDays(10)));
 
     attendRepository.saveAll(attendTimes);
+
+    reload();
+  }
+
+  @PreDestroy
+  private void destroy() {
+    lock.lock();
+    try {
+      if (refreshFuture != null) {
+        refreshFuture.cancel(false);
+      }
+    } finally {
+      lock.unlock();
+    }
   }
 
   private AttendTime getNewAttendTime(int attendIndex, AttendType attendType,
@@ -40,11 +77,142 @@ public class AttendTimeService {
   }
 
   /** 진행 중인 출석부 시간 조회
+   * 현재 시간이 계산해 둔 구간 밖이면(경계 갱신 직전 등) 메모리의 전체 목록에서 다시 찾는다.
    *
    * @param now 현재 시간
    * @return 진행 중인 출석부 시간
    */
   public List<AttendTime> getNowAttendTimes(OffsetDateTime now) {
-    return attendRepository.findByStartTimeLessThanEqualAndEndTimeGreaterThanEqual(now, now);
+    AttendTimeIndex index = attendTimeIndex;
+    if (index.contains(now)) {
+      return index.activeAttendTimes;
+    }
+
+    return index.findActive(now);
+  }
+
+  /**
+   * 출석부 시간 DB 에서 다시 로드 (운영툴 등에서 T_STATIC_Attend 수정 후 호출)
+   */
+  public void reload() {
+    lock.lock();
+    try {
+      List<AttendTime> attendTimes = attendRepository.findAll().stream()
+          .sorted(Comparator.comparing(AttendTime::getStartTime)
+              .thenComparing(AttendTime::getEndTime))
+          .toList();
+
+      attendTimeIndex = new AttendTimeIndex(attendTimes, OffsetDateTime.now());
+      scheduleRefresh();
+
+      log.info("attend times loaded. count : {}", attendTimes.size());
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * 트랜잭션 커밋 후 출석부 시간 다시 로드 (트랜잭션이 없으면 바로 로드)
+   */
+  public void reloadAfterCommit() {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      reload();
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        reload();
+      }
+    });
+  }
+
+  /**
+   * 경계 시간이 되면 진행 중인 출석부 목록 다시 계산 (DB 접근 없음)
+   */
+  private void refresh() {
+    lock.lock();
+    try {
+      attendTimeIndex = new AttendTimeIndex(attendTimeIndex.attendTimes, OffsetDateTime.now());
+      scheduleRefresh();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void scheduleRefresh() {
+    if (refreshFuture != null) {
+      refreshFuture.cancel(false);
+    }
+
+    OffsetDateTime validUntil = attendTimeIndex.validUntil;
+    refreshFuture = validUntil != null
+        ? taskScheduler.schedule(this::refresh, validUntil.toInstant())
+        : null;
+  }
+
+  /**
+   * 정렬된 출석부 시간 목록과 [validFrom, validUntil) 구간에서 진행 중인 출석부 목록
+   */
+  private static class AttendTimeIndex {
+
+    private static final AttendTimeIndex EMPTY = new AttendTimeIndex(List.of(), null);
+
+    private final List<AttendTime> attendTimes;
+    private final List<AttendTime> activeAttendTimes;
+    private final OffsetDateTime validFrom;
+    private final OffsetDateTime validUntil;
+
+    private AttendTimeIndex(List<AttendTime> attendTimes, OffsetDateTime now) {
+      this.attendTimes = attendTimes;
+      this.validFrom = now;
+
+      if (now == null) {
+        this.activeAttendTimes = List.of();
+        this.validUntil = null;
+        return;
+      }
+
+      this.activeAttendTimes = findActive(now);
+
+      // 다음 경계 : 아직 시작하지 않은 출석의 시작 시간, 진행 중인 출석의 종료 직후
+      OffsetDateTime nextBoundary = null;
+      for (AttendTime attendTime : attendTimes) {
+        OffsetDateTime boundary = null;
+        if (attendTime.getStartTime().isAfter(now)) {
+          boundary = attendTime.getStartTime();
+        } else if (!attendTime.getEndTime().isBefore(now)) {
+          boundary = attendTime.getEndTime().plusNanos(1);
+        }
+
+        if (boundary != null && (nextBoundary == null || boundary.isBefore(nextBoundary))) {
+          nextBoundary = boundary;
+        }
+      }
+      this.validUntil = nextBoundary;
+    }
+
+    private boolean contains(OffsetDateTime now) {
+      return validFrom != null && !now.isBefore(validFrom)
+          && (validUntil == null || now.isBefore(validUntil));
+    }
+
+    /**
+     * 진행중 : (시작 시간 <= 현재 시간 <= 종료 시간)
+     * 시작 시간 순으로 정렬되어 있어 현재 시간 이후에 시작하는 출석부부터는 보지 않는다.
+     */
+    private List<AttendTime> findActive(OffsetDateTime now) {
+      List<AttendTime> active = new ArrayList<>();
+      for (AttendTime attendTime : attendTimes) {
+        if (attendTime.getStartTime().isAfter(now)) {
+          break;
+        }
+        if (!attendTime.getEndTime().isBefore(now)) {
+          active.add(attendTime);
+        }
+      }
+      return List.copyOf(active);
+    }
   }
 }
@@ -0,0 +1,28 @@
+package com.example.web.service.log;
+
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그를 호출한 트랜잭션 안에서 바로 저장
+ */
+@Component
+@ConditionalOnProperty(name = "log.sink.write-behind.enabled", havingValue = "false")
+@RequiredArgsConstructor
+public class DirectLogSink implements LogSink {
+
+  private final LogBatchWriter logBatchWriter;
+
+  @Override
+  public void write(Object logEntity) {
+    logBatchWriter.write(List.of(logEntity));
+  }
+
+  @Override
+  public void writeAll(Collection<?> logEntities) {
+    logBatchWriter.write(logEntities);
+  }
+}
@@ -0,0 +1,61 @@
+package com.example.web.service.log;
+
+import com.example.web.jpa.entity.product.UserProductLog;
+import com.example.web.jpa.entity.user.UserMoneyLog;
+import com.example.web.service.user.UserMoneyDailyService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.util.Collection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 로그 엔티티 일괄 저장
+ * 시퀀스 ID + hibernate.jdbc.batch_size 설정으로 insert 가 배치로 실행된다.
+ * 돈 변화 로그는 같은 트랜잭션에서 일별 집계에도 반영한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LogBatchWriter {
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  private final UserMoneyDailyService userMoneyDailyService;
+
+  /**
+   * 현재 트랜잭션에서 저장
+   */
+  @Transactional
+  public void write(Collection<?> logEntities) {
+    logEntities.forEach(entityManager::persist);
+    userMoneyDailyService.accumulate(logEntities);
+  }
+
+  /**
+   * 새 트랜잭션에서 저장 (비동기 저장 스레드, 커밋 이후 콜백에서 사용)
+   */
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public void writeInNewTransaction(Collection<?> logEntities) {
+    logEntities.forEach(entityManager::persist);
+    userMoneyDailyService.accumulate(logEntities);
+  }
+
+  /**
+   * 롤백된 트랜잭션에서 할당된 시퀀스 ID 제거
+   * ID 가 남아 있으면 다시 persist 할 때 detached entity 로 실패하므로, 재시도 전에 호출한다.
+   */
+  public void clearLogIndexes(Collection<?> logEntities) {
+    for (Object logEntity : logEntities) {
+      if (logEntity instanceof UserMoneyLog userMoneyLog) {
+        userMoneyLog.setLogIndex(null);
+      } else if (logEntity instanceof UserProductLog userProductLog) {
+        userProductLog.setLogIndex(null);
+      } else {
+        throw new IllegalArgumentException("not supported log entity : " + logEntity.getClass());
+      }
+    }
+  }
+}
@@ -0,0 +1,103 @@
+package com.example.web.service.log;
+
+import com.example.web.dto.product.UserProductLogDto;
+import com.example.web.dto.user.UserMoneyLogInfoDto;
+import com.example.web.jpa.repository.product.UserProductLogRepositorySupport;
+import com.example.web.jpa.repository.user.UserMoneyLogRepositorySupport;
+import com.example.web.model.enums.ExportFormat;
+import com.example.web.service.ServiceBase;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 유저 로그 내보내기 (NDJSON, CSV, 아카이브 로그 포함)
+ * DB 커서로 DTO 로 바로 읽은 로그를 한 줄씩 출력하고, chunk-size 마다 출력 버퍼를 비워
+ * 로그 수와 관계 없이 일정한 메모리만 사용한다.
+ */
+@Transactional(readOnly = true)
+@Service
+@RequiredArgsConstructor
+public class LogExportService extends ServiceBase {
+
+  private static final CsvMapper CSV_MAPPER = CsvMapper.builder()
+      .addModule(new JavaTimeModule())
+      .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+      .build();
+
+  @Value("${log.export.fetch-size}")
+  private int fetchSize;
+
+  @Value("${log.export.chunk-size}")
+  private int chunkSize;
+
+  private final ObjectMapper objectMapper;
+  private final UserMoneyLogRepositorySupport userMoneyLogRepositorySupport;
+  private final UserProductLogRepositorySupport userProductLogRepositorySupport;
+
+  public void exportUserMoneyLogs(Integer logType, LocalDateTime startTime,
+      LocalDateTime endTime, ExportFormat exportFormat, OutputStream outputStream)
+      throws IOException {
+    long userIndex = getUserIndex();
+
+    try (Stream<UserMoneyLogInfoDto.Log> userMoneyLogs = userMoneyLogRepositorySupport
+        .streamUserMoneyLogs(userIndex, logType, startTime, endTime, fetchSize)) {
+      writeLogs(userMoneyLogs, UserMoneyLogInfoDto.Log.class, exportFormat, outputStream);
+    }
+  }
+
+  public void exportUserProductLogs(Integer productIndex, LocalDateTime startTime,
+      LocalDateTime endTime, ExportFormat exportFormat, OutputStream outputStream)
+      throws IOException {
+    long userIndex = getUserIndex();
+
+    try (Stream<UserProductLogDto.Log> userProductLogs = userProductLogRepositorySupport
+        .streamUserProductLogs(userIndex, productIndex, startTime, endTime, fetchSize)) {
+      writeLogs(userProductLogs, UserProductLogDto.Log.class, exportFormat, outputStream);
+    }
+  }
+
+  private <T> void writeLogs(Stream<T> logs, Class<T> logClass, ExportFormat exportFormat,
+      OutputStream outputStream) throws IOException {
+    int count = 0;
+
+    try (SequenceWriter sequenceWriter = getSequenceWriter(logClass, exportFormat, outputStream)) {
+      Iterator<T> iterator = logs.iterator();
+      while (iterator.hasNext()) {
+        sequenceWriter.write(iterator.next());
+
+        if (++count % chunkSize == 0) {
+          sequenceWriter.flush();
+        }
+      }
+    }
+  }
+
+  private SequenceWriter getSequenceWriter(Class<?> logClass, ExportFormat exportFormat,
+      OutputStream outputStream) throws IOException {
+    // 응답 스트림은 서블릿 컨테이너가 닫는다.
+    if (exportFormat == ExportFormat.CSV) {
+      return CSV_MAPPER.writerFor(logClass)
+          .with(CSV_MAPPER.schemaFor(logClass).withHeader())
+          .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+          .writeValues(outputStream);
+    }
+
+    return objectMapper.writerFor(logClass)
+        .withRootValueSeparator("\n")
+        .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+        .writeValues(outputStream);
+  }
+}
@@ -0,0 +1,142 @@
+package com.example.web.service.log;
+
+import com.example.web.jpa.repository.product.UserProductLogRepository;
+import com.example.web.jpa.repository.product.UserProductLogRepositorySupport;
+import com.example.web.jpa.repository.user.UserMoneyLogRepository;
+import com.example.web.jpa.repository.user.UserMoneyLogRepositorySupport;
+import com.example.web.util.archive.ArchiveRow;
+import com.example.web.util.archive.LogArchiveStore;
+import com.example.web.util.archive.LogArchiveType;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 로그 보관 기간 관리
+ * 보관 기간이 지난 돈/상품 로그를 날짜별 압축 아카이브 파일로 옮기고 DB 에서 삭제한다.
+ * 파일 하나(최대 max-rows-per-file 행)를 저장하고 원본을 지우는 것을 한 트랜잭션으로 처리한다.
+ * 날짜는 서버 시간대 기준이다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class LogRetentionService {
+
+  // IN 절 하나에 넣을 최대 로그 인덱스 수
+  private static final int DELETE_CHUNK_SIZE = 1000;
+
+  private final UserMoneyLogRepository userMoneyLogRepository;
+  private final UserMoneyLogRepositorySupport userMoneyLogRepositorySupport;
+  private final UserProductLogRepository userProductLogRepository;
+  private final UserProductLogRepositorySupport userProductLogRepositorySupport;
+  private final LogArchiveStore logArchiveStore;
+  private final PlatformTransactionManager transactionManager;
+
+  @Value("${log.archive.enabled}")
+  private boolean enabled;
+
+  @Value("${log.archive.retention-days}")
+  private int retentionDays;
+
+  @Value("${log.archive.max-rows-per-file}")
+  private int maxRowsPerFile;
+
+  /**
+   * 보관 기간이 지난 로그 아카이브
+   */
+  @Scheduled(cron = "${log.archive.cron}")
+  public void archiveExpiredLogs() {
+    if (!enabled) {
+      return;
+    }
+
+    LocalDate cutoffDate = LocalDate.now().minusDays(retentionDays);
+
+    archive(LogArchiveType.USER_MONEY_LOG, cutoffDate,
+        userMoneyLogRepositorySupport::getOldestCreatedAt,
+        userMoneyLogRepositorySupport::getArchiveRows,
+        userMoneyLogRepository::deleteByLogIndexIn);
+    archive(LogArchiveType.USER_PRODUCT_LOG, cutoffDate,
+        userProductLogRepositorySupport::getOldestCreatedAt,
+        userProductLogRepositorySupport::getArchiveRows,
+        userProductLogRepository::deleteByLogIndexIn);
+  }
+
+  /**
+   * 가장 오래된 날짜부터 cutoffDate 전날까지 하루씩 아카이브
+   */
+  private void archive(LogArchiveType type, LocalDate cutoffDate,
+      Supplier<OffsetDateTime> oldestCreatedAt, RowReader rowReader,
+      ToIntFunction<Collection<Long>> deleter) {
+    OffsetDateTime oldest = oldestCreatedAt.get();
+    if (oldest == null) {
+      return;
+    }
+
+    TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+    for (LocalDate logDate = getLogDate(oldest); logDate.isBefore(cutoffDate);
+        logDate = logDate.plusDays(1)) {
+      OffsetDateTime startTime = toOffsetDateTime(logDate);
+      OffsetDateTime endTime = toOffsetDateTime(logDate.plusDays(1));
+      LocalDate currentDate = logDate;
+
+      long archivedCount = 0;
+      int rowCount;
+      do {
+        // 파일 저장 + 원본 삭제를 한 트랜잭션으로 처리한다. 삭제된 행은 다음 조회에서 빠진다.
+        rowCount = transactionTemplate.execute(status -> {
+          List<ArchiveRow> rows = rowReader.read(startTime, endTime, maxRowsPerFile);
+          if (rows.isEmpty()) {
+            return 0;
+          }
+
+          try {
+            logArchiveStore.write(type, currentDate, rows);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+
+          List<Long> logIndexes = rows.stream().map(ArchiveRow::logIndex).toList();
+          for (int i = 0; i < logIndexes.size(); i += DELETE_CHUNK_SIZE) {
+            deleter.applyAsInt(
+                logIndexes.subList(i, Math.min(i + DELETE_CHUNK_SIZE, logIndexes.size())));
+          }
+          return rows.size();
+        });
+        archivedCount += rowCount;
+      } while (rowCount == maxRowsPerFile);
+
+      if (archivedCount > 0) {
+        log.info("log archived. type : {}, logDate : {}, rows : {}",
+            type, currentDate, archivedCount);
+      }
+    }
+  }
+
+  private LocalDate getLogDate(OffsetDateTime createdAt) {
+    return createdAt.atZoneSameInstant(ZoneId.systemDefault()).toLocalDate();
+  }
+
+  private OffsetDateTime toOffsetDateTime(LocalDate logDate) {
+    return logDate.atStartOfDay(ZoneId.systemDefault()).toOffsetDateTime();
+  }
+
+  @FunctionalInterface
+  private interface RowReader {
+
+    List<ArchiveRow> read(OffsetDateTime startTime, OffsetDateTime endTime, int limit);
+  }
+}
@@ -0,0 +1,24 @@
+package com.example.web.service.log;
+
+import java.util.Collection;
+
+/**
+ * 로그 엔티티(UserMoneyLog, UserProductLog 등) 저장소
+ * 구현에 따라 바로 저장하거나, 트랜잭션 커밋 후 비동기로 모아서 저장한다.
+ */
+public interface LogSink {
+
+  /**
+   * 로그 저장
+   *
+   * @param logEntity 저장할 로그 엔티티
+   */
+  void write(Object logEntity);
+
+  /**
+   * 로그 여러개 저장
+   *
+   * @param logEntities 저장할 로그 엔티티들
+   */
+  void writeAll(Collection<?> logEntities);
+}
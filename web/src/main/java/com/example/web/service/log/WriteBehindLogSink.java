@@ -0,0 +1,253 @@
+package com.example.web.service.log;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 로그 비동기 저장 (write-behind)
+ * 로그는 트랜잭션 커밋 후 고정 크기 큐에 넣고, 저장 스레드가 batch-size 만큼 또는 flush-interval 마다
+ * 모아서 한 트랜잭션으로 저장한다. 구매/출석 트랜잭션은 상태 테이블만 수정하게 된다.
+ * 큐가 가득 차면 로그 묶음당 offer-timeout 까지만 기다리고, 넣지 못한 로그는 넘김 큐로 저장 스레드에 넘긴다.
+ * (커밋 콜백에서 DB 를 쓰면 요청 하나가 커넥션 두 개를 잡게 되어 커넥션 풀 크기로 제한할 때 교착될 수 있다.)
+ * 종료시 큐에 남은 로그를 모두 저장한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "log.sink.write-behind.enabled", havingValue = "true", matchIfMissing = true)
+public class WriteBehindLogSink implements LogSink {
+
+  private static final int MAX_WRITE_ATTEMPTS = 3;
+
+  @Value("${log.sink.write-behind.batch-size}")
+  private int batchSize;
+
+  @Value("${log.sink.write-behind.flush-interval-milsec}")
+  private long flushIntervalMilSec;
+
+  @Value("${log.sink.write-behind.offer-timeout-milsec}")
+  private long offerTimeoutMilSec;
+
+  @Value("${log.sink.write-behind.shutdown-timeout-milsec}")
+  private long shutdownTimeoutMilSec;
+
+  private final LogBatchWriter logBatchWriter;
+
+  private final BlockingQueue<Object> queue;
+
+  // 큐가 가득 차서 넣지 못한 로그 (저장 스레드가 먼저 가져간다)
+  private final ConcurrentLinkedQueue<Object> overflow = new ConcurrentLinkedQueue<>();
+
+  private final Timer flushTimer;
+  private final Counter overflowCounter;
+  private final Counter failedCounter;
+
+  private volatile boolean running = true;
+  private Thread writerThread;
+
+  public WriteBehindLogSink(LogBatchWriter logBatchWriter, MeterRegistry meterRegistry,
+      @Value("${log.sink.write-behind.capacity}") int capacity) {
+    this.logBatchWriter = logBatchWriter;
+    this.queue = new ArrayBlockingQueue<>(capacity);
+
+    Gauge.builder("log.sink.queue.size", queue, BlockingQueue::size)
+        .description("저장 대기중인 로그 수")
+        .register(meterRegistry);
+    this.flushTimer = Timer.builder("log.sink.flush")
+        .description("로그 일괄 저장 시간")
+        .register(meterRegistry);
+    this.overflowCounter = Counter.builder("log.sink.overflow")
+        .description("큐가 가득 차서 넘김 큐로 보낸 로그 수")
+        .register(meterRegistry);
+    this.failedCounter = Counter.builder("log.sink.failed")
+        .description("저장 실패한 로그 수")
+        .register(meterRegistry);
+  }
+
+  @PostConstruct
+  private void init() {
+    writerThread = new Thread(this::runWriter, "log-sink-writer");
+    writerThread.setDaemon(true);
+    writerThread.start();
+  }
+
+  @Override
+  public void write(Object logEntity) {
+    writeAll(List.of(logEntity));
+  }
+
+  @Override
+  public void writeAll(Collection<?> logEntities) {
+    if (logEntities.isEmpty()) {
+      return;
+    }
+
+    // 롤백된 트랜잭션의 로그는 저장하지 않도록 커밋 후 큐에 넣는다.
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      enqueue(logEntities);
+      return;
+    }
+
+    List<?> pending = List.copyOf(logEntities);
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        enqueue(pending);
+      }
+    });
+  }
+
+  /**
+   * 커밋 콜백에서 호출되므로 DB 에 직접 저장하지 않는다.
+   * 로그 묶음 전체에 offer-timeout 하나의 기한을 두고, 기한이 지나면 나머지는 넘김 큐로 보낸다.
+   */
+  private void enqueue(Collection<?> logEntities) {
+    long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(offerTimeoutMilSec);
+    int overflowCount = 0;
+
+    for (Object logEntity : logEntities) {
+      if (!running || !offer(logEntity, deadlineNanos)) {
+        overflow.add(logEntity);
+        overflowCount++;
+      }
+    }
+
+    if (overflowCount > 0) {
+      overflowCounter.increment(overflowCount);
+    }
+  }
+
+  private boolean offer(Object logEntity, long deadlineNanos) {
+    if (queue.offer(logEntity)) {
+      return true;
+    }
+
+    long remainNanos = deadlineNanos - System.nanoTime();
+    if (remainNanos <= 0) {
+      return false;
+    }
+
+    try {
+      return queue.offer(logEntity, remainNanos, TimeUnit.NANOSECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private void runWriter() {
+    List<Object> batch = new ArrayList<>(batchSize);
+
+    while (running || !queue.isEmpty() || !overflow.isEmpty()) {
+      try {
+        drainOverflow(batch);
+        if (batch.isEmpty()) {
+          Object first = queue.poll(flushIntervalMilSec, TimeUnit.MILLISECONDS);
+          if (first == null) {
+            continue;
+          }
+          batch.add(first);
+        }
+        fillBatch(batch);
+
+        writeBatch(batch);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        running = false;
+      } catch (RuntimeException e) {
+        log.error("log sink writer error", e);
+      } finally {
+        batch.clear();
+      }
+    }
+  }
+
+  private void drainOverflow(List<Object> batch) {
+    while (batch.size() < batchSize) {
+      Object logEntity = overflow.poll();
+      if (logEntity == null) {
+        return;
+      }
+      batch.add(logEntity);
+    }
+  }
+
+  /**
+   * batch-size 가 되거나 flush-interval 이 지날 때까지 로그를 모은다.
+   */
+  private void fillBatch(List<Object> batch) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + flushIntervalMilSec;
+
+    while (batch.size() < batchSize) {
+      queue.drainTo(batch, batchSize - batch.size());
+      if (batch.size() >= batchSize || !running) {
+        return;
+      }
+
+      long remainMilSec = deadline - System.currentTimeMillis();
+      if (remainMilSec <= 0) {
+        return;
+      }
+
+      Object next = queue.poll(remainMilSec, TimeUnit.MILLISECONDS);
+      if (next == null) {
+        return;
+      }
+      batch.add(next);
+    }
+  }
+
+  private void writeBatch(List<Object> batch) {
+    for (int attempt = 1; attempt <= MAX_WRITE_ATTEMPTS; attempt++) {
+      long startNanos = System.nanoTime();
+      try {
+        if (attempt > 1) {
+          // 실패한 트랜잭션에서 할당된 ID 를 지워야 다시 persist 할 수 있다.
+          logBatchWriter.clearLogIndexes(batch);
+        }
+        logBatchWriter.writeInNewTransaction(batch);
+        return;
+      } catch (RuntimeException e) {
+        log.warn("log batch write failed. size : {}, attempt : {}", batch.size(), attempt, e);
+      } finally {
+        flushTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+      }
+    }
+
+    failedCounter.increment(batch.size());
+    log.error("log batch dropped. size : {}", batch.size());
+  }
+
+  @PreDestroy
+  private void destroy() throws InterruptedException {
+    running = false;
+    writerThread.join(shutdownTimeoutMilSec);
+
+    // 저장 스레드가 시간내에 끝나지 않았으면 남은 로그를 직접 저장
+    List<Object> remain = new ArrayList<>();
+    Object logEntity;
+    while ((logEntity = overflow.poll()) != null) {
+      remain.add(logEntity);
+    }
+    queue.drainTo(remain);
+    if (!remain.isEmpty()) {
+      writeBatch(remain);
+    }
+  }
+}
@@ -1,57 +1,54 @@
 package com.example.web.service.login;
 
-import com.example.web.dto.oauth.OauthNaverLoginDto;
+import com.example.web.dto.oauth.OauthLoginDto;
 import com.example.web.jpa.entity.user.UserInfo;
-import com.example.web.model.oauth.info.NaverUserInfo;
-import com.example.web.service.login.oauth.NaverOauthService;
+import com.example.web.model.enums.OauthType;
+import com.example.web.model.oauth.info.OauthUserInfo;
+import com.example.web.service.login.oauth.OauthCallExecutor;
+import com.example.web.service.login.oauth.OauthProviderRegistry;
 import com.example.web.service.user.UserService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
-
-@Transactional(readOnly = true)
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 외부 플랫폼 연동 로그인
+ * 외부 API 호출은 OAuth 전용 스레드 풀(OauthCallExecutor)에서 하고, 요청 스레드는 바로 반환한다.
+ * 외부 API 응답을 기다리는 동안 DB 커넥션을 잡지 않도록 클래스 단위 트랜잭션은 쓰지 않는다.
+ * 외부 플랫폼별 처리는 OauthProvider 구현에 맡긴다.
+ */
 @Service
 @RequiredArgsConstructor
 public class LoginService {
 
-  @Value("${oauth.naver.secret}")
-  private String state;
-
-  @Value("${oauth.naver.client-id}")
-  private String clientId;
-
-  @Value("${oauth.naver.url.auth}")
-  private String oauthUrl;
-
-  @Value("${oauth.naver.url.redirect}")
-  private String redirectUrl;
-
-  private final NaverOauthService naverOauthService;
+  private final OauthProviderRegistry oauthProviderRegistry;
+  private final OauthCallExecutor oauthCallExecutor;
   private final UserService userService;
 
-  public String getRedirectUrl() {
-
-    StringBuilder stringBuilder = new StringBuilder();
-
-    stringBuilder.append("redirect:" + oauthUrl + "/oauth2.0/authorize?");
-    stringBuilder.append("response_type=code&");
-    stringBuilder.append("client_id=" + clientId + "&");
-    stringBuilder.append("state=" + state + "&");
-    stringBuilder.append("redirect_uri=" + redirectUrl);
-
-    return stringBuilder.toString();
+  public String getRedirectUrl(OauthType oauthType) {
+    return "redirect:" + oauthProviderRegistry.getOauthProvider(oauthType).getAuthorizeUrl();
   }
 
-  public OauthNaverLoginDto.Response processNaverLogin(OauthNaverLoginDto.Request request) {
-
-    String accessToken = naverOauthService.processAccessToken(request);
+  /**
+   * 외부 플랫폼 연동 로그인 (비동기)
+   *
+   * @param oauthType 외부 플랫폼
+   * @param request   인증 코드
+   * @return 로그인 응답 (시간 예산 안에 끝나지 않거나 외부 플랫폼 장애시 예외)
+   */
+  public CompletableFuture<OauthLoginDto.Response> processOauthLogin(OauthType oauthType,
+      OauthLoginDto.Request request) {
+    return oauthCallExecutor.submit(OauthProviderRegistry.getProviderName(oauthType),
+        () -> loginOauthUser(oauthType, request));
+  }
 
-    NaverUserInfo naverUserInfo = naverOauthService.processUserInfo(accessToken);
+  private OauthLoginDto.Response loginOauthUser(OauthType oauthType,
+      OauthLoginDto.Request request) {
+    OauthUserInfo oauthUserInfo = oauthProviderRegistry.getUserInfo(oauthType, request);
 
-    Optional<UserInfo> userInfo = userService.getUserInfo(naverUserInfo.getEmailAddress());
+    Optional<UserInfo> userInfo = userService.getUserInfo(oauthUserInfo.getEmailAddress());
 
     boolean isNewUSer = userInfo.isEmpty();
 
@@ -59,7 +56,7 @@ public class LoginService {
       return userService.login(isNewUSer, userInfo.get());
     }
     // 새로운 유저면 유저 기본 정보 DB에 등록한다.
-    UserInfo newUserInfo = userService.saveUserInfo(naverUserInfo);
+    UserInfo newUserInfo = userService.saveUserInfo(oauthUserInfo);
 
     return userService.login(isNewUSer, newUserInfo);
   }
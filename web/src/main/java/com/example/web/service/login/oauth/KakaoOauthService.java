@@ -1,7 +1,106 @@
 package com.example.web.service.login.oauth;
 
+import com.example.web.dto.oauth.OauthLoginDto;
+import com.example.web.model.enums.OauthType;
+import com.example.web.model.oauth.info.KakaoUserInfo;
+import com.example.web.model.oauth.token.OauthToken;
+import com.example.web.util.externalApi.ExternalApiClient;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
 
+// 카카오 로그인 참고 - https://developers.kakao.com/docs/latest/ko/kakaologin/rest-api
 @Service
-public class KakaoOauthService {
+@RequiredArgsConstructor
+public class KakaoOauthService implements OauthProvider {
+
+    private static final String GRANT_TYPE = "authorization_code";
+
+    @Value("${oauth.kakao.url.auth}")
+    private String oauthUrl;
+
+    @Value("${oauth.kakao.url.api}")
+    private String apiUrl;
+
+    @Value("${oauth.kakao.url.redirect}")
+    private String redirectUrl;
+
+    @Value("${oauth.kakao.client-id}")
+    private String clientId;
+
+    private final ExternalApiClient externalApiClient;
+
+    @Override
+    public OauthType getOauthType() {
+        return OauthType.KAKAO;
+    }
+
+    @Override
+    public String getAuthorizeUrl() {
+        StringBuilder stringBuilder = new StringBuilder();
+
+        stringBuilder.append(oauthUrl + "/oauth/authorize?");
+        stringBuilder.append("response_type=code&");
+        stringBuilder.append("client_id=" + clientId + "&");
+        stringBuilder.append("redirect_uri=" + redirectUrl);
+
+        return stringBuilder.toString();
+    }
+
+    /**
+     * 외부 API(Kakao Oauth) 응답 에서 접속 토큰 획득
+     *
+     * @param request 인증 코드
+     * @return 외부 API 응답의 접근 토큰
+     */
+    @Override
+    public String processAccessToken(OauthLoginDto.Request request) {
+        final String path = "/oauth/token";
+        final String url = oauthUrl + path; // 외부 API(카카오 로그인) 접근 토큰 발급 요청 url
+
+        MultiValueMap<String, String> httpBody = new LinkedMultiValueMap<>();
+        httpBody.add("grant_type", GRANT_TYPE);
+        httpBody.add("client_id", clientId);
+        httpBody.add("redirect_uri", redirectUrl);
+        httpBody.add("code", request.getAuthorizationCode());
+
+        HttpEntity<?> httpEntity = new HttpEntity<>(httpBody, makeHttpHeader());
+
+        OauthToken oauthToken = externalApiClient.getResponseFromPostRequest(url, httpEntity,
+            OauthToken.class);
+
+        return oauthToken.getAccessToken();
+    }
+
+    /**
+     * 외부 API(카카오) 응답 에서 유저 정보 획득
+     *
+     * @param accessToken 외부 API(Kakao Oauth) 응답 에서 얻은 접속 토큰
+     * @return 카카오 유저 정보 (이메일 제공 동의를 하지 않았으면 이메일이 null)
+     */
+    @Override
+    public KakaoUserInfo processUserInfo(String accessToken) {
+        final String path = "/v2/user/me";
+        final String url = apiUrl + path;
+
+        HttpHeaders httpHeaders = makeHttpHeader();
+        httpHeaders.set("Authorization", "Bearer " + accessToken);
+
+        HttpEntity<?> httpEntity = new HttpEntity<>(new LinkedMultiValueMap<>(), httpHeaders);
+
+        return externalApiClient.getResponseFromPostRequest(url, httpEntity,
+            KakaoUserInfo.class);
+    }
+
+    private HttpHeaders makeHttpHeader() {
+        HttpHeaders httpHeaders = new HttpHeaders();
+        httpHeaders.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
+
+        return httpHeaders;
+    }
 }
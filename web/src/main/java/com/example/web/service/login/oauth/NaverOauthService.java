@@ -1,8 +1,10 @@
 package com.example.web.service.login.oauth;
 
-import com.example.web.dto.oauth.OauthNaverLoginDto;
+import com.example.web.dto.oauth.OauthLoginDto;
+import com.example.web.model.enums.OauthType;
 import com.example.web.model.oauth.info.NaverUserInfo;
 import com.example.web.model.oauth.token.OauthToken;
+import com.example.web.util.externalApi.ExternalApiClient;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
@@ -11,13 +13,11 @@ import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
-import static com.example.web.util.externalApi.externalApi.getResponseFromPostRequest;
 
 
 @Service
 @RequiredArgsConstructor
-public class NaverOauthService {
+public class NaverOauthService implements OauthProvider {
 
     private static final String GRANT_TYPE = "authorization_code";
 
@@ -33,7 +33,28 @@ public class NaverOauthService {
     @Value("${oauth.naver.secret}")
     private String clientSecret;
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    @Value("${oauth.naver.url.redirect}")
+    private String redirectUrl;
+
+    private final ExternalApiClient externalApiClient;
+
+    @Override
+    public OauthType getOauthType() {
+        return OauthType.NAVER;
+    }
+
+    @Override
+    public String getAuthorizeUrl() {
+        StringBuilder stringBuilder = new StringBuilder();
+
+        stringBuilder.append(oauthUrl + "/oauth2.0/authorize?");
+        stringBuilder.append("response_type=code&");
+        stringBuilder.append("client_id=" + clientId + "&");
+        stringBuilder.append("state=" + clientSecret + "&");
+        stringBuilder.append("redirect_uri=" + redirectUrl);
+
+        return stringBuilder.toString();
+    }
 
     /**
      * 외부 API(Naver Oauth) 응답 에서 접속 토큰 획득
@@ -41,13 +62,15 @@ public class NaverOauthService {
      * @param request
      * @return 외부 API 응답의 접근 토큰
      */
-    public String processAccessToken(OauthNaverLoginDto.Request request) {
+    @Override
+    public String processAccessToken(OauthLoginDto.Request request) {
         final String path = "/oauth2.0/token";
         final String url = oauthUrl + path; // 외부 API(네이버 로그인) 접근 토큰 발급 요청 url
 
         HttpEntity<?> httpEntity = makeHttpEntity(request);
 
-        OauthToken oauthToken = (OauthToken) getResponseFromPostRequest(url, httpEntity, OauthToken.class);
+        OauthToken oauthToken = externalApiClient.getResponseFromPostRequest(url, httpEntity,
+            OauthToken.class);
 
         return oauthToken.getAccessToken();
     }
@@ -58,7 +81,7 @@ public class NaverOauthService {
      * @param request
      * @return 외부 API에 요청 보낼 HTTP 엔티티
      */
-    private HttpEntity<?> makeHttpEntity(OauthNaverLoginDto.Request request) {
+    private HttpEntity<?> makeHttpEntity(OauthLoginDto.Request request) {
         return new HttpEntity<>(makeHttpBody(request), makeHttpHeader());
     }
 
@@ -69,7 +92,7 @@ public class NaverOauthService {
         return httpHeaders;
     }
 
-    private MultiValueMap<String, String> makeHttpBody(OauthNaverLoginDto.Request request) {
+    private MultiValueMap<String, String> makeHttpBody(OauthLoginDto.Request request) {
         // MultiValueMap 사용 이유 : 메세지 컨버팅할때 HashMap 지원안함.
         MultiValueMap<String, String> httpBody = request.makeHttpBody();
 
@@ -86,6 +109,7 @@ public class NaverOauthService {
      * @param accessToken 외부 API(Naver Oauth) 응답 에서 얻은 접속 토큰
      * @return 네이버 유저 정보
      */
+    @Override
     public NaverUserInfo processUserInfo(String accessToken) {
         final String path = "/v1/nid/me";
         final String url = apiUrl + path;
@@ -97,9 +121,7 @@ public class NaverOauthService {
 
         HttpEntity<?> httpEntity = new HttpEntity<>(httpBody, httpHeaders);
 
-        NaverUserInfo naverUserInfo = (NaverUserInfo)getResponseFromPostRequest(url,
-                httpEntity, NaverUserInfo.class);
-
-        return naverUserInfo;
+        return externalApiClient.getResponseFromPostRequest(url, httpEntity,
+            NaverUserInfo.class);
     }
 }
@@ -0,0 +1,211 @@
+package com.example.web.service.login.oauth;
+
+import com.example.web.model.exception.CustomErrorException;
+import com.example.web.util.circuit.CircuitBreaker;
+import com.example.web.util.container.RequestContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
+
+/**
+ * 외부 OAuth 호출 격리
+ * 1. 벌크헤드 : 로그인은 전용 스레드 풀(대기열 크기 제한)에서만 처리하여, 외부 API 가 느려도 요청 스레드를 잡지 않는다.
+ * 2. 서킷 브레이커 : 외부 플랫폼별로 실패/느린 호출 비율이 기준을 넘으면 호출하지 않고 바로 실패한다.
+ * 3. 시간 예산 : 로그인 전체가 loginTimeout 안에 끝나지 않으면 실패로 응답한다.
+ */
+@Slf4j
+@Component
+public class OauthCallExecutor {
+
+  private static final String METRIC_PREFIX = "oauth.";
+
+  private final ThreadPoolExecutor executor;
+  private final long loginTimeoutMilSec;
+  private final MeterRegistry meterRegistry;
+
+  @Value("${oauth.circuit-breaker.window-size}")
+  private int windowSize;
+
+  @Value("${oauth.circuit-breaker.minimum-calls}")
+  private int minimumCalls;
+
+  @Value("${oauth.circuit-breaker.failure-rate-threshold}")
+  private int failureRateThreshold;
+
+  @Value("${oauth.circuit-breaker.slow-call-rate-threshold}")
+  private int slowCallRateThreshold;
+
+  @Value("${oauth.circuit-breaker.slow-call-milsec}")
+  private long slowCallMilSec;
+
+  @Value("${oauth.circuit-breaker.open-milsec}")
+  private long openMilSec;
+
+  @Value("${oauth.circuit-breaker.half-open-calls}")
+  private int halfOpenCalls;
+
+  // 외부 플랫폼 이름 -> 서킷 브레이커
+  private final Map<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+
+  private final Counter bulkheadRejectedCounter;
+
+  public OauthCallExecutor(MeterRegistry meterRegistry,
+      @Value("${oauth.executor.threads}") int threads,
+      @Value("${oauth.executor.queue-size}") int queueSize,
+      @Value("${oauth.executor.login-timeout-milsec}") long loginTimeoutMilSec) {
+    this.meterRegistry = meterRegistry;
+    this.loginTimeoutMilSec = loginTimeoutMilSec;
+    this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueSize), new CustomizableThreadFactory("oauth-"),
+        new ThreadPoolExecutor.AbortPolicy());
+
+    // executor.active, executor.queued, executor.pool.size 등
+    ExecutorServiceMetrics.monitor(meterRegistry, executor, "oauth");
+    this.bulkheadRejectedCounter = Counter.builder(METRIC_PREFIX + "bulkhead.rejected")
+        .description("OAuth 스레드 풀이 가득 차서 거절한 로그인 수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 로그인 작업을 OAuth 전용 스레드 풀에서 실행
+   * 요청 컨텍스트를 넘겨주므로 작업 안에서 로그인 세션을 설정할 수 있다.
+   *
+   * @param provider 외부 플랫폼 이름
+   * @param task     로그인 작업 (외부 API 호출은 exchange 로 감싼다.)
+   * @return 로그인 결과 (시간 예산 초과시 3 예외)
+   */
+  public <T> CompletableFuture<T> submit(String provider, Supplier<T> task) {
+    // 열려 있으면 스레드 풀에 넣기 전에 바로 실패
+    checkNotOpen(provider);
+
+    CompletableFuture<T> future;
+    try {
+      future = CompletableFuture.supplyAsync(RequestContext.wrap(task), executor);
+    } catch (RejectedExecutionException e) {
+      bulkheadRejectedCounter.increment();
+      throw CustomErrorException.builder().resultValue(7).retryAfterSec(1).build();
+    }
+
+    return future
+        .orTimeout(loginTimeoutMilSec, TimeUnit.MILLISECONDS)
+        .exceptionally(throwable -> {
+          Throwable cause = throwable instanceof CompletionException
+              && throwable.getCause() != null ? throwable.getCause() : throwable;
+          if (cause instanceof TimeoutException) {
+            log.warn("oauth login timed out. provider : {}, timeout : {}ms", provider,
+                loginTimeoutMilSec);
+            throw CustomErrorException.builder().resultValue(3).build();
+          }
+          if (cause instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+          }
+          throw new CompletionException(cause);
+        });
+  }
+
+  /**
+   * 외부 API 호출 (서킷 브레이커 적용)
+   * 4xx 응답(잘못된 인증 코드 등)과 응답 검증 예외(CustomErrorException)는 외부 플랫폼 장애가 아니므로
+   * 실패로 세지 않는다.
+   * 호출 실패는 3 예외로 응답한다.
+   *
+   * @param provider 외부 플랫폼 이름
+   * @param call     외부 API 호출
+   * @return 외부 API 응답
+   */
+  public <T> T exchange(String provider, Supplier<T> call) {
+    CircuitBreaker circuitBreaker = getCircuitBreaker(provider);
+    if (!circuitBreaker.tryAcquire()) {
+      throw getOpenException(provider, circuitBreaker);
+    }
+
+    long startNanos = System.nanoTime();
+    boolean failed = true;
+    try {
+      T response = call.get();
+      failed = false;
+      return response;
+    } catch (CustomErrorException e) {
+      failed = false;
+      throw e;
+    } catch (HttpClientErrorException e) {
+      failed = false;
+      log.warn("oauth call rejected. provider : {}, status : {}", provider, e.getStatusCode());
+      throw CustomErrorException.builder().resultValue(3).build();
+    } catch (RestClientException e) {
+      // 연결/응답 타임아웃, 5xx 등 외부 플랫폼 장애
+      log.warn("oauth call failed. provider : {}, error : {}", provider, e.toString());
+      throw CustomErrorException.builder().resultValue(3).build();
+    } finally {
+      long durationNanos = System.nanoTime() - startNanos;
+      circuitBreaker.onResult(durationNanos, failed);
+      Timer.builder(METRIC_PREFIX + "exchange")
+          .description("외부 OAuth 호출 시간")
+          .tag("provider", provider)
+          .tag("outcome", failed ? "failure" : "success")
+          .register(meterRegistry)
+          .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private void checkNotOpen(String provider) {
+    CircuitBreaker circuitBreaker = getCircuitBreaker(provider);
+    if (circuitBreaker.getState() == CircuitBreaker.State.OPEN
+        && circuitBreaker.getRemainingOpenNanos() > 0) {
+      throw getOpenException(provider, circuitBreaker);
+    }
+  }
+
+  private CustomErrorException getOpenException(String provider, CircuitBreaker circuitBreaker) {
+    Counter.builder(METRIC_PREFIX + "circuit.rejected")
+        .description("서킷 브레이커가 열려 바로 실패한 호출 수")
+        .tag("provider", provider)
+        .register(meterRegistry)
+        .increment();
+
+    long retryAfterSec = (long) Math.ceil(circuitBreaker.getRemainingOpenNanos() / 1e9);
+    return CustomErrorException.builder()
+        .resultValue(8)
+        .retryAfterSec(Math.max(1, retryAfterSec))
+        .build();
+  }
+
+  private CircuitBreaker getCircuitBreaker(String provider) {
+    return circuitBreakers.computeIfAbsent(provider, key -> {
+      CircuitBreaker circuitBreaker = new CircuitBreaker(windowSize, minimumCalls,
+          failureRateThreshold, slowCallRateThreshold, slowCallMilSec, openMilSec,
+          halfOpenCalls, System::nanoTime);
+
+      // 0 : CLOSED, 1 : OPEN, 2 : HALF_OPEN
+      Gauge.builder(METRIC_PREFIX + "circuit.state", circuitBreaker, f -> f.getState().ordinal())
+          .description("서킷 브레이커 상태 (0 : 닫힘, 1 : 열림, 2 : 반열림)")
+          .tag("provider", key)
+          .register(meterRegistry);
+      return circuitBreaker;
+    });
+  }
+
+  @PreDestroy
+  private void destroy() {
+    executor.shutdown();
+  }
+}
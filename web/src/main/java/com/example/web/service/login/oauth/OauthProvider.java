@@ -0,0 +1,38 @@
+package com.example.web.service.login.oauth;
+
+import com.example.web.dto.oauth.OauthLoginDto;
+import com.example.web.model.enums.OauthType;
+import com.example.web.model.oauth.info.OauthUserInfo;
+
+/**
+ * 외부 플랫폼 연동 로그인 구현
+ * 구현체는 외부 API 요청/응답 변환만 하고, 외부 API 호출은 공용 ExternalApiClient(커넥션 풀, 타임아웃)로 한다.
+ * 서킷 브레이커, 호출 시간 지표, 응답 캐시는 OauthProviderRegistry 가 모든 구현체에 똑같이 적용한다.
+ */
+public interface OauthProvider {
+
+  OauthType getOauthType();
+
+  /**
+   * 외부 플랫폼 로그인 페이지 URL
+   *
+   * @return 로그인 페이지로 보낼 redirect URL
+   */
+  String getAuthorizeUrl();
+
+  /**
+   * 인증 코드로 접근 토큰 발급
+   *
+   * @param request 인증 코드
+   * @return 접근 토큰
+   */
+  String processAccessToken(OauthLoginDto.Request request);
+
+  /**
+   * 접근 토큰으로 유저 정보 조회
+   *
+   * @param accessToken 접근 토큰
+   * @return 유저 정보
+   */
+  OauthUserInfo processUserInfo(String accessToken);
+}
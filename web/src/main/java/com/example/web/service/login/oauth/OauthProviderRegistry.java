@@ -0,0 +1,131 @@
+package com.example.web.service.login.oauth;
+
+import com.example.web.dto.oauth.OauthLoginDto;
+import com.example.web.model.enums.OauthType;
+import com.example.web.model.exception.CustomErrorException;
+import com.example.web.model.oauth.info.OauthUserInfo;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * 외부 플랫폼(OauthType)별 OauthProvider 조회 및 공통 호출 정책
+ * 모든 구현체에 같은 서킷 브레이커/호출 시간 지표(OauthCallExecutor)를 적용한다.
+ * 같은 인증 코드로 동시에 들어온 콜백(중복 클릭)은 진행 중인 호출 결과를 같이 기다린다.
+ * 호출이 끝나면 결과를 보관하지 않으므로, 끝난 뒤 다시 들어온 콜백(재전송)은 외부 플랫폼이 인증 코드를 다시 검증한다.
+ */
+@Component
+public class OauthProviderRegistry {
+
+  private final Map<OauthType, OauthProvider> oauthProviders = new EnumMap<>(OauthType.class);
+  private final OauthCallExecutor oauthCallExecutor;
+
+  // (OauthType, 인증 코드 해시) -> 진행 중인 유저 정보 조회 (끝나면 제거)
+  private final ConcurrentMap<String, CompletableFuture<OauthUserInfo>> inFlightCalls =
+      new ConcurrentHashMap<>();
+
+  public OauthProviderRegistry(List<OauthProvider> oauthProviders,
+      OauthCallExecutor oauthCallExecutor) {
+    for (OauthProvider oauthProvider : oauthProviders) {
+      OauthProvider duplicated = this.oauthProviders.put(oauthProvider.getOauthType(),
+          oauthProvider);
+      if (duplicated != null) {
+        throw new IllegalStateException("duplicated oauth provider : "
+            + oauthProvider.getOauthType());
+      }
+    }
+    this.oauthCallExecutor = oauthCallExecutor;
+  }
+
+  /**
+   * 외부 플랫폼 연동 로그인 구현 조회
+   *
+   * @param oauthType 외부 플랫폼
+   * @return 구현 (없으면 2 예외)
+   */
+  public OauthProvider getOauthProvider(OauthType oauthType) {
+    OauthProvider oauthProvider = oauthProviders.get(oauthType);
+    if (oauthProvider == null) {
+      throw CustomErrorException.builder().resultValue(2).build();
+    }
+
+    return oauthProvider;
+  }
+
+  /**
+   * 인증 코드로 외부 플랫폼 유저 정보 조회
+   * 접근 토큰 발급 + 유저 정보 조회를 하나의 외부 호출로 보고 서킷 브레이커/지표를 적용한다.
+   * 응답 검증(이메일 제공 동의 등)은 외부 플랫폼 장애가 아니므로 외부 호출 밖에서 한다.
+   *
+   * @param oauthType 외부 플랫폼
+   * @param request   인증 코드
+   * @return 유저 정보 (이메일이 없으면 3 예외)
+   */
+  public OauthUserInfo getUserInfo(OauthType oauthType, OauthLoginDto.Request request) {
+    OauthProvider oauthProvider = getOauthProvider(oauthType);
+    String key = oauthType + ":" + hash(request.getAuthorizationCode());
+
+    CompletableFuture<OauthUserInfo> calling = new CompletableFuture<>();
+    CompletableFuture<OauthUserInfo> inFlight = inFlightCalls.putIfAbsent(key, calling);
+    if (inFlight != null) {
+      return join(inFlight);
+    }
+
+    try {
+      OauthUserInfo oauthUserInfo = oauthCallExecutor.exchange(getProviderName(oauthType), () -> {
+        String accessToken = oauthProvider.processAccessToken(request);
+
+        return oauthProvider.processUserInfo(accessToken);
+      });
+      // 유저는 이메일로 구분하므로 이메일이 없으면 로그인할 수 없다.
+      if (oauthUserInfo.getEmailAddress() == null) {
+        throw CustomErrorException.builder().resultValue(3).build();
+      }
+      calling.complete(oauthUserInfo);
+      return oauthUserInfo;
+    } catch (RuntimeException | Error e) {
+      calling.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlightCalls.remove(key, calling);
+    }
+  }
+
+  /**
+   * 지표/서킷 브레이커에 쓰는 외부 플랫폼 이름
+   */
+  public static String getProviderName(OauthType oauthType) {
+    return oauthType.name().toLowerCase(Locale.ROOT);
+  }
+
+  private OauthUserInfo join(CompletableFuture<OauthUserInfo> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  private String hash(String authorizationCode) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256")
+          .digest(String.valueOf(authorizationCode).getBytes(StandardCharsets.UTF_8));
+      return Base64.getEncoder().encodeToString(digest);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,136 @@
+package com.example.web.service.product;
+
+import com.example.web.dto.product.UserProductBuyDto;
+import com.example.web.model.exception.CustomErrorException;
+import com.example.web.service.product.stock.ProductStockEngine;
+import com.example.web.util.batch.MicroBatchQueue;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 그룹 커밋 구매 파이프라인
+ * 상품별 큐에 구매 요청을 쌓고, 상품별 단일 writer 가 마이크로 배치 단위로 한 트랜잭션에 처리한다.
+ * 같은 상품 row 에 대한 트랜잭션 경합이 배치 수 만큼으로 줄어든다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductBuyPipeline {
+
+  @Value("${product.buy.group-commit.batch-size}")
+  private int batchSize;
+
+  @Value("${product.buy.group-commit.max-wait-milsec}")
+  private long maxWaitMilSec;
+
+  @Value("${product.buy.group-commit.writer-threads}")
+  private int writerThreads;
+
+  @Value("${product.buy.group-commit.queue-capacity}")
+  private int queueCapacity;
+
+  @Value("${product.buy.group-commit.max-batches-per-drain}")
+  private int maxBatchesPerDrain;
+
+  private final ProductService productService;
+  private final ProductStockEngine productStockEngine;
+
+  // 상품 인덱스별 구매 요청 큐
+  private final ConcurrentMap<Integer, MicroBatchQueue<ProductBuyTask>> productQueues =
+      new ConcurrentHashMap<>();
+
+  private ExecutorService writerExecutor;
+
+  @PostConstruct
+  private void init() {
+    writerExecutor = Executors.newFixedThreadPool(writerThreads,
+        new CustomizableThreadFactory("product-buy-writer-"));
+  }
+
+  /**
+   * 구매 요청 추가
+   * 재고는 큐에 넣기 전에 예약하여, 재고가 없으면 바로 실패한다.
+   * 상품 큐가 가득 차면 재고를 반환하고 7 예외(429 + Retry-After)로 바로 거절한다.
+   *
+   * @param userIndex 유저 인덱스
+   * @param request   구매 요청
+   * @return 배치 트랜잭션이 끝나면 완료되는 구매 결과
+   */
+  public CompletableFuture<UserProductBuyDto.Response> submit(long userIndex,
+      UserProductBuyDto.Request request) {
+    int productIndex = request.getProductIndex();
+    int productCount = request.getProductCount();
+
+    productStockEngine.reserve(productIndex, productCount);
+
+    ProductBuyTask task = new ProductBuyTask(userIndex, request);
+    try {
+      getProductQueue(productIndex).submit(task);
+    } catch (RejectedExecutionException e) {
+      productStockEngine.rollback(productIndex, productCount);
+      throw CustomErrorException.builder().resultValue(7).retryAfterSec(1).build();
+    } catch (RuntimeException e) {
+      productStockEngine.rollback(productIndex, productCount);
+      throw e;
+    }
+
+    return task.getFuture();
+  }
+
+  private MicroBatchQueue<ProductBuyTask> getProductQueue(int productIndex) {
+    return productQueues.computeIfAbsent(productIndex,
+        key -> new MicroBatchQueue<>(batchSize, maxWaitMilSec, queueCapacity,
+            maxBatchesPerDrain, writerExecutor, tasks -> processBatch(key, tasks)));
+  }
+
+  /**
+   * 배치 처리
+   * 한 트랜잭션에서 처리한 뒤, 결과에 따라 재고를 확정/반환하고 요청자에게 응답한다.
+   *
+   * @param productIndex 상품 인덱스
+   * @param tasks        구매 요청들
+   */
+  private void processBatch(int productIndex, List<ProductBuyTask> tasks) {
+    try {
+      productService.buyUserProducts(productIndex, tasks);
+    } catch (RuntimeException e) {
+      // 트랜잭션이 롤백되었으므로 배치 전체 실패
+      log.error("product buy batch failed. productIndex : {}, size : {}",
+          productIndex, tasks.size(), e);
+      tasks.forEach(task -> task.fail(e));
+    }
+
+    for (ProductBuyTask task : tasks) {
+      int productCount = task.getRequest().getProductCount();
+      if (task.isSucceeded()) {
+        productStockEngine.commit(productIndex, productCount);
+      } else {
+        productStockEngine.rollback(productIndex, productCount);
+      }
+      task.complete();
+    }
+  }
+
+  @PreDestroy
+  private void destroy() throws InterruptedException {
+    writerExecutor.shutdown();
+    if (!writerExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+      log.warn("product buy writer did not terminate in time");
+    }
+    // 종료 전 남은 요청 처리
+    productQueues.values().forEach(MicroBatchQueue::flush);
+  }
+}
@@ -0,0 +1,119 @@
+package com.example.web.service.product;
+
+import com.example.web.dto.product.UserProductBatchBuyDto;
+import com.example.web.dto.product.UserProductBuyDto;
+import com.example.web.model.exception.CustomErrorException;
+import com.example.web.service.ServiceBase;
+import com.example.web.service.product.stock.ProductStockEngine;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 상품 구매 진입점
+ * 트랜잭션 시작 전에 메모리 재고를 예약하고, 구매 트랜잭션 결과에 따라 재고를 확정/반환한다.
+ * 그룹 커밋 모드면 상품별 파이프라인에 넘겨 배치 트랜잭션으로 처리하고, 요청 스레드는 결과를 기다리지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ProductBuyService extends ServiceBase {
+
+  @Value("${product.buy.group-commit.enabled}")
+  private boolean groupCommitEnabled;
+
+  private final ProductService productService;
+  private final ProductStockEngine productStockEngine;
+  private final ProductBuyPipeline productBuyPipeline;
+
+  /**
+   * 상품 구매
+   *
+   * @param request 구매 요청
+   * @return 구매 결과 (그룹 커밋 모드면 배치 트랜잭션이 끝날 때 완료)
+   */
+  public CompletableFuture<UserProductBuyDto.Response> buyUserProduct(
+      UserProductBuyDto.Request request) {
+    if (groupCommitEnabled) {
+      return productBuyPipeline.submit(getUserIndex(), request);
+    }
+
+    return CompletableFuture.completedFuture(buyUserProductNow(request));
+  }
+
+  private UserProductBuyDto.Response buyUserProductNow(UserProductBuyDto.Request request) {
+
+    int productIndex = request.getProductIndex();
+    int productCount = request.getProductCount();
+    // 1. 상품 재고 예약 (DB 접근 없음)
+    productStockEngine.reserve(productIndex, productCount);
+    try {
+      // 2. 구매 트랜잭션 진행
+      UserProductBuyDto.Response response = productService.buyUserProduct(request);
+      // 3. 재고 확정
+      productStockEngine.commit(productIndex, productCount);
+
+      return response;
+    } catch (RuntimeException e) {
+      // 구매 실패시 예약한 재고 반환
+      productStockEngine.rollback(productIndex, productCount);
+      throw e;
+    }
+  }
+
+  /**
+   * 여러 상품 한번에 구매 (전부 성공 or 전부 실패)
+   * 같은 상품이 여러번 있으면 수량을 합친 뒤, 모든 상품 재고를 예약하고 한 트랜잭션에서 구매한다.
+   *
+   * @param request 구매할 상품 목록
+   * @return 상품별 구매 결과
+   */
+  public UserProductBatchBuyDto.Response buyUserProductList(UserProductBatchBuyDto.Request request) {
+    // 1. 상품별 구매 수량 (요청 순서 유지)
+    Map<Integer, Integer> productCounts = getProductCounts(request);
+    // 2. 상품 재고 예약 (하나라도 부족하면 예약한 재고 반환)
+    Map<Integer, Integer> reservedCounts = new LinkedHashMap<>();
+    try {
+      for (Map.Entry<Integer, Integer> productCount : productCounts.entrySet()) {
+        productStockEngine.reserve(productCount.getKey(), productCount.getValue());
+        reservedCounts.put(productCount.getKey(), productCount.getValue());
+      }
+      // 3. 구매 트랜잭션 진행
+      UserProductBatchBuyDto.Response response = productService.buyUserProductList(productCounts);
+      // 4. 재고 확정
+      productCounts.forEach(productStockEngine::commit);
+
+      return response;
+    } catch (RuntimeException e) {
+      reservedCounts.forEach(productStockEngine::rollback);
+      throw e;
+    }
+  }
+
+  /**
+   * 상품별 구매 수량 합계
+   * 같은 상품 수량 합계가 0 이하거나 최대 수량을 넘으면 10102 예외 (int overflow 포함)
+   *
+   * @param request 구매할 상품 목록
+   * @return 상품 인덱스 -> 구매 수량 (요청 순서 유지)
+   */
+  private Map<Integer, Integer> getProductCounts(UserProductBatchBuyDto.Request request) {
+    Map<Integer, Integer> productCounts = new LinkedHashMap<>();
+    for (UserProductBuyDto.Request product : request.getProducts()) {
+      int productCount;
+      try {
+        productCount = productCounts.merge(product.getProductIndex(), product.getProductCount(),
+            Math::addExact);
+      } catch (ArithmeticException e) {
+        throw CustomErrorException.builder().resultValue(10102).build();
+      }
+      if (productCount <= 0 || productCount > UserProductBuyDto.MAX_PRODUCT_COUNT) {
+        throw CustomErrorException.builder().resultValue(10102).build();
+      }
+    }
+
+    return productCounts;
+  }
+}
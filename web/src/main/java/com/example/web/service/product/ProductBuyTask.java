@@ -0,0 +1,50 @@
+package com.example.web.service.product;
+
+import com.example.web.dto.product.UserProductBuyDto;
+import java.util.concurrent.CompletableFuture;
+import lombok.Getter;
+
+/**
+ * 그룹 커밋 구매 요청 하나
+ * 배치 트랜잭션 안에서 결과(response or exception)를 기록하고, 트랜잭션이 끝난 뒤 complete 한다.
+ */
+@Getter
+public class ProductBuyTask {
+
+  private final long userIndex;
+  private final UserProductBuyDto.Request request;
+  private final CompletableFuture<UserProductBuyDto.Response> future = new CompletableFuture<>();
+
+  private UserProductBuyDto.Response response;
+  private RuntimeException exception;
+
+  public ProductBuyTask(long userIndex, UserProductBuyDto.Request request) {
+    this.userIndex = userIndex;
+    this.request = request;
+  }
+
+  public void succeed(UserProductBuyDto.Response response) {
+    this.response = response;
+    this.exception = null;
+  }
+
+  public void fail(RuntimeException exception) {
+    this.response = null;
+    this.exception = exception;
+  }
+
+  public boolean isSucceeded() {
+    return response != null;
+  }
+
+  /**
+   * 기록된 결과로 요청자에게 응답
+   */
+  public void complete() {
+    if (isSucceeded()) {
+      future.complete(response);
+      return;
+    }
+    future.completeExceptionally(exception);
+  }
+}
@@ -0,0 +1,180 @@
+package com.example.web.service.product;
+
+import com.example.web.dto.product.ProductInfoDto;
+import com.example.web.jpa.entity.product.Product;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 상품 목록 캐시
+ * 상품 목록을 버전과 함께 메모리에 보관하며, 상품 수정/재고 변경시 버전을 올려 무효화한다.
+ * 버전은 /product/info 의 ETag 로 사용된다.
+ * 버전별로 응답 JSON(일반, gzip)을 한번만 직렬화하여 보관할 수 있다.
+ */
+@Component
+public class ProductCatalogCache {
+
+  // 서버 재시작시 이전 프로세스의 ETag 와 구분하기 위한 값
+  private final String bootId = Long.toHexString(System.currentTimeMillis());
+
+  private final AtomicLong version = new AtomicLong(1);
+
+  private volatile Snapshot snapshot;
+
+  private final ObjectMapper objectMapper;
+
+  private final Counter hitCounter;
+  private final Counter missCounter;
+
+  public ProductCatalogCache(MeterRegistry meterRegistry, ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+    this.hitCounter = Counter.builder("product.catalog.cache")
+        .tag("result", "hit")
+        .description("상품 목록 캐시 조회 수")
+        .register(meterRegistry);
+    this.missCounter = Counter.builder("product.catalog.cache")
+        .tag("result", "miss")
+        .description("상품 목록 캐시 조회 수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 상품 목록 조회 (캐시에 없거나 버전이 바뀌었으면 loader 로 로드)
+   *
+   * @param loader DB 조회
+   * @return 상품 목록
+   */
+  public List<Product> getProducts(Supplier<List<Product>> loader) {
+    return getSnapshot(loader).products;
+  }
+
+  /**
+   * 직렬화된 상품 정보 응답 조회 (버전별로 한번만 직렬화)
+   *
+   * @param loader DB 조회
+   * @return 상품 정보 응답(ProductInfoDto.Response) JSON
+   */
+  public RenderedBody getRenderedBody(Supplier<List<Product>> loader) {
+    Snapshot current = getSnapshot(loader);
+
+    RenderedBody renderedBody = current.renderedBody;
+    if (renderedBody == null) {
+      renderedBody = render(current.products);
+      current.renderedBody = renderedBody;
+    }
+    return renderedBody;
+  }
+
+  /**
+   * 현재 버전의 ETag
+   * gzip 응답은 본문 바이트가 다르므로 다른 ETag 를 쓴다. (strong ETag 는 표현마다 달라야 한다.)
+   *
+   * @param isGzip gzip 응답 여부
+   * @return ETag 값 (따옴표 포함)
+   */
+  public String getETag(boolean isGzip) {
+    return "\"" + bootId + "-" + version.get() + (isGzip ? "-gzip" : "") + "\"";
+  }
+
+  /**
+   * 캐시 무효화 (버전 증가)
+   */
+  public void invalidate() {
+    version.incrementAndGet();
+    snapshot = null;
+  }
+
+  /**
+   * 트랜잭션 커밋 후 캐시 무효화 (트랜잭션이 없으면 바로 무효화)
+   */
+  public void invalidateAfterCommit() {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      invalidate();
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        invalidate();
+      }
+    });
+  }
+
+  private Snapshot getSnapshot(Supplier<List<Product>> loader) {
+    long currentVersion = version.get();
+    Snapshot current = snapshot;
+    if (current != null && current.version == currentVersion) {
+      hitCounter.increment();
+      return current;
+    }
+
+    missCounter.increment();
+    // 로드 중에 무효화 되면 이전 버전으로 저장되어 다음 조회때 다시 로드된다.
+    current = new Snapshot(currentVersion, List.copyOf(loader.get()));
+    snapshot = current;
+    return current;
+  }
+
+  private RenderedBody render(List<Product> products) {
+    ProductInfoDto.Response response = ProductInfoDto.Response.builder()
+        .products(products)
+        .build();
+
+    try {
+      byte[] plain = objectMapper.writeValueAsBytes(response);
+
+      ByteArrayOutputStream outputStream = new ByteArrayOutputStream(plain.length / 2 + 64);
+      try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+        gzipOutputStream.write(plain);
+      }
+
+      return new RenderedBody(plain, outputStream.toByteArray());
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException(e);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static class Snapshot {
+
+    private final long version;
+    private final List<Product> products;
+    // 최초 요청시 직렬화
+    private volatile RenderedBody renderedBody;
+
+    private Snapshot(long version, List<Product> products) {
+      this.version = version;
+      this.products = products;
+    }
+  }
+
+  /**
+   * 직렬화된 응답 (수정하지 말 것)
+   */
+  @Getter
+  public static class RenderedBody {
+
+    private final byte[] plain;
+    private final byte[] gzip;
+
+    private RenderedBody(byte[] plain, byte[] gzip) {
+      this.plain = plain;
+      this.gzip = gzip;
+    }
+  }
+}
@@ -1,5 +1,6 @@
 package com.example.web.service.product;
 
+import com.example.web.dto.product.UserProductBatchBuyDto;
 import com.example.web.dto.product.UserProductBuyDto;
 import com.example.web.dto.product.ProductEditDto;
 import com.example.web.dto.product.ProductInfoDto;
@@ -9,26 +10,35 @@ import com.example.web.jpa.entity.product.Product;
 import com.example.web.jpa.entity.product.UserProduct;
 import com.example.web.jpa.entity.product.UserProductLog;
 import com.example.web.jpa.entity.product.id.UserProductId;
-import com.example.web.jpa.entity.user.UserInfo;
 import com.example.web.jpa.entity.user.UserMoneyLog;
 import com.example.web.jpa.repository.product.ProductRepository;
-import com.example.web.jpa.repository.product.UserProductLogRepository;
 import com.example.web.jpa.repository.product.UserProductLogRepositorySupport;
 import com.example.web.jpa.repository.product.UserProductRepository;
 import com.example.web.model.enums.MoneyLogType;
 import com.example.web.model.enums.ProductType;
 import com.example.web.model.exception.CustomErrorException;
 import com.example.web.service.ServiceBase;
+import com.example.web.service.log.LogSink;
+import com.example.web.service.product.stock.ProductStockEngine;
 import com.example.web.service.user.UserService;
+import com.example.web.util.cursor.LogCursor;
 import jakarta.annotation.PostConstruct;
 import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.example.web.util.CommonUtil.getLogPageSize;
 
 @Transactional(readOnly = true)
 @Service
@@ -37,9 +47,11 @@ public class ProductService extends ServiceBase {
 
   private final ProductRepository productRepository;
   private final UserProductRepository userProductRepository;
-  private final UserProductLogRepository userProductLogRepository;
   private final UserProductLogRepositorySupport userProductLogRepositorySupport;
   private final UserService userService;
+  private final ProductCatalogCache productCatalogCache;
+  private final ProductStockEngine productStockEngine;
+  private final LogSink logSink;
 
   @PostConstruct
   private void init() {
@@ -61,13 +73,36 @@ public class ProductService extends ServiceBase {
     productRepository.saveAll(staticProducts);
   }
 
+  /**
+   * 상품 전체 정보 조회 (캐시 사용)
+   * 캐시 적중시 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행한다.
+   */
+  @Transactional(propagation = Propagation.SUPPORTS)
   public ProductInfoDto.Response getProductInfo() {
 
     return ProductInfoDto.Response.builder()
-        .products(productRepository.findAll())
+        .products(productCatalogCache.getProducts(productRepository::findAll))
         .build();
   }
 
+  /**
+   * 직렬화된 상품 전체 정보 조회 (캐시 사용)
+   */
+  @Transactional(propagation = Propagation.SUPPORTS)
+  public ProductCatalogCache.RenderedBody getRenderedProductInfo() {
+    return productCatalogCache.getRenderedBody(productRepository::findAll);
+  }
+
+  /**
+   * 현재 상품 정보 버전의 ETag
+   *
+   * @param isGzip gzip 응답 여부
+   */
+  @Transactional(propagation = Propagation.SUPPORTS)
+  public String getProductInfoETag(boolean isGzip) {
+    return productCatalogCache.getETag(isGzip);
+  }
+
   public UserProductInfoDto.Response getUserProductInfo() {
 
     List<UserProduct> userProducts = userProductRepository
@@ -95,6 +130,9 @@ public class ProductService extends ServiceBase {
     Product product = getProduct(request);
     // 2. 정보 저장
     saveProductInfo(product);
+    productCatalogCache.invalidateAfterCommit();
+    // 메모리 재고도 수정한 수량으로 다시 로드
+    productStockEngine.resetAfterCommit(product.getProductIndex());
 
     return ProductEditDto.Response.builder()
         .product(product)
@@ -122,44 +160,44 @@ public class ProductService extends ServiceBase {
     productRepository.save(product);
   }
 
+  /**
+   * 유저 상품 구매
+   * 상품 재고 확인/차감은 ProductBuyService 에서 트랜잭션 시작 전에 메모리 재고로 처리한다.
+   *
+   * @param request 구매 요청
+   * @return 구매 결과
+   */
   @Transactional
   public UserProductBuyDto.Response buyUserProduct(UserProductBuyDto.Request request) {
     // 1. dto 생성
     UserProductBuyDto.Dto dto = getDto(request);
-    // 2. 유저가 구매할 수 있는 상품의 남은량 확인
-    checkProductCount(dto);
-    // 3. 유저가 구매하는데 필요한 돈 충분한지 확인
-    checkUserMoney(dto);
-    // 4. 상품 기획데이터 개수 차감
-    minusProductCount(dto);
-    // 5. 유저의 재화 차감
+    // 2. 유저의 재화 차감 (돈이 부족하면 차감하지 않고 예외)
     minusUserMoney(dto);
-    // 6. 유저의 상품 개수 증가
+    // 3. 유저의 상품 개수 증가
     addUserProduct(dto);
-    // 7. 로그 정보 생성
-    setLog(dto);
-    // 8. DB 반영
+    // 4. 로그 정보 생성
+    setUserProductLog(dto);
+    // 5. DB 반영
     saveProductBuy(dto);
 
     return UserProductBuyDto.Response.builder()
-        .userMoney(dto.getUserInfo().getMoney())
+        .userMoney(dto.getUserMoney())
         .userProduct(dto.getUserProduct())
         .build();
   }
 
   private UserProductBuyDto.Dto getDto(UserProductBuyDto.Request request) {
-    // 1. 유저 정보 조회
-    UserInfo userInfo = userService.getUserInfoOrElseThrow(getUserIndex());
+    // 1. 유저 인덱스 (유저 정보는 돈 차감시 update 문으로 확인한다)
+    long userIndex = getUserIndex();
     // 2. 상품 기획 데이터 정보 조회
     Product product = getProductOrElseThrow(request.getProductIndex());
     // 3. 유저 상품 정보 조회
-    UserProduct userProduct = getUserProduct(product.getProductIndex(), userInfo.getUserIndex(),
-        product);
+    UserProduct userProduct = getUserProduct(product.getProductIndex(), userIndex, product);
     // 4. 구매하는데 필요한 돈 = 상품 가격 * 개수
-    long needBuyMoney = product.getPrice() * request.getProductCount();
+    long needBuyMoney = (long) product.getPrice() * request.getProductCount();
 
     return UserProductBuyDto.Dto.builder()
-        .userInfo(userInfo)
+        .userIndex(userIndex)
         .product(product)
         .userProduct(userProduct)
         .request(request)
@@ -187,35 +225,18 @@ public class ProductService extends ServiceBase {
             .build());
   }
 
-  private void checkProductCount(UserProductBuyDto.Dto dto) {
-    int needProductCount = dto.getRequest().getProductCount();
-    int remainProductCount = dto.getProduct().getQuantity();
-
-    if (remainProductCount < needProductCount) {
-      throw CustomErrorException.builder().resultValue(10101).build();
-    }
-  }
-
   /**
-   * 상품 구매에 필요한 돈 충분한지 확인
+   * 유저의 재화 차감 및 돈 변화 로그 저장
+   * 돈 확인과 차감을 조건부 update 문 한번으로 처리한다.
    *
    * @param dto
    */
-  private void checkUserMoney(UserProductBuyDto.Dto dto) {
-    // 필요한 돈 = 상품 가격 * 구매 상품 개수
-    long needMoney = dto.getProduct().getPrice() * dto.getRequest().getProductCount();
-
-    userService.checkEnoughMoney(needMoney, dto.getUserInfo());
-  }
-
-  private void minusProductCount(UserProductBuyDto.Dto dto) {
-    Product product = dto.getProduct();
-    product.addProductQuantity(-1 * dto.getRequest().getProductCount());
-  }
-
   private void minusUserMoney(UserProductBuyDto.Dto dto) {
-    UserInfo userInfo = dto.getUserInfo();
-    userInfo.addMoney(-1 * dto.getNeedBuyMoney());
+    UserMoneyLog userMoneyLog = userService.saveUserMoney(dto.getUserIndex(),
+        -1 * dto.getNeedBuyMoney(), MoneyLogType.PRODUCT);
+
+    dto.setUserMoneyLog(userMoneyLog);
+    dto.setUserMoney(userMoneyLog.getAfterMoney());
   }
 
   private void addUserProduct(UserProductBuyDto.Dto dto) {
@@ -224,29 +245,10 @@ public class ProductService extends ServiceBase {
     userProduct.addProductCount(buyProductCount);
   }
 
-  private void setLog(UserProductBuyDto.Dto dto) {
-    setUserMoneyLog(dto);
-    setUserProductLog(dto);
-  }
-
-  private void setUserMoneyLog(UserProductBuyDto.Dto dto) {
-    UserInfo userInfo = dto.getUserInfo();
-    long afterProductBuyMoney = userInfo.getMoney();
-
-    UserMoneyLog userMoneyLog = UserMoneyLog.builder()
-        .logType(MoneyLogType.PRODUCT)
-        .userIndex(userInfo.getUserIndex())
-        .beforeMoney(afterProductBuyMoney + dto.getNeedBuyMoney())
-        .afterMoney(afterProductBuyMoney)
-        .build();
-
-    dto.setUserMoneyLog(userMoneyLog);
-  }
-
   private void setUserProductLog(UserProductBuyDto.Dto dto) {
     int afterProductCount = dto.getUserProduct().getProductCount();
     int beforeProductCount = afterProductCount - dto.getRequest().getProductCount();
-    long userIndex = dto.getUserInfo().getUserIndex();
+    long userIndex = dto.getUserIndex();
 
     UserProductLog userProductLog = UserProductLog.builder()
         .userIndex(userIndex)
@@ -258,34 +260,200 @@ public class ProductService extends ServiceBase {
     dto.setUserProductLog(userProductLog);
   }
   private void saveProductBuy(UserProductBuyDto.Dto dto) {
-    userService.saveUserMoney(dto.getUserInfo(), dto.getUserMoneyLog());
-    productRepository.save(dto.getProduct());
     userProductRepository.save(dto.getUserProduct());
-    userProductLogRepository.save(dto.getUserProductLog());
+    logSink.write(dto.getUserProductLog());
+  }
+
+  /**
+   * 그룹 커밋 배치 구매
+   * 같은 상품에 대한 여러 유저의 구매를 한 트랜잭션에서 처리하고, 요청별 결과를 task 에 기록한다.
+   * 돈이 부족한 요청은 해당 요청만 실패 처리한다. 재고는 ProductBuyPipeline 에서 예약/확정한다.
+   *
+   * @param productIndex 상품 인덱스
+   * @param tasks        같은 상품에 대한 구매 요청들
+   */
+  @Transactional
+  public void buyUserProducts(int productIndex, List<ProductBuyTask> tasks) {
+    Product product = getProductOrElseThrow(productIndex);
+    // 유저 인덱스 순으로 처리하여 배치 간 유저 row lock 획득 순서를 맞춘다.
+    List<ProductBuyTask> sortedTasks = tasks.stream()
+        .sorted(Comparator.comparingLong(ProductBuyTask::getUserIndex))
+        .toList();
+    Map<Long, UserProduct> userProducts = getUserProducts(product, sortedTasks);
+
+    List<UserMoneyLog> userMoneyLogs = new ArrayList<>();
+    List<UserProductLog> userProductLogs = new ArrayList<>();
+    for (ProductBuyTask task : sortedTasks) {
+      long userIndex = task.getUserIndex();
+      int buyProductCount = task.getRequest().getProductCount();
+      long needBuyMoney = (long) product.getPrice() * buyProductCount;
+      // 1. 유저의 재화 차감 (실패해도 배치 트랜잭션은 유지)
+      UserMoneyLog userMoneyLog = userService.addUserMoney(userIndex, -1 * needBuyMoney,
+          MoneyLogType.PRODUCT);
+      if (userMoneyLog == null) {
+        task.fail(userService.getMoneyFailedException(userIndex));
+        continue;
+      }
+      // 2. 유저의 상품 개수 증가
+      UserProduct userProduct = userProducts.computeIfAbsent(userIndex,
+          key -> UserProduct.builder()
+              .userIndex(key)
+              .product(product)
+              .updatedAt(OffsetDateTime.now())
+              .build());
+      userProduct.addProductCount(buyProductCount);
+      // 3. 로그 정보 생성
+      int afterProductCount = userProduct.getProductCount();
+      userMoneyLogs.add(userMoneyLog);
+      userProductLogs.add(UserProductLog.builder()
+          .userIndex(userIndex)
+          .productIndex(productIndex)
+          .afterProductCount(afterProductCount)
+          .beforeProductCount(afterProductCount - buyProductCount)
+          .build());
+
+      task.succeed(UserProductBuyDto.Response.builder()
+          .userMoney(userMoneyLog.getAfterMoney())
+          .userProduct(userProduct)
+          .build());
+    }
+    // 4. DB 반영
+    userService.saveUserMoneyLogs(userMoneyLogs);
+    userProductRepository.saveAll(userProducts.values());
+    logSink.writeAll(userProductLogs);
+  }
+
+  /**
+   * 유저 여러 상품 한번에 구매
+   * 상품/유저 상품 정보를 IN 조회 한번씩으로 가져오고, 총 필요 돈을 한번에 차감한다.
+   * 하나라도 실패하면 전체 롤백된다. 재고는 ProductBuyService 에서 예약/확정한다.
+   *
+   * @param productCounts 상품 인덱스별 구매 수량
+   * @return 상품별 구매 결과
+   */
+  @Transactional
+  public UserProductBatchBuyDto.Response buyUserProductList(Map<Integer, Integer> productCounts) {
+    long userIndex = getUserIndex();
+    // 1. 상품 기획 데이터 정보 조회
+    Map<Integer, Product> products = getProductsOrElseThrow(productCounts.keySet());
+    // 2. 유저 상품 정보 조회
+    Map<Integer, UserProduct> userProducts = userProductRepository
+        .findByUserIndexAndProductIn(userIndex, products.values()).stream()
+        .collect(Collectors.toMap(f -> f.getProduct().getProductIndex(), Function.identity()));
+    // 3. 구매하는데 필요한 총 돈 차감 (돈이 부족하면 차감하지 않고 예외)
+    long totalNeedBuyMoney = productCounts.entrySet().stream()
+        .mapToLong(e -> (long) products.get(e.getKey()).getPrice() * e.getValue())
+        .sum();
+    UserMoneyLog userMoneyLog = userService.saveUserMoney(userIndex, -1 * totalNeedBuyMoney,
+        MoneyLogType.PRODUCT);
+    // 4. 유저의 상품 개수 증가 및 로그 정보 생성
+    List<UserProductBatchBuyDto.Result> results = new ArrayList<>();
+    List<UserProductLog> userProductLogs = new ArrayList<>();
+    for (Map.Entry<Integer, Integer> productCount : productCounts.entrySet()) {
+      Product product = products.get(productCount.getKey());
+      int buyProductCount = productCount.getValue();
+
+      UserProduct userProduct = userProducts.computeIfAbsent(product.getProductIndex(),
+          key -> UserProduct.builder()
+              .userIndex(userIndex)
+              .product(product)
+              .updatedAt(OffsetDateTime.now())
+              .build());
+      userProduct.addProductCount(buyProductCount);
+
+      int afterProductCount = userProduct.getProductCount();
+      userProductLogs.add(UserProductLog.builder()
+          .userIndex(userIndex)
+          .productIndex(product.getProductIndex())
+          .afterProductCount(afterProductCount)
+          .beforeProductCount(afterProductCount - buyProductCount)
+          .build());
+
+      results.add(UserProductBatchBuyDto.Result.builder()
+          .productIndex(product.getProductIndex())
+          .productCount(buyProductCount)
+          .buyMoney((long) product.getPrice() * buyProductCount)
+          .userProduct(userProduct)
+          .build());
+    }
+    // 5. DB 반영
+    userProductRepository.saveAll(userProducts.values());
+    logSink.writeAll(userProductLogs);
+
+    return UserProductBatchBuyDto.Response.builder()
+        .userMoney(userMoneyLog.getAfterMoney())
+        .results(results)
+        .build();
   }
 
+  private Map<Integer, Product> getProductsOrElseThrow(Set<Integer> productIndexes) {
+    Map<Integer, Product> products = productRepository.findAllById(productIndexes).stream()
+        .collect(Collectors.toMap(Product::getProductIndex, Function.identity()));
+
+    if (products.size() != productIndexes.size()) {
+      throw CustomErrorException.builder().resultValue(10100).build();
+    }
+
+    return products;
+  }
+
+  private Map<Long, UserProduct> getUserProducts(Product product, List<ProductBuyTask> tasks) {
+    Set<Long> userIndexes = tasks.stream()
+        .map(ProductBuyTask::getUserIndex)
+        .collect(Collectors.toSet());
+
+    return userProductRepository.findByProductAndUserIndexIn(product, userIndexes).stream()
+        .collect(Collectors.toMap(UserProduct::getUserIndex, Function.identity()));
+  }
+
+  /**
+   * 유저 상품 로그 조회 (최신순, 커서 기반 페이지네이션)
+   *
+   * @param productIndex 상품 인덱스
+   * @param startTime    조회 시작 시간
+   * @param endTime      조회 끝 시간
+   * @param cursor       이전 응답의 NextCursor (없으면 첫 페이지)
+   * @param pageSize     페이지 크기
+   * @return 유저 상품 로그, 다음 페이지 커서
+   */
   public UserProductLogDto.Response getUserProductLog(Integer productIndex,
-      LocalDateTime startTime, LocalDateTime endTime) {
-    UserProductLogDto.Dto dto = getDto(productIndex, startTime, endTime);
+      LocalDateTime startTime, LocalDateTime endTime, String cursor, Integer pageSize) {
+    UserProductLogDto.Dto dto = getDto(productIndex, startTime, endTime, cursor, pageSize);
+
+    // 다음 페이지 존재 여부 확인을 위해 하나 더 조회
+    List<UserProductLogDto.Log> userProductLogs = getUserProductLogs(dto);
+    boolean hasNext = userProductLogs.size() > dto.getPageSize();
+    if (hasNext) {
+      userProductLogs = userProductLogs.subList(0, dto.getPageSize());
+    }
 
     return UserProductLogDto.Response.builder()
-        .userProductLogs(getUserProductLogs(dto))
+        .userProductLogs(userProductLogs)
+        .nextCursor(hasNext ? getNextCursor(userProductLogs) : null)
         .build();
   }
 
-  private UserProductLogDto.Dto getDto(int productIndex,
-      LocalDateTime startTime, LocalDateTime endTime) {
+  private UserProductLogDto.Dto getDto(Integer productIndex,
+      LocalDateTime startTime, LocalDateTime endTime, String cursor, Integer pageSize) {
     return UserProductLogDto.Dto.builder()
         .userIndex(getUserIndex())
         .productIndex(productIndex)
         .startTime(startTime)
         .endTime(endTime)
+        .cursor(LogCursor.decode(cursor))
+        .pageSize(getLogPageSize(pageSize))
         .build();
   }
 
-  private List<UserProductLog> getUserProductLogs(UserProductLogDto.Dto dto) {
+  private List<UserProductLogDto.Log> getUserProductLogs(UserProductLogDto.Dto dto) {
     return userProductLogRepositorySupport
         .getUserProductLogs(dto.getUserIndex(), dto.getProductIndex(),
-            dto.getStartTime(), dto.getEndTime());
+            dto.getStartTime(), dto.getEndTime(), dto.getCursor(), dto.getPageSize() + 1);
+  }
+
+  private String getNextCursor(List<UserProductLogDto.Log> userProductLogs) {
+    UserProductLogDto.Log last = userProductLogs.get(userProductLogs.size() - 1);
+
+    return new LogCursor(last.createdAt(), last.logIndex()).encode();
   }
 }
@@ -0,0 +1,250 @@
+package com.example.web.service.product.stock;
+
+import com.example.web.jpa.repository.product.ProductRepository;
+import com.example.web.model.exception.CustomErrorException;
+import com.example.web.service.product.ProductCatalogCache;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 메모리 기반 상품 재고 관리
+ * 상품별 남은 수량을 메모리 카운터로 관리하여 구매시 DB 조회/row lock 없이 재고를 예약하고,
+ * 확정된 변화량은 주기적으로 T_STATIC_Product 에 반영한다.
+ * 사용 순서 : reserve -> (구매 트랜잭션) -> 성공시 commit, 실패시 rollback
+ * 상품 수정으로 다시 로드할 때는 새 예약을 막고 진행 중인 예약이 끝나기를 기다린 뒤 로드하여,
+ * 이전 카운터로 예약한 구매가 새 카운터에 확정/반환되지 않게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductStockEngine {
+
+  @Value("${product.stock.reset-wait-milsec}")
+  private long resetWaitMilSec;
+
+  private final ProductRepository productRepository;
+  private final ProductCatalogCache productCatalogCache;
+
+  // 상품 인덱스별 메모리 재고 (최초 예약시 DB 에서 로드)
+  private final ConcurrentMap<Integer, Stock> stocks = new ConcurrentHashMap<>();
+
+  // 상품 인덱스별 DB 에 아직 반영되지 않은 수량 변화량
+  private final ConcurrentMap<Integer, Integer> pendingQuantities = new ConcurrentHashMap<>();
+
+  /**
+   * 상품 재고 예약
+   * 남은 수량에서 원자적으로 차감하며, 부족하면 예외를 던진다.
+   * 상품 재고를 다시 로드하는 중이면 7 예외(429 + Retry-After)로 거절한다.
+   *
+   * @param productIndex 상품 인덱스
+   * @param count        예약할 상품 개수 (0 이하면 10102 예외)
+   */
+  public void reserve(int productIndex, int count) {
+    if (count <= 0) {
+      throw CustomErrorException.builder().resultValue(10102).build();
+    }
+    Stock stock = getStock(productIndex);
+
+    // 예약 수를 먼저 올린 뒤 확인하여, reset 이 이 예약을 기다리거나 이 예약이 거절되게 한다.
+    stock.reservingCount.incrementAndGet();
+    if (stock.isResetting) {
+      stock.reservingCount.decrementAndGet();
+      throw CustomErrorException.builder().resultValue(7).retryAfterSec(1).build();
+    }
+
+    while (true) {
+      int current = stock.remainQuantity.get();
+      if (current < count) {
+        stock.reservingCount.decrementAndGet();
+        throw CustomErrorException.builder().resultValue(10101).build();
+      }
+      if (stock.remainQuantity.compareAndSet(current, current - count)) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * 예약한 재고 확정
+   * 확정된 변화량은 다음 flush 때 DB 에 반영된다.
+   *
+   * @param productIndex 상품 인덱스
+   * @param count        확정할 상품 개수
+   */
+  public void commit(int productIndex, int count) {
+    // 변화량을 먼저 기록해야 reset 이 예약 종료 후 flush 할 때 포함된다.
+    pendingQuantities.merge(productIndex, -count, Integer::sum);
+
+    Stock stock = stocks.get(productIndex);
+    if (stock != null) {
+      stock.reservingCount.decrementAndGet();
+    }
+  }
+
+  /**
+   * 예약한 재고 반환 (구매 실패시)
+   *
+   * @param productIndex 상품 인덱스
+   * @param count        반환할 상품 개수
+   */
+  public void rollback(int productIndex, int count) {
+    Stock stock = stocks.get(productIndex);
+    if (stock != null) {
+      stock.remainQuantity.addAndGet(count);
+      stock.reservingCount.decrementAndGet();
+    }
+  }
+
+  /**
+   * 메모리 기준 남은 수량 조회
+   *
+   * @param productIndex 상품 인덱스
+   * @return 남은 수량
+   */
+  public int getQuantity(int productIndex) {
+    return getStock(productIndex).remainQuantity.get();
+  }
+
+  /**
+   * 상품 재고 다시 로드 (상품 수량을 직접 수정한 경우, 트랜잭션 밖에서 호출)
+   * 새 예약을 막고 진행 중인 예약이 모두 확정/반환되기를 기다린 뒤, 아직 반영되지 않은 변화량을 DB 에 반영하고
+   * 메모리 카운터는 다음 예약시 DB 에서 다시 로드한다.
+   * 기다리는 시간을 넘거나 변화량 반영에 실패하면 DB 와 어긋나지 않도록 기존 카운터를 유지한다.
+   *
+   * @param productIndex 상품 인덱스
+   */
+  public void reset(int productIndex) {
+    Stock stock = stocks.get(productIndex);
+    if (stock != null) {
+      stock.isResetting = true;
+      if (!awaitReservations(stock)) {
+        stock.isResetting = false;
+        log.error("product stock reset timed out. productIndex : {}", productIndex);
+        return;
+      }
+    }
+
+    if (flush(productIndex)) {
+      productCatalogCache.invalidate();
+    }
+    if (stock == null) {
+      return;
+    }
+    if (pendingQuantities.containsKey(productIndex)) {
+      stock.isResetting = false;
+      log.error("product stock reset failed. productIndex : {}", productIndex);
+      return;
+    }
+    // 다시 로드 중 거절된 예약은 다음 요청에서 새 카운터로 예약한다.
+    stocks.remove(productIndex, stock);
+  }
+
+  /**
+   * 트랜잭션 커밋 후 상품 재고 다시 로드 (트랜잭션이 없으면 바로)
+   *
+   * @param productIndex 상품 인덱스
+   */
+  public void resetAfterCommit(int productIndex) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      reset(productIndex);
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        reset(productIndex);
+      }
+    });
+  }
+
+  private Stock getStock(int productIndex) {
+    Stock stock = stocks.get(productIndex);
+    if (stock != null) {
+      return stock;
+    }
+
+    return stocks.computeIfAbsent(productIndex, key -> new Stock(loadQuantityOrElseThrow(key)));
+  }
+
+  private boolean awaitReservations(Stock stock) {
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(resetWaitMilSec);
+    while (stock.reservingCount.get() > 0) {
+      if (System.nanoTime() - deadline > 0) {
+        return false;
+      }
+      LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+    }
+    return true;
+  }
+
+  private int loadQuantityOrElseThrow(int productIndex) {
+    return productRepository.findQuantityByProductIndex(productIndex)
+        .orElseThrow(() -> CustomErrorException.builder().resultValue(10100).build());
+  }
+
+  /**
+   * 확정된 재고 변화량 DB 반영
+   * 상품별 한번의 update 문으로 반영하며, 실패한 변화량은 다음 flush 때 다시 시도한다.
+   * 반영된 상품이 있으면 상품 목록 캐시를 무효화한다.
+   */
+  @Scheduled(fixedDelayString = "${product.stock.flush-interval-milsec}")
+  public void flush() {
+    boolean isFlushed = false;
+    for (Integer productIndex : pendingQuantities.keySet()) {
+      isFlushed |= flush(productIndex);
+    }
+
+    if (isFlushed) {
+      productCatalogCache.invalidate();
+    }
+  }
+
+  private boolean flush(int productIndex) {
+    Integer quantity = pendingQuantities.remove(productIndex);
+    if (quantity == null || quantity == 0) {
+      return false;
+    }
+
+    try {
+      productRepository.addProductQuantity(productIndex, quantity);
+      return true;
+    } catch (RuntimeException e) {
+      log.error("product stock flush failed. productIndex : {}", productIndex, e);
+      pendingQuantities.merge(productIndex, quantity, Integer::sum);
+      return false;
+    }
+  }
+
+  @PreDestroy
+  private void destroy() {
+    flush();
+  }
+
+  /**
+   * 상품 하나의 메모리 재고
+   */
+  private static class Stock {
+
+    private final AtomicInteger remainQuantity;
+    // 예약 후 아직 확정/반환되지 않은 예약 수
+    private final AtomicInteger reservingCount = new AtomicInteger();
+    // true : 다시 로드 중 (새 예약 거절)
+    private volatile boolean isResetting;
+
+    private Stock(int remainQuantity) {
+      this.remainQuantity = new AtomicInteger(remainQuantity);
+    }
+  }
+}
@@ -0,0 +1,95 @@
+package com.example.web.service.user;
+
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 유저 마지막 로그인 시간 모아서 저장
+ * 로그인시 메모리에만 기록하고, 주기적으로 모인 유저들을 한번의 배치 update 로 T_User_Info 에 반영한다.
+ * 같은 유저가 여러번 로그인하면 가장 최근 시간만 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LastLoginBuffer {
+
+  private static final String UPDATE_SQL =
+      "UPDATE t_user_info SET last_login_at = ? WHERE user_index = ? AND last_login_at < ?";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final UserInfoCache userInfoCache;
+
+  // 유저 인덱스별 DB 에 아직 반영되지 않은 마지막 로그인 시간
+  private final ConcurrentMap<Long, LocalDateTime> pendingLoginTimes = new ConcurrentHashMap<>();
+
+  /**
+   * 마지막 로그인 시간 기록 (다음 flush 때 DB 에 반영)
+   *
+   * @param userIndex   유저 인덱스
+   * @param lastLoginAt 로그인 시간
+   */
+  public void record(long userIndex, LocalDateTime lastLoginAt) {
+    pendingLoginTimes.merge(userIndex, lastLoginAt,
+        (current, next) -> next.isAfter(current) ? next : current);
+  }
+
+  /**
+   * 아직 DB 에 반영되지 않은 마지막 로그인 시간
+   *
+   * @param userIndex 유저 인덱스
+   * @return 없으면 null
+   */
+  public LocalDateTime getPending(long userIndex) {
+    return pendingLoginTimes.get(userIndex);
+  }
+
+  /**
+   * 모인 마지막 로그인 시간 DB 반영
+   * 실패한 시간은 다음 flush 때 다시 시도한다. (그 사이 더 최근 로그인이 있으면 그 시간이 반영된다.)
+   */
+  @Scheduled(fixedDelayString = "${user.last-login.flush-interval-milsec}")
+  public void flush() {
+    List<Map.Entry<Long, LocalDateTime>> loginTimes = new ArrayList<>();
+    for (Long userIndex : pendingLoginTimes.keySet()) {
+      LocalDateTime lastLoginAt = pendingLoginTimes.remove(userIndex);
+      if (lastLoginAt != null) {
+        loginTimes.add(Map.entry(userIndex, lastLoginAt));
+      }
+    }
+
+    if (loginTimes.isEmpty()) {
+      return;
+    }
+
+    try {
+      jdbcTemplate.batchUpdate(UPDATE_SQL, loginTimes, loginTimes.size(), (ps, loginTime) -> {
+        Timestamp lastLoginAt = Timestamp.valueOf(loginTime.getValue());
+        ps.setTimestamp(1, lastLoginAt);
+        ps.setLong(2, loginTime.getKey());
+        ps.setTimestamp(3, lastLoginAt);
+      });
+    } catch (RuntimeException e) {
+      log.error("last login flush failed. count : {}", loginTimes.size(), e);
+      loginTimes.forEach(f -> record(f.getKey(), f.getValue()));
+      return;
+    }
+
+    loginTimes.forEach(f -> userInfoCache.invalidateAfterCommit(f.getKey()));
+  }
+
+  @PreDestroy
+  private void destroy() {
+    flush();
+  }
+}
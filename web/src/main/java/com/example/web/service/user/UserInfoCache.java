@@ -0,0 +1,131 @@
+package com.example.web.service.user;
+
+import com.example.web.jpa.entity.user.UserInfo;
+import com.example.web.util.cache.CacheLoads;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * 유저 정보 2단계 캐시
+ * 1단계 : 요청 범위 (같은 요청 안에서는 한번만 조회)
+ * 2단계 : 최대 크기 제한 메모리 캐시 (크기 초과시 오래 안 쓴 항목부터 제거)
+ * 유저 정보/돈이 바뀌면 1단계는 바로, 2단계는 커밋 후 무효화한다.
+ * 돈 차감은 캐시 값이 아닌 조건부 update 문(UserWalletRepositorySupport)으로만 처리한다.
+ */
+@Component
+public class UserInfoCache {
+
+  private static final String REQUEST_ATTRIBUTE_PREFIX = UserInfoCache.class.getName() + ".";
+
+  // 로드는 CacheLoads 로 락 밖에서 한다. (가상 스레드 pinning 방지)
+  private final AsyncCache<Long, UserInfo> cache;
+
+  private final Counter requestHitCounter;
+
+  public UserInfoCache(MeterRegistry meterRegistry,
+      @Value("${user.info.cache.max-size}") long maxSize,
+      @Value("${user.info.cache.ttl-sec}") long ttlSec) {
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(Duration.ofSeconds(ttlSec))
+        .recordStats()
+        .buildAsync();
+
+    // cache.gets{result=hit|miss}, cache.evictions 등
+    CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), "userInfo");
+    Gauge.builder("user.info.cache.hit.ratio", cache, f -> f.synchronous().stats().hitRate())
+        .description("유저 정보 캐시(2단계) 적중률")
+        .register(meterRegistry);
+    this.requestHitCounter = Counter.builder("user.info.cache.request.hit")
+        .description("유저 정보 요청 범위 캐시(1단계) 적중 수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 유저 정보 조회 (1단계 -> 2단계 -> loader 순)
+   * 2단계 로드 중 무효화가 요청되면 로드가 끝난 후 제거되므로, 커밋 전 값이 남지 않는다.
+   *
+   * @param userIndex 유저 인덱스
+   * @param loader    DB 조회
+   * @return 유저 정보 (호출마다 복사본, 없으면 empty)
+   */
+  public Optional<UserInfo> get(long userIndex, Function<Long, Optional<UserInfo>> loader) {
+    RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+    String attributeName = REQUEST_ATTRIBUTE_PREFIX + userIndex;
+
+    if (requestAttributes != null) {
+      Object cached = requestAttributes.getAttribute(attributeName,
+          RequestAttributes.SCOPE_REQUEST);
+      if (cached instanceof UserInfo userInfo) {
+        requestHitCounter.increment();
+        return Optional.of(copy(userInfo));
+      }
+    }
+
+    UserInfo userInfo = CacheLoads.get(cache, userIndex,
+        key -> loader.apply(key).map(this::copy).orElse(null));
+    if (userInfo == null) {
+      return Optional.empty();
+    }
+
+    if (requestAttributes != null) {
+      requestAttributes.setAttribute(attributeName, userInfo, RequestAttributes.SCOPE_REQUEST);
+    }
+    return Optional.of(copy(userInfo));
+  }
+
+  /**
+   * 유저 정보 무효화
+   * 1단계는 바로 제거하고, 2단계는 트랜잭션 커밋 후 제거한다. (트랜잭션이 없으면 바로 제거)
+   *
+   * @param userIndex 유저 인덱스
+   */
+  public void invalidateAfterCommit(long userIndex) {
+    RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+    if (requestAttributes != null) {
+      requestAttributes.removeAttribute(REQUEST_ATTRIBUTE_PREFIX + userIndex,
+          RequestAttributes.SCOPE_REQUEST);
+    }
+
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      cache.synchronous().invalidate(userIndex);
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCompletion(int status) {
+        // 롤백이어도 트랜잭션 중 로드된 값이 있을 수 있어 항상 제거한다.
+        cache.synchronous().invalidate(userIndex);
+      }
+    });
+  }
+
+  /**
+   * 캐시 값은 여러 스레드가 공유하므로 엔티티 그대로 넘기지 않는다.
+   */
+  private UserInfo copy(UserInfo userInfo) {
+    return UserInfo.builder()
+        .userIndex(userInfo.getUserIndex())
+        .emailAddress(userInfo.getEmailAddress())
+        .nickName(userInfo.getNickName())
+        .createdAt(userInfo.getCreatedAt())
+        .money(userInfo.getMoney())
+        .lastLoginAt(userInfo.getLastLoginAt())
+        .version(userInfo.getVersion())
+        .build();
+  }
+}
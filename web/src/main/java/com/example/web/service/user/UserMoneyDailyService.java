@@ -0,0 +1,142 @@
+package com.example.web.service.user;
+
+import com.example.web.dto.user.UserMoneySummaryDto;
+import com.example.web.jpa.entity.user.UserMoneyDaily;
+import com.example.web.jpa.entity.user.UserMoneyLog;
+import com.example.web.jpa.entity.user.id.UserMoneyDailyId;
+import com.example.web.jpa.repository.user.UserMoneyDailyRepository;
+import com.example.web.jpa.repository.user.UserMoneyDailyRepositorySupport;
+import com.example.web.service.ServiceBase;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 유저 일별 돈 변화 집계 (T_User_Money_Daily)
+ * 돈 변화 로그가 저장될 때 같은 트랜잭션에서 집계를 증감하고,
+ * 매일 전날 집계를 로그 기준으로 다시 계산하여 누락/중복을 보정한다.
+ * 날짜는 서버 시간대 기준이다.
+ */
+@Transactional(readOnly = true)
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class UserMoneyDailyService extends ServiceBase {
+
+  private final UserMoneyDailyRepository userMoneyDailyRepository;
+  private final UserMoneyDailyRepositorySupport userMoneyDailyRepositorySupport;
+
+  /**
+   * 저장하는 로그들의 돈 변화를 일별 집계에 반영
+   * 같은 유저, 날짜, 로그 타입은 합쳐서 한번만 갱신한다.
+   *
+   * @param logEntities 저장하는 로그 엔티티들 (UserMoneyLog 외에는 무시)
+   */
+  @Transactional
+  public void accumulate(Collection<?> logEntities) {
+    Map<UserMoneyDailyId, UserMoneyDaily> dailies = new LinkedHashMap<>();
+
+    for (Object logEntity : logEntities) {
+      if (!(logEntity instanceof UserMoneyLog moneyLog)) {
+        continue;
+      }
+
+      LocalDate logDate = getLogDate(moneyLog.getCreatedAt());
+      UserMoneyDailyId id = UserMoneyDailyId.builder()
+          .userIndex(moneyLog.getUserIndex())
+          .logDate(logDate)
+          .logType(moneyLog.getLogType())
+          .build();
+
+      UserMoneyDaily daily = dailies.computeIfAbsent(id, key -> UserMoneyDaily.builder()
+          .userIndex(moneyLog.getUserIndex())
+          .logDate(logDate)
+          .logType(moneyLog.getLogType())
+          .build());
+      daily.setTotalDelta(daily.getTotalDelta()
+          + moneyLog.getAfterMoney() - moneyLog.getBeforeMoney());
+      daily.setLogCount(daily.getLogCount() + 1);
+    }
+
+    for (UserMoneyDaily daily : dailies.values()) {
+      userMoneyDailyRepository.addDaily(daily.getUserIndex(), daily.getLogDate(),
+          daily.getLogType().getType(), daily.getTotalDelta(), daily.getLogCount());
+    }
+  }
+
+  /**
+   * 전날 일별 집계 재계산
+   */
+  @Scheduled(cron = "${user.money.daily.rebuild-cron}")
+  @Transactional
+  public void rebuildYesterday() {
+    rebuild(LocalDate.now().minusDays(1));
+  }
+
+  /**
+   * 하루치 일별 집계를 로그 기준으로 다시 계산
+   * 조회 후 삭제/저장하지 않고 DB 에서 바로 덮어쓰므로, 재계산 중 저장되는 로그의 집계 반영(accumulate)과 겹쳐도
+   * 기본키 충돌이 없고 행마다 조회하지 않는다.
+   *
+   * @param logDate 재계산할 날짜
+   */
+  @Transactional
+  public void rebuild(LocalDate logDate) {
+    OffsetDateTime startTime = logDate.atStartOfDay(ZoneId.systemDefault()).toOffsetDateTime();
+    OffsetDateTime endTime = logDate.plusDays(1).atStartOfDay(ZoneId.systemDefault())
+        .toOffsetDateTime();
+
+    int deletedCount = userMoneyDailyRepository.deleteDailyWithoutLogs(logDate, startTime,
+        endTime);
+    int rebuiltCount = userMoneyDailyRepository.rebuildDaily(logDate, startTime, endTime);
+
+    log.info("user money daily rebuilt. logDate : {}, rows : {}, deleted : {}", logDate,
+        rebuiltCount, deletedCount);
+  }
+
+  /**
+   * 유저 돈 변화 기간 집계 조회
+   *
+   * @param logType   로그 타입 (null 이면 전체)
+   * @param startDate 조회 시작 날짜 (포함)
+   * @param endDate   조회 끝 날짜 (포함)
+   * @return 일별 집계, 기간 합계
+   */
+  public UserMoneySummaryDto.Response getUserMoneySummary(Integer logType,
+      LocalDate startDate, LocalDate endDate) {
+    UserMoneySummaryDto.Dto dto = getDto(logType, startDate, endDate);
+
+    List<UserMoneySummaryDto.Daily> dailies = userMoneyDailyRepositorySupport
+        .getUserMoneyDailies(dto.getUserIndex(), dto.getLogType(),
+            dto.getStartDate(), dto.getEndDate());
+
+    return UserMoneySummaryDto.Response.builder()
+        .dailies(dailies)
+        .totalDelta(dailies.stream().mapToLong(UserMoneySummaryDto.Daily::totalDelta).sum())
+        .logCount(dailies.stream().mapToLong(UserMoneySummaryDto.Daily::logCount).sum())
+        .build();
+  }
+
+  private UserMoneySummaryDto.Dto getDto(Integer logType, LocalDate startDate,
+      LocalDate endDate) {
+    return UserMoneySummaryDto.Dto.builder()
+        .userIndex(getUserIndex())
+        .logType(logType)
+        .startDate(startDate)
+        .endDate(endDate)
+        .build();
+  }
+
+  private LocalDate getLogDate(OffsetDateTime createdAt) {
+    return createdAt.atZoneSameInstant(ZoneId.systemDefault()).toLocalDate();
+  }
+}
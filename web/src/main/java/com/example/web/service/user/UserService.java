@@ -1,18 +1,21 @@
 package com.example.web.service.user;
 
-import com.example.web.dto.oauth.OauthNaverLoginDto;
+import com.example.web.dto.oauth.OauthLoginDto;
 import com.example.web.dto.user.UserInfoDto;
 import com.example.web.dto.user.UserMoneyLogInfoDto;
 import com.example.web.jpa.entity.user.UserInfo;
 import com.example.web.jpa.entity.user.UserMoneyLog;
-import com.example.web.jpa.repository.user.UserMoneyLogRepository;
 import com.example.web.jpa.repository.user.UserMoneyLogRepositorySupport;
 import com.example.web.jpa.repository.user.UserRepository;
+import com.example.web.jpa.repository.user.UserWalletRepositorySupport;
+import com.example.web.model.enums.MoneyLogType;
 import com.example.web.model.exception.CustomErrorException;
 import com.example.web.model.oauth.JwtUser;
 import com.example.web.model.oauth.info.OauthUserInfo;
 import com.example.web.service.ServiceBase;
-import com.example.web.util.container.SessionContainer;
+import com.example.web.service.log.LogSink;
+import com.example.web.util.container.RequestContext;
+import com.example.web.util.cursor.LogCursor;
 import java.util.List;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -23,6 +26,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.Optional;
 
+import static com.example.web.util.CommonUtil.getLogPageSize;
 import static com.example.web.util.CommonUtil.getOffsetDateTimeFromLocalDateTime;
 
 @Transactional(readOnly = true)
@@ -32,30 +36,47 @@ import static com.example.web.util.CommonUtil.getOffsetDateTimeFromLocalDateTime
 public class UserService extends ServiceBase {
 
   private final UserRepository userRepository;
-  private final UserMoneyLogRepository userMoneyLogRepository;
   private final UserMoneyLogRepositorySupport userMoneyLogRepositorySupport;
+  private final UserWalletRepositorySupport userWalletRepositorySupport;
+  private final UserInfoCache userInfoCache;
+  private final LastLoginBuffer lastLoginBuffer;
+  private final LogSink logSink;
 
   public Optional<UserInfo> getUserInfo(String emailAddress) {
     return userRepository.findByEmailAddress(emailAddress);
   }
 
-  @Transactional
-  public OauthNaverLoginDto.Response login(boolean isNewUser, @NonNull UserInfo userInfo) {
+  /**
+   * 로그인 처리
+   * 마지막 로그인 시간은 LastLoginBuffer 에 기록만 하고, 모아서 주기적으로 저장한다.
+   *
+   * @param isNewUser 신규 유저 여부
+   * @param userInfo  유저 정보
+   * @return 로그인 응답
+   */
+  public OauthLoginDto.Response login(boolean isNewUser, @NonNull UserInfo userInfo) {
 
     JwtUser jwtUser = JwtUser.builder().userIndex(userInfo.getUserIndex()).build();
-    SessionContainer.setSession(jwtUser);
+    RequestContext.setUser(jwtUser);
 
     LocalDateTime now = LocalDateTime.now();
 
-    userInfo.setLastLoginAt(now);
-    saveUserInfo(userInfo);
+    lastLoginBuffer.record(userInfo.getUserIndex(), now);
 
-    return OauthNaverLoginDto.Response.builder()
+    return OauthLoginDto.Response.builder()
         .isNewUser(isNewUser)
         .serverTime(getOffsetDateTimeFromLocalDateTime(now).toEpochSecond())
         .build();
   }
 
+  /**
+   * 신규 유저 등록
+   * 시퀀스 id 는 flush 때 INSERT 되므로 클래스 단위 읽기 전용 트랜잭션(FlushMode.MANUAL)에서 실행하면 안 된다.
+   *
+   * @param oauthUserInfo 외부 플랫폼 유저 정보
+   * @return 등록된 유저 정보
+   */
+  @Transactional
   public UserInfo saveUserInfo(OauthUserInfo oauthUserInfo) {
     UserInfo userInfo = UserInfo.builder()
         .emailAddress(oauthUserInfo.getEmailAddress())
@@ -65,56 +86,163 @@ public class UserService extends ServiceBase {
     return saveUserInfo(userInfo);
   }
 
+  @Transactional
   public UserInfo saveUserInfo(UserInfo userInfo) {
-    return userRepository.save(userInfo);
+    UserInfo savedUserInfo = userRepository.save(userInfo);
+    userInfoCache.invalidateAfterCommit(savedUserInfo.getUserIndex());
+
+    return savedUserInfo;
   }
 
   public UserInfoDto.Response getUserInfo() {
     UserInfo userInfo = getUserInfoOrElseThrow(getUserIndex());
 
+    // 아직 저장되지 않은 마지막 로그인 시간 반영
+    LocalDateTime pendingLastLoginAt = lastLoginBuffer.getPending(userInfo.getUserIndex());
+    if (pendingLastLoginAt != null && pendingLastLoginAt.isAfter(userInfo.getLastLoginAt())) {
+      userInfo.setLastLoginAt(pendingLastLoginAt);
+    }
+
     return UserInfoDto.Response.builder()
         .userInfo(userInfo)
         .build();
   }
 
+  /**
+   * 유저 정보 조회 (UserInfoCache 를 거친다)
+   * 반환값은 캐시의 복사본이므로 그대로 저장하면 버전 확인으로 오래된 값은 저장되지 않는다.
+   *
+   * @param userIndex 유저 인덱스
+   * @return 유저 정보
+   */
   public UserInfo getUserInfoOrElseThrow(long userIndex) {
-    return userRepository.findById(userIndex)
+    return userInfoCache.get(userIndex, userRepository::findById)
         .orElseThrow(() -> CustomErrorException.builder().resultValue(10000).build());
   }
 
-  public void checkEnoughMoney(long needMoney, UserInfo userInfo) {
-    if (userInfo.getMoney() < needMoney) {
-      throw CustomErrorException.builder().resultValue(10001).build();
+  /**
+   * 유저 돈 증감 후 돈 변화 로그 저장 (로그는 LogSink 설정에 따라 커밋 후 비동기로 저장)
+   * 조건부 update 문 한번으로 처리하며, 돈이 부족하면 반영하지 않고 예외를 던진다.
+   *
+   * @param userIndex 유저 인덱스
+   * @param addMoney  증감할 돈 (음수면 차감)
+   * @param logType   돈 변화 로그 타입
+   * @return 저장한 돈 변화 로그 (afterMoney 가 반영 후 돈)
+   */
+  @Transactional
+  public UserMoneyLog saveUserMoney(long userIndex, long addMoney, MoneyLogType logType) {
+    UserMoneyLog userMoneyLog = addUserMoney(userIndex, addMoney, logType);
+    if (userMoneyLog == null) {
+      throw getMoneyFailedException(userIndex);
     }
+
+    logSink.write(userMoneyLog);
+
+    return userMoneyLog;
   }
 
-  public void saveUserMoney(UserInfo userInfo, UserMoneyLog userMoneyLog) {
-    userRepository.save(userInfo);
-    userMoneyLogRepository.save(userMoneyLog);
+  /**
+   * 유저 돈 증감 (로그는 저장하지 않음)
+   * 여러 유저를 한 트랜잭션에서 처리하는 배치용으로, 실패해도 예외 없이 null 을 반환하여
+   * 트랜잭션이 rollback-only 가 되지 않게 한다.
+   *
+   * @param userIndex 유저 인덱스
+   * @param addMoney  증감할 돈 (음수면 차감)
+   * @param logType   돈 변화 로그 타입
+   * @return 저장 전 돈 변화 로그 (유저 정보가 없거나 돈이 부족하면 null)
+   */
+  @Transactional
+  public UserMoneyLog addUserMoney(long userIndex, long addMoney, MoneyLogType logType) {
+    Long afterMoney = userWalletRepositorySupport.addMoney(userIndex, addMoney);
+    if (afterMoney == null) {
+      return null;
+    }
+    userInfoCache.invalidateAfterCommit(userIndex);
+
+    return UserMoneyLog.builder()
+        .logType(logType)
+        .userIndex(userIndex)
+        .beforeMoney(afterMoney - addMoney)
+        .afterMoney(afterMoney)
+        .build();
   }
 
+  @Transactional
+  public void saveUserMoneyLogs(List<UserMoneyLog> userMoneyLogs) {
+    logSink.writeAll(userMoneyLogs);
+  }
+
+  /**
+   * 돈 증감 실패 원인에 맞는 예외 획득
+   *
+   * @param userIndex 유저 인덱스
+   * @return 유저 정보가 없으면 10000, 돈이 부족하면 10001
+   */
+  public CustomErrorException getMoneyFailedException(long userIndex) {
+    if (userWalletRepositorySupport.getMoney(userIndex) == null) {
+      return CustomErrorException.builder().resultValue(10000).build();
+    }
+
+    return CustomErrorException.builder().resultValue(10001).build();
+  }
+
+  public long getUserMoneyOrElseThrow(long userIndex) {
+    Long money = userWalletRepositorySupport.getMoney(userIndex);
+    if (money == null) {
+      throw CustomErrorException.builder().resultValue(10000).build();
+    }
+
+    return money;
+  }
+
+  /**
+   * 유저 돈 변화 로그 조회 (최신순, 커서 기반 페이지네이션)
+   *
+   * @param logType   로그 타입
+   * @param startTime 조회 시작 시간
+   * @param endTime   조회 끝 시간
+   * @param cursor    이전 응답의 NextCursor (없으면 첫 페이지)
+   * @param pageSize  페이지 크기
+   * @return 유저 돈 변화 로그, 다음 페이지 커서
+   */
   public UserMoneyLogInfoDto.Response getUserMoneyLogInfo(Integer logType,
-      LocalDateTime startTime, LocalDateTime endTime) {
-    UserMoneyLogInfoDto.Dto dto = getDto(logType, startTime, endTime);
+      LocalDateTime startTime, LocalDateTime endTime, String cursor, Integer pageSize) {
+    UserMoneyLogInfoDto.Dto dto = getDto(logType, startTime, endTime, cursor, pageSize);
+
+    // 다음 페이지 존재 여부 확인을 위해 하나 더 조회
+    List<UserMoneyLogInfoDto.Log> userMoneyLogs = getUserMoneyLogs(dto);
+    boolean hasNext = userMoneyLogs.size() > dto.getPageSize();
+    if (hasNext) {
+      userMoneyLogs = userMoneyLogs.subList(0, dto.getPageSize());
+    }
 
     return UserMoneyLogInfoDto.Response.builder()
-        .userMoneyLogs(getUserMoneyLogs(dto))
+        .userMoneyLogs(userMoneyLogs)
+        .nextCursor(hasNext ? getNextCursor(userMoneyLogs) : null)
         .build();
   }
 
   private UserMoneyLogInfoDto.Dto getDto(Integer logType,
-      LocalDateTime startTime, LocalDateTime endTime) {
+      LocalDateTime startTime, LocalDateTime endTime, String cursor, Integer pageSize) {
     return UserMoneyLogInfoDto.Dto.builder()
         .userIndex(getUserIndex())
         .logType(logType)
         .startTime(startTime)
         .endTime(endTime)
+        .cursor(LogCursor.decode(cursor))
+        .pageSize(getLogPageSize(pageSize))
         .build();
   }
 
-  private List<UserMoneyLog> getUserMoneyLogs(UserMoneyLogInfoDto.Dto dto) {
+  private List<UserMoneyLogInfoDto.Log> getUserMoneyLogs(UserMoneyLogInfoDto.Dto dto) {
     return userMoneyLogRepositorySupport
         .getUserMoneyLogs(dto.getUserIndex(), dto.getLogType(),
-            dto.getStartTime(), dto.getEndTime());
+            dto.getStartTime(), dto.getEndTime(), dto.getCursor(), dto.getPageSize() + 1);
+  }
+
+  private String getNextCursor(List<UserMoneyLogInfoDto.Log> userMoneyLogs) {
+    UserMoneyLogInfoDto.Log last = userMoneyLogs.get(userMoneyLogs.size() - 1);
+
+    return new LogCursor(last.createdAt(), last.logIndex()).encode();
   }
 }
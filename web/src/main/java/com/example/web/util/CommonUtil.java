@@ -17,6 +17,10 @@ public class CommonUtil {
   public static final String LOG_ID = "logId";
   public static final String REQUEST_TIME = "requestTime";
 
+  // 로그 조회 한 페이지 기본/최대 개수
+  public static final int DEFAULT_LOG_PAGE_SIZE = 100;
+  public static final int MAX_LOG_PAGE_SIZE = 500;
+
   public static String convertObjectToString(Object obj) {
     //Java 객체 간의 변환 담당 클래스
     ObjectMapper objectMapper = new ObjectMapper();
@@ -38,4 +42,15 @@ public class CommonUtil {
   public static OffsetDateTime getOffsetDateTimeFromLocalDateTime(LocalDateTime now) {
     return now.atOffset(ZoneOffset.UTC);
   }
+
+  /**
+   * 로그 조회 페이지 크기 (없으면 기본값, 1 ~ 최대값 범위로 보정)
+   */
+  public static int getLogPageSize(Integer pageSize) {
+    if (pageSize == null) {
+      return DEFAULT_LOG_PAGE_SIZE;
+    }
+
+    return Math.max(1, Math.min(pageSize, MAX_LOG_PAGE_SIZE));
+  }
 }
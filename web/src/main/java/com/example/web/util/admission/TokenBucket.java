@@ -0,0 +1,94 @@
+package com.example.web.util.admission;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 토큰 버킷 기반 유입 제어
+ * 초당 permitsPerSec 개씩 토큰이 차고, 최대 burst 개까지 한번에 통과시킨다.
+ * 토큰이 없으면 다음 토큰 시간을 예약하고 그 시간까지 기다린다. (예약 순서대로 통과하는 대기열)
+ * 기다려야 하는 시간이 maxWait 를 넘거나 대기 중인 요청이 maxWaiting 이상이면 바로 거절한다.
+ */
+public class TokenBucket {
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final AtomicInteger waiting = new AtomicInteger();
+
+  private final long intervalNanos;
+  private final long burstNanos;
+  private final LongSupplier nanoClock;
+
+  // 다음 토큰을 사용할 수 있는 시간
+  private long nextFreeNanos;
+
+  /**
+   * @param permitsPerSec 초당 통과 수
+   * @param burst         한번에 통과시킬 수 있는 최대 수
+   */
+  public TokenBucket(double permitsPerSec, int burst) {
+    this(permitsPerSec, burst, System::nanoTime);
+  }
+
+  /**
+   * @param permitsPerSec 초당 통과 수
+   * @param burst         한번에 통과시킬 수 있는 최대 수
+   * @param nanoClock     시간(nano) 공급 (테스트용)
+   */
+  public TokenBucket(double permitsPerSec, int burst, LongSupplier nanoClock) {
+    this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSec);
+    this.burstNanos = intervalNanos * (burst - 1);
+    this.nanoClock = nanoClock;
+    this.nextFreeNanos = nanoClock.getAsLong() - burstNanos;
+  }
+
+  /**
+   * 토큰 획득 (필요하면 예약한 시간까지 대기)
+   *
+   * @param maxWaitNanos 최대 대기 시간
+   * @param maxWaiting   최대 대기 요청 수
+   * @return 통과하면 0, 거절하면 토큰이 생길 때까지 남은 시간(nano, 0 보다 큼)
+   */
+  public long acquire(long maxWaitNanos, int maxWaiting) {
+    long waitNanos;
+
+    lock.lock();
+    try {
+      long now = nanoClock.getAsLong();
+      // 오래 쉬었어도 burst 개 까지만 모아둔다.
+      long reservedNanos = Math.max(nextFreeNanos, now - burstNanos);
+      waitNanos = Math.max(0, reservedNanos - now);
+
+      if (waitNanos > 0 && (waitNanos > maxWaitNanos || waiting.get() >= maxWaiting)) {
+        return waitNanos;
+      }
+
+      nextFreeNanos = reservedNanos + intervalNanos;
+      if (waitNanos > 0) {
+        waiting.incrementAndGet();
+      }
+    } finally {
+      lock.unlock();
+    }
+
+    if (waitNanos > 0) {
+      try {
+        TimeUnit.NANOSECONDS.sleep(waitNanos);
+      } catch (InterruptedException e) {
+        // 토큰은 이미 예약했으므로 그대로 통과시킨다.
+        Thread.currentThread().interrupt();
+      } finally {
+        waiting.decrementAndGet();
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * 토큰을 기다리는 중인 요청 수
+   */
+  public int getWaiting() {
+    return waiting.get();
+  }
+}
@@ -5,6 +5,7 @@ import com.example.web.model.response.ExceptionResponse;
 
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -21,6 +22,23 @@ public class CustomExceptionHandler {
     int resultValue = exception.getResultValue();
     com.example.web.model.enums.CustomErrorException enumException = getEnumExceptionOrElseThrow(resultValue);
 
+    // 과부하/외부 장애로 거절한 요청은 스택 없이 다시 시도할 시간만 알려준다. (몰리는 시간에 로그가 넘치지 않도록)
+    // 과부하(7)는 429, 그 외(외부 API 장애 등)는 503
+    if (exception.getRetryAfterSec() > 0) {
+      HttpStatus status =
+          enumException == com.example.web.model.enums.CustomErrorException.TOO_MANY_REQUESTS
+              ? HttpStatus.TOO_MANY_REQUESTS : HttpStatus.SERVICE_UNAVAILABLE;
+
+      ExceptionResponse exceptionResponse = ExceptionResponse.builder()
+          .resultValue(enumException.getResultValue())
+          .resultMsg(enumException.getResultMsg())
+          .build();
+
+      return ResponseEntity.status(status)
+          .header(HttpHeaders.RETRY_AFTER, String.valueOf(exception.getRetryAfterSec()))
+          .body(exceptionResponse);
+    }
+
     log.error("", exception);
 
     ExceptionResponse exceptionResponse = getExceptionResponse(enumException.getResultValue(),
@@ -1,7 +1,7 @@
 package com.example.web.util.advice;
 
 import com.example.web.model.oauth.JwtUser;
-import com.example.web.util.container.SessionContainer;
+import com.example.web.util.container.RequestContext;
 import com.example.web.util.token.JwtTokenUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.MethodParameter;
@@ -31,7 +31,7 @@ public class ResponseAdvice<T> implements ResponseBodyAdvice<T> {
                            Class<? extends HttpMessageConverter<?>> selectedConverterType,
                            ServerHttpRequest request, ServerHttpResponse response) {
 
-    JwtUser userInfo = SessionContainer.getSession();
+    JwtUser userInfo = RequestContext.getUser();
 
 //    ServletServerHttpResponse servletServerHttpResponse = (ServletServerHttpResponse) response;
 //    if (servletServerHttpResponse.getServletResponse().getStatus() != HttpStatus.OK.value()) {
@@ -0,0 +1,21 @@
+package com.example.web.util.archive;
+
+/**
+ * 아카이브 파일 한 행 (돈 변화 로그, 상품 로그 공통)
+ *
+ * @param logIndex         로그 인덱스
+ * @param userIndex        유저 인덱스
+ * @param kind             돈 변화 로그 : 로그 타입, 상품 로그 : 상품 인덱스
+ * @param before           변화 전 값
+ * @param after            변화 후 값
+ * @param createdAtMicros  생성 시간 (epoch 마이크로초)
+ */
+public record ArchiveRow(
+    long logIndex,
+    long userIndex,
+    int kind,
+    long before,
+    long after,
+    long createdAtMicros) {
+
+}
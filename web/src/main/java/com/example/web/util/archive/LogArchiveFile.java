@@ -0,0 +1,327 @@
+package com.example.web.util.archive;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import lombok.Getter;
+
+/**
+ * 로그 아카이브 파일 (블록 단위 컬럼 저장 + gzip)
+ * 시작   : MAGIC, VERSION
+ * 블록들 : BLOCK_ROWS 행씩 나누어 블록별로 따로 gzip 압축한다. 블록 안에서는 컬럼별로 모든 행의 값을 연속 저장
+ *          (logIndex, userIndex, kind, before, after, createdAt)
+ * 푸터   : 행 수, 최소/최대 생성 시간, 최소/최대 유저 인덱스, 블록별 (위치, 길이, 행 수, 유저/시간 범위), 푸터 위치
+ * 행은 유저 인덱스 순으로 저장하므로 한 유저의 행은 몇 개 블록에만 있다.
+ * 조회시 푸터로 조건과 겹치는 블록만 골라 블록 하나씩 읽으므로, 파일 크기와 관계없이 블록 크기 만큼만 메모리를 쓴다.
+ */
+public final class LogArchiveFile {
+
+  public static final String EXTENSION = ".lga";
+
+  // 블록 하나의 최대 행 수
+  public static final int BLOCK_ROWS = 4096;
+
+  private static final int MAGIC = 0x4C474131; // "LGA1"
+  private static final int VERSION = 1;
+
+  private LogArchiveFile() {
+  }
+
+  /**
+   * 아카이브 파일 저장 (임시 파일에 쓴 후 이동하여 중간에 실패해도 깨진 파일이 남지 않는다)
+   *
+   * @param path 저장할 경로
+   * @param rows 저장할 행들 (1개 이상, 유저 인덱스 순)
+   * @return 저장한 파일 헤더
+   */
+  public static Header write(Path path, List<ArchiveRow> rows) throws IOException {
+    Path tempPath = path.resolveSibling(path.getFileName() + ".tmp");
+
+    List<Block> blocks = new ArrayList<>();
+    Header header;
+    try (DataOutputStream output = new DataOutputStream(
+        new BufferedOutputStream(Files.newOutputStream(tempPath)))) {
+      output.writeInt(MAGIC);
+      output.writeInt(VERSION);
+
+      for (int from = 0; from < rows.size(); from += BLOCK_ROWS) {
+        List<ArchiveRow> blockRows = rows.subList(from, Math.min(from + BLOCK_ROWS, rows.size()));
+        long offset = output.size();
+        writeBlock(output, blockRows);
+        blocks.add(Block.of(blockRows, offset, (int) (output.size() - offset)));
+      }
+
+      header = Header.of(blocks);
+      long footerOffset = output.size();
+      writeFooter(output, header);
+      output.writeLong(footerOffset);
+    }
+
+    Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING,
+        StandardCopyOption.ATOMIC_MOVE);
+    return header;
+  }
+
+  /**
+   * 헤더(푸터)만 읽기
+   */
+  public static Header readHeader(Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      ByteBuffer start = read(channel, 0, 8);
+      if (start.getInt() != MAGIC) {
+        throw new IOException("not a log archive file");
+      }
+
+      int version = start.getInt();
+      if (version != VERSION) {
+        throw new IOException("not supported log archive version : " + version);
+      }
+
+      long footerOffset = read(channel, channel.size() - 8, 8).getLong();
+      ByteBuffer footer = read(channel, footerOffset, (int) (channel.size() - 8 - footerOffset));
+      return readFooter(footer);
+    }
+  }
+
+  /**
+   * 블록 하나의 행 읽기
+   *
+   * @param path  파일 경로
+   * @param block 읽을 블록 (readHeader 로 읽은 헤더의 블록)
+   * @return 블록의 행들 (유저 인덱스 순)
+   */
+  public static List<ArchiveRow> readRows(Path path, Block block) throws IOException {
+    byte[] compressed;
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      compressed = read(channel, block.getOffset(), block.getLength()).array();
+    }
+
+    int rowCount = block.getRowCount();
+    try (DataInputStream body = new DataInputStream(
+        new GZIPInputStream(new ByteArrayInputStream(compressed), 64 * 1024))) {
+      long[] logIndexes = readLongs(body, rowCount);
+      long[] userIndexes = readLongs(body, rowCount);
+      int[] kinds = new int[rowCount];
+      for (int i = 0; i < rowCount; i++) {
+        kinds[i] = body.readInt();
+      }
+      long[] befores = readLongs(body, rowCount);
+      long[] afters = readLongs(body, rowCount);
+      long[] createdAtMicros = readLongs(body, rowCount);
+
+      List<ArchiveRow> rows = new ArrayList<>(rowCount);
+      for (int i = 0; i < rowCount; i++) {
+        rows.add(new ArchiveRow(logIndexes[i], userIndexes[i], kinds[i], befores[i], afters[i],
+            createdAtMicros[i]));
+      }
+      return rows;
+    }
+  }
+
+  private static void writeBlock(DataOutputStream output, List<ArchiveRow> rows)
+      throws IOException {
+    // 블록마다 gzip 을 끝내야 하므로, 닫아도 파일 스트림은 닫지 않는다.
+    OutputStream blockOutput = new FilterOutputStream(output) {
+      @Override
+      public void write(byte[] b, int off, int len) throws IOException {
+        out.write(b, off, len);
+      }
+
+      @Override
+      public void close() throws IOException {
+        flush();
+      }
+    };
+
+    try (DataOutputStream body = new DataOutputStream(
+        new GZIPOutputStream(blockOutput, 64 * 1024))) {
+      for (ArchiveRow row : rows) {
+        body.writeLong(row.logIndex());
+      }
+      for (ArchiveRow row : rows) {
+        body.writeLong(row.userIndex());
+      }
+      for (ArchiveRow row : rows) {
+        body.writeInt(row.kind());
+      }
+      for (ArchiveRow row : rows) {
+        body.writeLong(row.before());
+      }
+      for (ArchiveRow row : rows) {
+        body.writeLong(row.after());
+      }
+      for (ArchiveRow row : rows) {
+        body.writeLong(row.createdAtMicros());
+      }
+    }
+  }
+
+  private static void writeFooter(DataOutputStream output, Header header) throws IOException {
+    output.writeInt(header.getRowCount());
+    output.writeLong(header.getMinCreatedAtMicros());
+    output.writeLong(header.getMaxCreatedAtMicros());
+    output.writeLong(header.getMinUserIndex());
+    output.writeLong(header.getMaxUserIndex());
+    output.writeInt(header.getBlocks().size());
+    for (Block block : header.getBlocks()) {
+      output.writeLong(block.getOffset());
+      output.writeInt(block.getLength());
+      output.writeInt(block.getRowCount());
+      output.writeLong(block.getMinCreatedAtMicros());
+      output.writeLong(block.getMaxCreatedAtMicros());
+      output.writeLong(block.getMinUserIndex());
+      output.writeLong(block.getMaxUserIndex());
+    }
+  }
+
+  private static Header readFooter(ByteBuffer footer) {
+    int rowCount = footer.getInt();
+    long minCreatedAt = footer.getLong();
+    long maxCreatedAt = footer.getLong();
+    long minUserIndex = footer.getLong();
+    long maxUserIndex = footer.getLong();
+
+    int blockCount = footer.getInt();
+    List<Block> blocks = new ArrayList<>(blockCount);
+    for (int i = 0; i < blockCount; i++) {
+      blocks.add(new Block(footer.getLong(), footer.getInt(), footer.getInt(), footer.getLong(),
+          footer.getLong(), footer.getLong(), footer.getLong()));
+    }
+
+    return new Header(rowCount, minCreatedAt, maxCreatedAt, minUserIndex, maxUserIndex, blocks);
+  }
+
+  private static ByteBuffer read(FileChannel channel, long position, int length)
+      throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(length);
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer, position + buffer.position()) < 0) {
+        throw new EOFException("log archive file is truncated");
+      }
+    }
+    return buffer.flip();
+  }
+
+  private static long[] readLongs(DataInputStream input, int count) throws IOException {
+    long[] values = new long[count];
+    for (int i = 0; i < count; i++) {
+      values[i] = input.readLong();
+    }
+    return values;
+  }
+
+  /**
+   * 아카이브 파일 헤더 (조회 대상 파일 선별용 메타데이터)
+   */
+  @Getter
+  public static class Header {
+
+    private final int rowCount;
+    private final long minCreatedAtMicros;
+    private final long maxCreatedAtMicros;
+    private final long minUserIndex;
+    private final long maxUserIndex;
+    private final List<Block> blocks;
+
+    private Header(int rowCount, long minCreatedAtMicros, long maxCreatedAtMicros,
+        long minUserIndex, long maxUserIndex, List<Block> blocks) {
+      this.rowCount = rowCount;
+      this.minCreatedAtMicros = minCreatedAtMicros;
+      this.maxCreatedAtMicros = maxCreatedAtMicros;
+      this.minUserIndex = minUserIndex;
+      this.maxUserIndex = maxUserIndex;
+      this.blocks = List.copyOf(blocks);
+    }
+
+    private static Header of(List<Block> blocks) {
+      int rowCount = 0;
+      long minCreatedAt = Long.MAX_VALUE;
+      long maxCreatedAt = Long.MIN_VALUE;
+      long minUserIndex = Long.MAX_VALUE;
+      long maxUserIndex = Long.MIN_VALUE;
+      for (Block block : blocks) {
+        rowCount += block.getRowCount();
+        minCreatedAt = Math.min(minCreatedAt, block.getMinCreatedAtMicros());
+        maxCreatedAt = Math.max(maxCreatedAt, block.getMaxCreatedAtMicros());
+        minUserIndex = Math.min(minUserIndex, block.getMinUserIndex());
+        maxUserIndex = Math.max(maxUserIndex, block.getMaxUserIndex());
+      }
+
+      return new Header(rowCount, minCreatedAt, maxCreatedAt, minUserIndex, maxUserIndex,
+          blocks);
+    }
+
+    /**
+     * 조회 조건과 겹치는지 여부
+     */
+    public boolean overlaps(long userIndex, long fromMicros, long toMicros) {
+      return minUserIndex <= userIndex && userIndex <= maxUserIndex
+          && minCreatedAtMicros <= toMicros && fromMicros <= maxCreatedAtMicros;
+    }
+  }
+
+  /**
+   * 블록 (한번에 읽는 단위)
+   */
+  @Getter
+  public static class Block {
+
+    private final long offset;
+    private final int length;
+    private final int rowCount;
+    private final long minCreatedAtMicros;
+    private final long maxCreatedAtMicros;
+    private final long minUserIndex;
+    private final long maxUserIndex;
+
+    private Block(long offset, int length, int rowCount, long minCreatedAtMicros,
+        long maxCreatedAtMicros, long minUserIndex, long maxUserIndex) {
+      this.offset = offset;
+      this.length = length;
+      this.rowCount = rowCount;
+      this.minCreatedAtMicros = minCreatedAtMicros;
+      this.maxCreatedAtMicros = maxCreatedAtMicros;
+      this.minUserIndex = minUserIndex;
+      this.maxUserIndex = maxUserIndex;
+    }
+
+    private static Block of(List<ArchiveRow> rows, long offset, int length) {
+      long minCreatedAt = Long.MAX_VALUE;
+      long maxCreatedAt = Long.MIN_VALUE;
+      long minUserIndex = Long.MAX_VALUE;
+      long maxUserIndex = Long.MIN_VALUE;
+      for (ArchiveRow row : rows) {
+        minCreatedAt = Math.min(minCreatedAt, row.createdAtMicros());
+        maxCreatedAt = Math.max(maxCreatedAt, row.createdAtMicros());
+        minUserIndex = Math.min(minUserIndex, row.userIndex());
+        maxUserIndex = Math.max(maxUserIndex, row.userIndex());
+      }
+
+      return new Block(offset, length, rows.size(), minCreatedAt, maxCreatedAt, minUserIndex,
+          maxUserIndex);
+    }
+
+    /**
+     * 조회 조건과 겹치는지 여부
+     */
+    public boolean overlaps(long userIndex, long fromMicros, long toMicros) {
+      return minUserIndex <= userIndex && userIndex <= maxUserIndex
+          && minCreatedAtMicros <= toMicros && fromMicros <= maxCreatedAtMicros;
+    }
+  }
+}
@@ -0,0 +1,249 @@
+package com.example.web.util.archive;
+
+import com.example.web.util.cursor.LogCursor;
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 로그 아카이브 저장소 (로컬 디스크)
+ * {log.archive.dir}/{로그 종류}/{날짜}_{첫 유저 인덱스}_{첫 로그 인덱스}.lga 로 날짜별로 나누어 저장한다.
+ * 파일 헤더(파일, 블록별 시간, 유저 범위)는 메모리에 보관하여 조회시 겹치는 블록만 읽는다.
+ */
+@Slf4j
+@Component
+public class LogArchiveStore {
+
+  private static final Comparator<ArchiveRow> LATEST_FIRST = Comparator
+      .comparingLong(ArchiveRow::createdAtMicros)
+      .thenComparingLong(ArchiveRow::logIndex)
+      .reversed();
+
+  private static final Comparator<ArchiveRow> OLDEST_FIRST = Comparator
+      .comparingLong(ArchiveRow::createdAtMicros)
+      .thenComparingLong(ArchiveRow::logIndex);
+
+  @Value("${log.archive.dir}")
+  private String archiveDir;
+
+  private final Map<LogArchiveType, ConcurrentMap<Path, LogArchiveFile.Header>> headers =
+      new EnumMap<>(LogArchiveType.class);
+
+  @PostConstruct
+  private void init() throws IOException {
+    for (LogArchiveType type : LogArchiveType.values()) {
+      ConcurrentMap<Path, LogArchiveFile.Header> typeHeaders = new ConcurrentHashMap<>();
+      headers.put(type, typeHeaders);
+
+      Path directory = getDirectory(type);
+      Files.createDirectories(directory);
+      try (Stream<Path> paths = Files.list(directory)) {
+        for (Path path : paths.toList()) {
+          String fileName = path.getFileName().toString();
+          if (fileName.endsWith(".tmp")) {
+            // 저장 중 종료된 임시 파일
+            Files.deleteIfExists(path);
+          } else if (fileName.endsWith(LogArchiveFile.EXTENSION)) {
+            typeHeaders.put(path, LogArchiveFile.readHeader(path));
+          }
+        }
+      }
+      log.info("log archive loaded. type : {}, files : {}", type, typeHeaders.size());
+    }
+  }
+
+  /**
+   * 아카이브 파일 저장
+   * 트랜잭션 안에서 호출하면 커밋 후 조회 대상에 추가하고, 롤백되면 파일을 지운다.
+   * (원본 로그 삭제와 같이 커밋되어야 조회시 DB 와 아카이브에 같은 로그가 중복되지 않는다.)
+   *
+   * @param type    로그 종류
+   * @param logDate 로그 날짜 (파일 구분용)
+   * @param rows    저장할 행들 (유저 인덱스, 로그 인덱스 순)
+   */
+  public void write(LogArchiveType type, LocalDate logDate, List<ArchiveRow> rows)
+      throws IOException {
+    ArchiveRow first = rows.get(0);
+    Path path = getDirectory(type).resolve(
+        logDate + "_" + first.userIndex() + "_" + first.logIndex() + LogArchiveFile.EXTENSION);
+    LogArchiveFile.Header header = LogArchiveFile.write(path, rows);
+
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      headers.get(type).put(path, header);
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCompletion(int status) {
+        if (status == STATUS_COMMITTED) {
+          headers.get(type).put(path, header);
+          return;
+        }
+
+        try {
+          Files.deleteIfExists(path);
+        } catch (IOException e) {
+          log.error("log archive rollback failed. path : {}", path, e);
+        }
+      }
+    });
+  }
+
+  /**
+   * 유저의 아카이브 로그 조회 (최신순)
+   *
+   * @param type      로그 종류
+   * @param userIndex 유저 인덱스
+   * @param kind      로그 타입/상품 인덱스 (null 이면 전체)
+   * @param after     이 시간 이후 (null 이면 제한 없음)
+   * @param before    이 시간 이전 (null 이면 제한 없음)
+   * @param cursor    이전 페이지 마지막 로그 커서 (null 이면 처음부터)
+   * @param limit     최대 조회 수
+   * @return 조건에 맞는 행 (최신순)
+   */
+  public List<ArchiveRow> read(LogArchiveType type, long userIndex, Integer kind,
+      OffsetDateTime after, OffsetDateTime before, LogCursor cursor, int limit) {
+    Predicate<ArchiveRow> filter = getFilter(userIndex, kind, after, before)
+        .and(row -> cursor == null || isAfterCursor(row, cursor));
+
+    // 최근 블록부터 하나씩 읽고, limit 만큼 모이면 그보다 오래된 블록은 읽지 않는다.
+    // (메모리에는 limit 개와 블록 하나만 유지한다.)
+    long cursorMicros = cursor != null ? toMicros(cursor.getCreatedAt()) : Long.MAX_VALUE;
+    List<Candidate> candidates = new ArrayList<>(getCandidates(type, userIndex, after, before)
+        .stream()
+        .filter(c -> c.block().getMinCreatedAtMicros() <= cursorMicros)
+        .toList());
+    candidates.sort(Comparator.comparingLong(
+        (Candidate c) -> c.block().getMaxCreatedAtMicros()).reversed());
+
+    List<ArchiveRow> result = new ArrayList<>();
+    for (Candidate candidate : candidates) {
+      if (result.size() >= limit && candidate.block().getMaxCreatedAtMicros()
+          < result.get(limit - 1).createdAtMicros()) {
+        break;
+      }
+
+      readRows(candidate).stream().filter(filter).forEach(result::add);
+      result.sort(LATEST_FIRST);
+      if (result.size() > limit) {
+        result = new ArrayList<>(result.subList(0, limit));
+      }
+    }
+
+    return result;
+  }
+
+  /**
+   * 유저의 아카이브 로그 전체 조회 (오래된 순, 날짜별로 파일을 읽는다)
+   *
+   * @param type      로그 종류
+   * @param userIndex 유저 인덱스
+   * @param kind      로그 타입/상품 인덱스 (null 이면 전체)
+   * @param after     이 시간 이후 (null 이면 제한 없음)
+   * @param before    이 시간 이전 (null 이면 제한 없음)
+   * @return 조건에 맞는 행 스트림 (오래된 순)
+   */
+  public Stream<ArchiveRow> stream(LogArchiveType type, long userIndex, Integer kind,
+      OffsetDateTime after, OffsetDateTime before) {
+    Predicate<ArchiveRow> filter = getFilter(userIndex, kind, after, before);
+
+    // 같은 날짜 파일들은 시간 범위가 겹치므로 날짜 단위로 모아서 정렬한다.
+    // 겹치는 블록만 읽으므로 날짜별로 해당 유저의 행과 블록 하나 만큼만 메모리를 쓴다.
+    TreeMap<String, List<Candidate>> candidatesByDate = new TreeMap<>();
+    for (Candidate candidate : getCandidates(type, userIndex, after, before)) {
+      String logDate = candidate.path().getFileName().toString().split("_")[0];
+      candidatesByDate.computeIfAbsent(logDate, key -> new ArrayList<>()).add(candidate);
+    }
+
+    return candidatesByDate.values().stream()
+        .flatMap(candidates -> candidates.stream()
+            .flatMap(candidate -> readRows(candidate).stream().filter(filter))
+            .sorted(OLDEST_FIRST));
+  }
+
+  public static long toMicros(OffsetDateTime time) {
+    Instant instant = time.toInstant();
+    return instant.getEpochSecond() * 1_000_000L + instant.getNano() / 1_000;
+  }
+
+  public static OffsetDateTime toOffsetDateTime(long micros) {
+    return Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+        Math.floorMod(micros, 1_000_000L) * 1_000L).atOffset(ZoneOffset.UTC);
+  }
+
+  /**
+   * 조회 조건과 겹치는 블록들
+   */
+  private List<Candidate> getCandidates(LogArchiveType type, long userIndex,
+      OffsetDateTime after, OffsetDateTime before) {
+    long fromMicros = after != null ? toMicros(after) : Long.MIN_VALUE;
+    long toMicros = before != null ? toMicros(before) : Long.MAX_VALUE;
+
+    return headers.get(type).entrySet().stream()
+        .filter(f -> f.getValue().overlaps(userIndex, fromMicros, toMicros))
+        .flatMap(f -> f.getValue().getBlocks().stream()
+            .filter(block -> block.overlaps(userIndex, fromMicros, toMicros))
+            .map(block -> new Candidate(f.getKey(), block)))
+        .toList();
+  }
+
+  private Predicate<ArchiveRow> getFilter(long userIndex, Integer kind,
+      OffsetDateTime after, OffsetDateTime before) {
+    long afterMicros = after != null ? toMicros(after) : Long.MIN_VALUE;
+    long beforeMicros = before != null ? toMicros(before) : Long.MAX_VALUE;
+
+    return row -> row.userIndex() == userIndex
+        && (kind == null || row.kind() == kind)
+        && row.createdAtMicros() > afterMicros
+        && row.createdAtMicros() < beforeMicros;
+  }
+
+  private boolean isAfterCursor(ArchiveRow row, LogCursor cursor) {
+    long cursorMicros = toMicros(cursor.getCreatedAt());
+
+    return row.createdAtMicros() < cursorMicros
+        || (row.createdAtMicros() == cursorMicros && row.logIndex() < cursor.getLogIndex());
+  }
+
+  private List<ArchiveRow> readRows(Candidate candidate) {
+    try {
+      return LogArchiveFile.readRows(candidate.path(), candidate.block());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private Path getDirectory(LogArchiveType type) {
+    return Paths.get(archiveDir, type.getDirectory());
+  }
+
+  /**
+   * 조회 대상 블록 (파일 경로, 블록)
+   */
+  private record Candidate(Path path, LogArchiveFile.Block block) {
+
+  }
+}
@@ -0,0 +1,18 @@
+package com.example.web.util.archive;
+
+import lombok.Getter;
+
+/**
+ * 아카이브 대상 로그 테이블 (아카이브 디렉토리 이름)
+ */
+@Getter
+public enum LogArchiveType {
+  USER_MONEY_LOG("user-money-log"),
+  USER_PRODUCT_LOG("user-product-log");
+
+  private final String directory;
+
+  LogArchiveType(String directory) {
+    this.directory = directory;
+  }
+}
@@ -15,6 +15,7 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static com.example.web.util.CommonUtil.*;
 
@@ -44,6 +45,17 @@ public class LoggingAspect {
 
     Object response = joinPoint.proceed();
     String requestLog = convertObjectToString(getRequestMap(requestTime));
+
+    // 비동기 응답은 처리가 끝났을 때 결과를 기록한다.
+    if (response instanceof CompletableFuture<?> future) {
+      future.whenComplete((result, throwable) -> log.info(
+          "Request : {} / Response : {}",
+          requestLog, convertObjectToString(getResponseMap(requestTime,
+              throwable == null ? result : throwable.toString()))
+      ));
+      return response;
+    }
+
     String responseLog = convertObjectToString(getResponseMap(requestTime, response));
 
     log.info(
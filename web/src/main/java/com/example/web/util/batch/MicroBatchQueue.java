@@ -0,0 +1,164 @@
+package com.example.web.util.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 단일 writer 마이크로 배치 큐
+ * 요청을 큐에 쌓고, 한 시점에 하나의 작업만 큐를 비우며 최대 batchSize 개 또는 maxWaitMilSec 동안
+ * 모인 요청을 batchHandler 에 한번에 넘긴다.
+ * 큐가 가득 차면 요청을 거절하고(RejectedExecutionException), writer 는 한번에 최대 maxBatchesPerDrain 개
+ * 배치만 처리한 뒤 executor 에 다시 들어가 다른 큐의 writer 에게 차례를 넘긴다.
+ *
+ * @param <T> 요청 타입
+ */
+@Slf4j
+public class MicroBatchQueue<T> {
+
+  private final BlockingQueue<T> queue;
+  private final AtomicBoolean draining = new AtomicBoolean();
+
+  private final int batchSize;
+  private final int maxBatchesPerDrain;
+  private final long maxWaitNanos;
+  private final Executor executor;
+  private final Consumer<List<T>> batchHandler;
+
+  /**
+   * @param batchSize          한 배치의 최대 요청 수
+   * @param maxWaitMilSec      배치를 채우기 위해 첫 요청 이후 기다리는 최대 시간
+   * @param capacity           큐에 쌓을 수 있는 최대 요청 수
+   * @param maxBatchesPerDrain writer 한번에 처리하는 최대 배치 수
+   * @param executor           배치를 처리할 executor
+   * @param batchHandler       배치 처리 (배치 안의 요청 결과 처리까지 책임진다)
+   */
+  public MicroBatchQueue(int batchSize, long maxWaitMilSec, int capacity, int maxBatchesPerDrain,
+      Executor executor, Consumer<List<T>> batchHandler) {
+    this.queue = new LinkedBlockingQueue<>(capacity);
+    this.batchSize = batchSize;
+    this.maxBatchesPerDrain = maxBatchesPerDrain;
+    this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMilSec);
+    this.executor = executor;
+    this.batchHandler = batchHandler;
+  }
+
+  /**
+   * 요청 추가
+   * 처리 중인 writer 가 없으면 새로 시작한다.
+   *
+   * @param item 요청
+   * @throws RejectedExecutionException 큐가 가득 찼거나 writer 를 시작할 수 없는 경우
+   */
+  public void submit(T item) {
+    if (!queue.offer(item)) {
+      throw new RejectedExecutionException("micro batch queue is full. size : " + queue.size());
+    }
+    try {
+      scheduleDrain();
+    } catch (RejectedExecutionException e) {
+      queue.remove(item);
+      throw e;
+    }
+  }
+
+  public int size() {
+    return queue.size();
+  }
+
+  /**
+   * 남은 요청을 호출한 스레드에서 바로 처리 (종료시 사용, executor 종료 이후 호출)
+   */
+  public void flush() {
+    List<T> batch;
+    while (!(batch = pollBatch(false)).isEmpty()) {
+      handle(batch);
+    }
+  }
+
+  private void scheduleDrain() {
+    if (draining.compareAndSet(false, true)) {
+      try {
+        executor.execute(this::drain);
+      } catch (RejectedExecutionException e) {
+        draining.set(false);
+        throw e;
+      }
+    }
+  }
+
+  private void drain() {
+    try {
+      List<T> batch;
+      int batchCount = 0;
+      // 한 큐가 writer 스레드를 독점하지 않도록 최대 배치 수 만큼만 처리한다.
+      while (batchCount++ < maxBatchesPerDrain && !(batch = pollBatch(true)).isEmpty()) {
+        handle(batch);
+      }
+    } finally {
+      draining.set(false);
+      // 남았거나 종료 직전에 들어온 요청이 있으면 다시 시작 (executor 대기열 뒤로)
+      if (!queue.isEmpty()) {
+        try {
+          scheduleDrain();
+        } catch (RejectedExecutionException e) {
+          log.warn("micro batch drain rejected. remain : {}", queue.size());
+        }
+      }
+    }
+  }
+
+  private void handle(List<T> batch) {
+    try {
+      batchHandler.accept(batch);
+    } catch (RuntimeException e) {
+      log.error("micro batch handler failed. batch size : {}", batch.size(), e);
+    }
+  }
+
+  /**
+   * 배치 하나 획득
+   * 첫 요청 이후 batchSize 가 찰 때까지 최대 maxWaitNanos 동안 기다린다.
+   *
+   * @param waitForFill 배치를 채우기 위해 기다릴지 여부
+   * @return 배치 (큐가 비었으면 빈 리스트)
+   */
+  private List<T> pollBatch(boolean waitForFill) {
+    List<T> batch = new ArrayList<>(batchSize);
+    T first = queue.poll();
+    if (first == null) {
+      return batch;
+    }
+    batch.add(first);
+
+    long deadline = System.nanoTime() + maxWaitNanos;
+    while (batch.size() < batchSize) {
+      queue.drainTo(batch, batchSize - batch.size());
+
+      long remainNanos = deadline - System.nanoTime();
+      if (!waitForFill || batch.size() >= batchSize || remainNanos <= 0) {
+        break;
+      }
+
+      try {
+        T next = queue.poll(remainNanos, TimeUnit.NANOSECONDS);
+        if (next == null) {
+          break;
+        }
+        batch.add(next);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+    }
+
+    return batch;
+  }
+}
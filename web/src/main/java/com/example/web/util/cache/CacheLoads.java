@@ -0,0 +1,51 @@
+package com.example.web.util.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * 캐시 로드(DB 조회)를 락 밖에서 호출 스레드로 실행
+ * Cache.get(key, loader) 는 로드 동안 ConcurrentHashMap 의 synchronized 락을 잡고 있어,
+ * 가상 스레드가 JDBC 대기 중 캐리어 스레드에 고정(pinning)된다.
+ * 비동기 캐시에는 로드 중 future 만 넣고, 값은 호출 스레드에서 락 없이 채운다.
+ * 같은 키를 동시에 요청하면 같은 future 를 기다리고, 로드 중 무효화하면 로드 결과는 캐시에 남지 않는다.
+ */
+public final class CacheLoads {
+
+  private CacheLoads() {
+  }
+
+  /**
+   * 캐시 조회 (없으면 호출 스레드에서 로드)
+   *
+   * @param cache  비동기 캐시
+   * @param key    키
+   * @param loader 로드 (null 을 반환하면 캐시하지 않음)
+   * @return 캐시 값 (없으면 null)
+   */
+  public static <K, V> V get(AsyncCache<K, V> cache, K key, Function<K, V> loader) {
+    CompletableFuture<V> loading = new CompletableFuture<>();
+    CompletableFuture<V> future = cache.get(key, (k, executor) -> loading);
+
+    if (future == loading) {
+      try {
+        loading.complete(loader.apply(key));
+      } catch (RuntimeException | Error e) {
+        // 실패한 future 는 캐시에서 제거된다.
+        loading.completeExceptionally(e);
+        throw e;
+      }
+    }
+
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+}
@@ -0,0 +1,185 @@
+package com.example.web.util.circuit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 호출 수 기반 서킷 브레이커
+ * 최근 windowSize 번 호출 중 실패 비율 또는 느린 호출 비율이 기준 이상이면 열리고(OPEN), 그 동안 호출을 바로 거절한다.
+ * openDuration 이 지나면 halfOpenCalls 번만 시험 호출(HALF_OPEN)하고, 결과가 기준 미만이면 닫는다(CLOSED).
+ * 호출 전 tryAcquire, 호출 후 onResult 를 반드시 짝으로 호출한다.
+ */
+public class CircuitBreaker {
+
+  public enum State {
+    CLOSED, OPEN, HALF_OPEN
+  }
+
+  private static final byte FAILED = 1;
+  private static final byte SLOW = 2;
+
+  private final ReentrantLock lock = new ReentrantLock();
+
+  private final int minimumCalls;
+  private final int failureRateThreshold;
+  private final int slowCallRateThreshold;
+  private final long slowCallNanos;
+  private final long openNanos;
+  private final int halfOpenCalls;
+  private final LongSupplier nanoClock;
+
+  // 최근 호출 결과 (FAILED | SLOW 비트)
+  private final byte[] outcomes;
+  private int nextIndex;
+  private int callCount;
+  private int failedCount;
+  private int slowCount;
+
+  private State state = State.CLOSED;
+  private long openedAt;
+  private int halfOpenPermits;
+
+  /**
+   * @param windowSize            판단할 최근 호출 수
+   * @param minimumCalls          판단을 시작할 최소 호출 수
+   * @param failureRateThreshold  열리는 실패 비율(%)
+   * @param slowCallRateThreshold 열리는 느린 호출 비율(%)
+   * @param slowCallMilSec        느린 호출 기준 시간
+   * @param openMilSec            열린 상태 유지 시간
+   * @param halfOpenCalls         반열림 상태 시험 호출 수
+   * @param nanoClock             시간(nano) 공급 (테스트용)
+   */
+  public CircuitBreaker(int windowSize, int minimumCalls, int failureRateThreshold,
+      int slowCallRateThreshold, long slowCallMilSec, long openMilSec, int halfOpenCalls,
+      LongSupplier nanoClock) {
+    this.outcomes = new byte[windowSize];
+    this.minimumCalls = Math.min(minimumCalls, windowSize);
+    this.failureRateThreshold = failureRateThreshold;
+    this.slowCallRateThreshold = slowCallRateThreshold;
+    this.slowCallNanos = TimeUnit.MILLISECONDS.toNanos(slowCallMilSec);
+    this.openNanos = TimeUnit.MILLISECONDS.toNanos(openMilSec);
+    this.halfOpenCalls = Math.min(halfOpenCalls, windowSize);
+    this.nanoClock = nanoClock;
+  }
+
+  /**
+   * 호출 허용 여부
+   *
+   * @return 호출해도 되면 true (이 경우 onResult 를 반드시 호출)
+   */
+  public boolean tryAcquire() {
+    lock.lock();
+    try {
+      if (state == State.OPEN) {
+        if (nanoClock.getAsLong() - openedAt < openNanos) {
+          return false;
+        }
+        transitionTo(State.HALF_OPEN);
+      }
+
+      if (state == State.HALF_OPEN) {
+        if (halfOpenPermits == 0) {
+          return false;
+        }
+        halfOpenPermits--;
+      }
+      return true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * 호출 결과 기록
+   *
+   * @param durationNanos 호출 시간
+   * @param failed        실패 여부
+   */
+  public void onResult(long durationNanos, boolean failed) {
+    lock.lock();
+    try {
+      // 열리기 전에 시작한 호출 결과는 버린다.
+      if (state == State.OPEN) {
+        return;
+      }
+
+      record((byte) ((failed ? FAILED : 0) | (durationNanos >= slowCallNanos ? SLOW : 0)));
+
+      if (state == State.HALF_OPEN) {
+        if (callCount >= halfOpenCalls) {
+          transitionTo(isOverThreshold() ? State.OPEN : State.CLOSED);
+        }
+        return;
+      }
+
+      if (callCount >= minimumCalls && isOverThreshold()) {
+        transitionTo(State.OPEN);
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public State getState() {
+    lock.lock();
+    try {
+      return state;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * 열린 상태가 끝날 때까지 남은 시간
+   *
+   * @return 남은 시간(nano, 열려 있지 않으면 0)
+   */
+  public long getRemainingOpenNanos() {
+    lock.lock();
+    try {
+      if (state != State.OPEN) {
+        return 0;
+      }
+      return Math.max(0, openedAt + openNanos - nanoClock.getAsLong());
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void record(byte outcome) {
+    if (callCount == outcomes.length) {
+      byte evicted = outcomes[nextIndex];
+      failedCount -= evicted & FAILED;
+      slowCount -= (evicted & SLOW) >> 1;
+    } else {
+      callCount++;
+    }
+
+    outcomes[nextIndex] = outcome;
+    failedCount += outcome & FAILED;
+    slowCount += (outcome & SLOW) >> 1;
+    nextIndex = (nextIndex + 1) % outcomes.length;
+  }
+
+  private boolean isOverThreshold() {
+    return failedCount * 100 >= failureRateThreshold * callCount
+        || slowCount * 100 >= slowCallRateThreshold * callCount;
+  }
+
+  private void transitionTo(State newState) {
+    state = newState;
+    // 상태가 바뀌면 새로 판단한다.
+    nextIndex = 0;
+    callCount = 0;
+    failedCount = 0;
+    slowCount = 0;
+
+    if (newState == State.OPEN) {
+      openedAt = nanoClock.getAsLong();
+    }
+    if (newState == State.HALF_OPEN) {
+      halfOpenPermits = halfOpenCalls;
+    }
+  }
+}
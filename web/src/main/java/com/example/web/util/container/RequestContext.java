@@ -0,0 +1,152 @@
+package com.example.web.util.container;
+
+import com.example.web.model.exception.CustomErrorException;
+import com.example.web.model.oauth.JwtUser;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * 요청 범위 컨텍스트 (세션 유저 정보)
+ * RequestContextBindingFilter 가 요청 시작시 bind 하고 요청이 끝나면 반드시 해제한다. (풀 스레드에 남지 않음)
+ * 바인딩은 요청 동안 바뀌지 않고, 서비스에서 시작한 비동기 작업은 wrap 으로 같은 컨텍스트를 넘겨받는다.
+ * 유저 정보는 인증(SessionInterceptor) 또는 로그인시 한번 설정한다.
+ */
+public final class RequestContext {
+
+  private static final ThreadLocal<RequestContext> CURRENT = new ThreadLocal<>();
+
+  private volatile JwtUser user;
+
+  // getUserIndex 호출마다 JwtUser 를 거치지 않도록 따로 보관
+  private volatile long userIndex;
+
+  /**
+   * 현재 스레드의 컨텍스트
+   *
+   * @return 바인딩된 컨텍스트 (요청 밖이면 null)
+   */
+  public static RequestContext current() {
+    return CURRENT.get();
+  }
+
+  /**
+   * 현재 스레드에 컨텍스트 바인딩
+   * try-with-resources 로 사용하며, close 하면 이전 바인딩으로 되돌린다.
+   *
+   * @param requestContext 바인딩할 컨텍스트
+   * @return 바인딩 해제
+   */
+  public static Scope bind(RequestContext requestContext) {
+    RequestContext previous = CURRENT.get();
+    CURRENT.set(requestContext);
+
+    return () -> {
+      if (previous == null) {
+        CURRENT.remove();
+        return;
+      }
+      CURRENT.set(previous);
+    };
+  }
+
+  /**
+   * 현재 세션 유저 정보
+   *
+   * @return 유저 정보 (없으면 null)
+   */
+  public static JwtUser getUser() {
+    RequestContext requestContext = CURRENT.get();
+    return requestContext == null ? null : requestContext.user;
+  }
+
+  /**
+   * 현재 요청에 세션 유저 정보 설정
+   *
+   * @param jwtUser 유저 정보
+   */
+  public static void setUser(JwtUser jwtUser) {
+    RequestContext requestContext = CURRENT.get();
+    if (jwtUser == null || requestContext == null) {
+      return;
+    }
+
+    requestContext.userIndex = jwtUser.getUserIndex();
+    requestContext.user = jwtUser;
+  }
+
+  /**
+   * 현재 세션 유저 인덱스
+   *
+   * @return 유저 인덱스 (세션이 없으면 4 예외)
+   */
+  public static long getUserIndex() {
+    RequestContext requestContext = CURRENT.get();
+    if (requestContext == null || requestContext.user == null) {
+      throw CustomErrorException.builder().resultValue(4).build();
+    }
+
+    return requestContext.userIndex;
+  }
+
+  /**
+   * 현재 컨텍스트를 이어받아 실행하는 작업
+   * 실행 스레드에서 작업 동안만 바인딩하고 끝나면 해제한다.
+   */
+  public static Runnable wrap(Runnable runnable) {
+    RequestContext requestContext = CURRENT.get();
+    if (requestContext == null) {
+      return runnable;
+    }
+
+    return () -> {
+      try (Scope ignored = bind(requestContext)) {
+        runnable.run();
+      }
+    };
+  }
+
+  public static <T> Supplier<T> wrap(Supplier<T> supplier) {
+    RequestContext requestContext = CURRENT.get();
+    if (requestContext == null) {
+      return supplier;
+    }
+
+    return () -> {
+      try (Scope ignored = bind(requestContext)) {
+        return supplier.get();
+      }
+    };
+  }
+
+  public static <T> Callable<T> wrap(Callable<T> callable) {
+    RequestContext requestContext = CURRENT.get();
+    if (requestContext == null) {
+      return callable;
+    }
+
+    return () -> {
+      try (Scope ignored = bind(requestContext)) {
+        return callable.call();
+      }
+    };
+  }
+
+  /**
+   * 제출 시점의 컨텍스트를 작업에 넘겨주는 Executor
+   * CompletableFuture.supplyAsync(supplier, RequestContext.propagating(executor)) 처럼 사용한다.
+   */
+  public static Executor propagating(Executor executor) {
+    return runnable -> executor.execute(wrap(runnable));
+  }
+
+  /**
+   * 바인딩 해제 (예외 없는 AutoCloseable)
+   */
+  @FunctionalInterface
+  public interface Scope extends AutoCloseable {
+
+    @Override
+    void close();
+  }
+}
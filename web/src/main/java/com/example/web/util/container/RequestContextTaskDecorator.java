@@ -0,0 +1,16 @@
+package com.example.web.util.container;
+
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 스프링 TaskExecutor(@Async, applicationTaskExecutor 등)에 요청 컨텍스트 전파
+ */
+@Component
+public class RequestContextTaskDecorator implements TaskDecorator {
+
+  @Override
+  public Runnable decorate(Runnable runnable) {
+    return RequestContext.wrap(runnable);
+  }
+}
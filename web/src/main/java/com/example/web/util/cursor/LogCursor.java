@@ -0,0 +1,63 @@
+package com.example.web.util.cursor;
+
+import com.example.web.model.exception.CustomErrorException;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import lombok.Getter;
+
+/**
+ * 로그 조회 커서 (CreatedAt, LogIndex 기준 keyset 페이지네이션)
+ * 클라이언트에는 내용을 알 수 없는 base64 문자열로 전달한다.
+ */
+@Getter
+public class LogCursor {
+
+  private static final String DELIMITER = ":";
+
+  // 마지막으로 조회한 로그의 생성 시간
+  private final OffsetDateTime createdAt;
+  // 마지막으로 조회한 로그의 인덱스
+  private final long logIndex;
+
+  public LogCursor(OffsetDateTime createdAt, long logIndex) {
+    this.createdAt = createdAt;
+    this.logIndex = logIndex;
+  }
+
+  public String encode() {
+    Instant instant = createdAt.toInstant();
+    String value = instant.getEpochSecond() + DELIMITER + instant.getNano() + DELIMITER + logIndex;
+
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * 커서 문자열 변환
+   *
+   * @param cursor 이전 응답의 NextCursor
+   * @return 커서가 없으면 null (첫 페이지)
+   */
+  public static LogCursor decode(String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return null;
+    }
+
+    try {
+      String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      String[] values = value.split(DELIMITER);
+      if (values.length != 3) {
+        throw CustomErrorException.builder().resultValue(6).build();
+      }
+
+      Instant instant = Instant.ofEpochSecond(Long.parseLong(values[0]), Long.parseLong(values[1]));
+      return new LogCursor(instant.atOffset(ZoneOffset.UTC), Long.parseLong(values[2]));
+    } catch (IllegalArgumentException | DateTimeException e) {
+      throw CustomErrorException.builder().resultValue(6).build();
+    }
+  }
+}
@@ -0,0 +1,134 @@
+package com.example.web.util.datasource;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * DB 커넥션 동시 사용 수 제한
+ * 커넥션 풀 앞에서 세마포어(공정 순서)로 커넥션을 빌릴 수 있는 수를 제한하고, 커넥션을 닫으면 반환한다.
+ * 가상 스레드는 세마포어 대기 중 캐리어 스레드를 놓아주므로, 요청이 몰려도 풀 내부 대기열에 쌓이지 않고 여기서 기다린다.
+ * maxWait 안에 얻지 못하면 SQLTransientConnectionException 으로 바로 실패한다.
+ */
+public class ConcurrencyLimitedDataSource extends DelegatingDataSource {
+
+  private final int permits;
+  private final long maxWaitMilSec;
+  private final Semaphore semaphore;
+
+  private final AtomicLong timeoutCount = new AtomicLong();
+
+  /**
+   * @param targetDataSource 커넥션 풀
+   * @param permits          동시에 빌릴 수 있는 커넥션 수 (보통 풀 최대 크기)
+   * @param maxWaitMilSec    커넥션 최대 대기 시간
+   */
+  public ConcurrencyLimitedDataSource(DataSource targetDataSource, int permits,
+      long maxWaitMilSec) {
+    super(targetDataSource);
+    this.permits = permits;
+    this.maxWaitMilSec = maxWaitMilSec;
+    this.semaphore = new Semaphore(permits, true);
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    acquire();
+    try {
+      return withRelease(obtainTargetDataSource().getConnection());
+    } catch (SQLException | RuntimeException e) {
+      semaphore.release();
+      throw e;
+    }
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    acquire();
+    try {
+      return withRelease(obtainTargetDataSource().getConnection(username, password));
+    } catch (SQLException | RuntimeException e) {
+      semaphore.release();
+      throw e;
+    }
+  }
+
+  /**
+   * 커넥션을 사용 중인 수
+   */
+  public int getInFlight() {
+    return permits - semaphore.availablePermits();
+  }
+
+  /**
+   * 커넥션을 기다리는 중인 수
+   */
+  public int getWaiting() {
+    return semaphore.getQueueLength();
+  }
+
+  /**
+   * 대기 시간 초과로 실패한 수
+   */
+  public long getTimeoutCount() {
+    return timeoutCount.get();
+  }
+
+  private void acquire() throws SQLException {
+    try {
+      if (!semaphore.tryAcquire(maxWaitMilSec, TimeUnit.MILLISECONDS)) {
+        timeoutCount.incrementAndGet();
+        throw new SQLTransientConnectionException(
+            "db connection is not available. waited " + maxWaitMilSec + "ms");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SQLTransientConnectionException("interrupted while waiting db connection", e);
+    }
+  }
+
+  /**
+   * close 시 한번만 세마포어를 반환하는 커넥션
+   */
+  private Connection withRelease(Connection connection) {
+    AtomicBoolean released = new AtomicBoolean();
+
+    return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+        new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+          switch (method.getName()) {
+            case "equals":
+              return proxy == args[0];
+            case "hashCode":
+              return System.identityHashCode(proxy);
+            case "close":
+              try {
+                return invoke(connection, method, args);
+              } finally {
+                if (released.compareAndSet(false, true)) {
+                  semaphore.release();
+                }
+              }
+            default:
+              return invoke(connection, method, args);
+          }
+        });
+  }
+
+  private static Object invoke(Connection connection, Method method, Object[] args)
+      throws Throwable {
+    try {
+      return method.invoke(connection, args);
+    } catch (InvocationTargetException e) {
+      throw e.getCause();
+    }
+  }
+}
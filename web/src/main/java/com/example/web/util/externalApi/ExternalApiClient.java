@@ -0,0 +1,55 @@
+package com.example.web.util.externalApi;
+
+import com.example.web.model.exception.CustomErrorException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponents;
+
+/**
+ * 외부 API 호출
+ * 커넥션 풀/타임아웃/keep-alive 가 설정된 공용 RestTemplate(ExternalApiConfig)을 사용한다.
+ * 호출 지표 : http.client.requests{client.name=호스트}, 커넥션 풀 지표 : httpcomponents.httpclient.pool.*
+ */
+@Component
+@RequiredArgsConstructor
+public class ExternalApiClient {
+
+  private final RestTemplate externalRestTemplate;
+
+  /**
+   * Post 요청으로 외부 API 응답 획득
+   *
+   * @param url        요청 보낼 외부 API URL
+   * @param httpEntity 요청 보낼 http 엔티티 (헤더+바디)
+   * @param clazz      응답시 casting 할 클래스 형태
+   * @return 외부 API 응답 (없으면 1 예외)
+   */
+  public <T> T getResponseFromPostRequest(String url, HttpEntity<?> httpEntity, Class<T> clazz) {
+    return checkResponse(externalRestTemplate.postForObject(url, httpEntity, clazz));
+  }
+
+  /**
+   * Get 요청으로 외부 API 응답 획득
+   *
+   * @param uriComponents 요청 보낼 외부 API URI
+   * @param httpEntity    요청 보낼 http 엔티티 (헤더)
+   * @return 외부 API 응답
+   */
+  public ResponseEntity<String> getResponseFromGetRequest(UriComponents uriComponents,
+      HttpEntity<?> httpEntity) {
+    return checkResponse(externalRestTemplate.exchange(uriComponents.toUriString(),
+        HttpMethod.GET, httpEntity, String.class));
+  }
+
+  private <T> T checkResponse(T response) {
+    if (response == null) {
+      throw CustomErrorException.builder().resultValue(1).build();
+    }
+
+    return response;
+  }
+}
@@ -4,31 +4,75 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 import org.springframework.web.util.ContentCachingRequestWrapper;
 import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
 
 import static com.example.web.util.CommonUtil.REQUEST_TIME;
 
+// IdempotencyFilter 가 버퍼링 된 응답을 저장할 수 있도록 그보다 먼저(바깥에서) 실행한다.
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
 @Component
 public class CustomServletWrappingFilter extends OncePerRequestFilter {
   // 서블릿을 래핑하는 필터
   // OncePerRequestFilter 를 상속받아 한 request당 한번의 실행만 되도록 보장하였다.
+
+  private static final String PRODUCT_INFO_URI = "/product/info";
+  private static final String LOG_EXPORT_URI_SUFFIX = "/log-export";
+
+  @Value("${product.info.pre-serialized.enabled}")
+  private boolean productInfoPreSerializedEnabled;
+
+  // 비동기 요청(로그인 등)은 async dispatch 에서도 실행하여, 처리가 끝난 뒤 응답을 내보낸다.
+  @Override
+  protected boolean shouldNotFilterAsyncDispatch() {
+    return false;
+  }
+
+  // 미리 직렬화된 상품 정보 응답, 로그 내보내기 응답은 버퍼링 없이 바로 출력한다.
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    if (!HttpMethod.GET.matches(request.getMethod())) {
+      return false;
+    }
+
+    String requestUri = request.getRequestURI();
+    return (productInfoPreSerializedEnabled && PRODUCT_INFO_URI.equals(requestUri))
+        || requestUri.endsWith(LOG_EXPORT_URI_SUFFIX);
+  }
+
   @Override
   protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
                                   FilterChain filterChain) throws ServletException, IOException {
-    // 요청 들어온 시간을 기록
-    request.setAttribute(REQUEST_TIME, LocalDateTime.now());
+    // 요청 들어온 시간을 기록 (async dispatch 는 처음 요청 시간 유지)
+    if (!isAsyncDispatch(request)) {
+      request.setAttribute(REQUEST_TIME, LocalDateTime.now());
+    }
 
-    ContentCachingRequestWrapper wrappingRequest = new ContentCachingRequestWrapper(request);
-    ContentCachingResponseWrapper wrappingResponse = new ContentCachingResponseWrapper(response);
+    // async dispatch 에서는 처음 요청에서 만든 래퍼를 재사용한다.
+    HttpServletRequest wrappingRequest =
+        WebUtils.getNativeRequest(request, ContentCachingRequestWrapper.class) != null
+            ? request : new ContentCachingRequestWrapper(request);
+    ContentCachingResponseWrapper wrappingResponse =
+        WebUtils.getNativeResponse(response, ContentCachingResponseWrapper.class);
+    if (wrappingResponse == null) {
+      wrappingResponse = new ContentCachingResponseWrapper(response);
+    }
 
     filterChain.doFilter(wrappingRequest, wrappingResponse);
 
-    wrappingResponse.copyBodyToResponse();
+    // 비동기 처리 중이면 아직 응답 바디가 없으므로 async dispatch 가 끝날 때 내보낸다.
+    if (!isAsyncStarted(wrappingRequest)) {
+      wrappingResponse.copyBodyToResponse();
+    }
   }
 }
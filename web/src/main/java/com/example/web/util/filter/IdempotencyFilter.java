@@ -0,0 +1,244 @@
+package com.example.web.util.filter;
+
+import com.example.web.model.enums.CustomErrorException;
+import com.example.web.model.response.ExceptionResponse;
+import com.example.web.util.idempotency.IdempotencyResponse;
+import com.example.web.util.idempotency.IdempotencyStore;
+import com.example.web.util.token.JwtTokenUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+
+/**
+ * Idempotency-Key 헤더가 있는 POST 요청 중복 처리 방지 필터
+ * 같은 키(+ 같은 URI, 같은 유저)로 다시 들어온 요청은 처리하지 않고 처음 응답을 그대로 돌려준다.
+ * 처음 요청이 아직 처리 중이면 끝날 때까지 기다린다.
+ * 비동기 응답(CompletableFuture)은 async dispatch 에서 응답이 만들어진 후 저장한다.
+ * 응답을 버퍼링 하는 CustomServletWrappingFilter 안쪽에서 실행한다.
+ */
+@Order(Ordered.LOWEST_PRECEDENCE)
+@Component
+@RequiredArgsConstructor
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+  public static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+  private static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+  private static final String PENDING_REQUEST = IdempotencyFilter.class.getName() + ".PENDING";
+
+  @Value("${idempotency.wait-milsec}")
+  private long waitMilSec;
+
+  private final IdempotencyStore idempotencyStore;
+  private final JwtTokenUtil jwtTokenUtil;
+  private final ObjectMapper objectMapper;
+
+  // 비동기 요청은 async dispatch 에서 응답을 저장한다.
+  @Override
+  protected boolean shouldNotFilterAsyncDispatch() {
+    return false;
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !HttpMethod.POST.matches(request.getMethod())
+        || request.getHeader(IDEMPOTENCY_KEY) == null;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+      FilterChain filterChain) throws ServletException, IOException {
+    if (isAsyncDispatch(request)) {
+      PendingRequest pendingRequest = (PendingRequest) request.getAttribute(PENDING_REQUEST);
+      if (pendingRequest == null) {
+        filterChain.doFilter(request, response);
+        return;
+      }
+      processRequest(pendingRequest, request, response, filterChain);
+      return;
+    }
+
+    String key = getKey(request);
+    if (key == null) {
+      // 인증 정보가 없으면 중복 처리를 하지 않는다. (인증은 SessionInterceptor 에서 실패 처리)
+      filterChain.doFilter(request, response);
+      return;
+    }
+    long deadline = System.currentTimeMillis() + waitMilSec;
+
+    while (true) {
+      IdempotencyStore.Ticket ticket = idempotencyStore.begin(key);
+      if (ticket.isOwner()) {
+        // 이미 응답을 버퍼링 하는 래퍼가 있으면 재사용한다.
+        boolean isWrapped = WebUtils.getNativeResponse(response,
+            ContentCachingResponseWrapper.class) == null;
+        processRequest(new PendingRequest(key, ticket, isWrapped), request,
+            isWrapped ? new ContentCachingResponseWrapper(response) : response, filterChain);
+        return;
+      }
+
+      IdempotencyResponse idempotencyResponse;
+      try {
+        idempotencyResponse = ticket.await(Math.max(deadline - System.currentTimeMillis(), 0));
+      } catch (TimeoutException | ExecutionException e) {
+        writeInProgressResponse(response);
+        return;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        writeInProgressResponse(response);
+        return;
+      }
+
+      if (idempotencyResponse != null) {
+        writeReplayResponse(idempotencyResponse, response);
+        return;
+      }
+      // 처음 요청이 실패했으면 다시 처리 권한 획득 시도
+    }
+  }
+
+  /**
+   * 처음 요청 처리 후 성공(2xx) 응답을 저장
+   * 비동기 처리가 시작되면 아직 응답이 없으므로 결과를 정하지 않고, async dispatch 에서 다시 호출된다.
+   */
+  private void processRequest(PendingRequest pendingRequest, HttpServletRequest request,
+      HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    ContentCachingResponseWrapper cachingResponse =
+        WebUtils.getNativeResponse(response, ContentCachingResponseWrapper.class);
+
+    boolean isAsyncStarted = false;
+    boolean isCompleted = false;
+    try {
+      filterChain.doFilter(request, response);
+
+      if (isAsyncStarted(request)) {
+        request.setAttribute(PENDING_REQUEST, pendingRequest);
+        isAsyncStarted = true;
+        return;
+      }
+
+      if (HttpStatus.valueOf(cachingResponse.getStatus()).is2xxSuccessful()) {
+        idempotencyStore.complete(pendingRequest.key(), pendingRequest.ticket(),
+            IdempotencyResponse.builder()
+                .status(cachingResponse.getStatus())
+                .contentType(cachingResponse.getContentType())
+                .body(cachingResponse.getContentAsByteArray())
+                .build());
+        isCompleted = true;
+      }
+    } finally {
+      if (!isAsyncStarted) {
+        request.removeAttribute(PENDING_REQUEST);
+        if (!isCompleted) {
+          idempotencyStore.abandon(pendingRequest.key(), pendingRequest.ticket());
+        }
+        if (pendingRequest.isWrapped()) {
+          cachingResponse.copyBodyToResponse();
+        }
+      }
+    }
+  }
+
+  private void writeReplayResponse(IdempotencyResponse idempotencyResponse,
+      HttpServletResponse response) throws IOException {
+    byte[] body = idempotencyResponse.getBody();
+
+    response.setStatus(idempotencyResponse.getStatus());
+    response.setContentType(idempotencyResponse.getContentType());
+    response.setHeader(IDEMPOTENT_REPLAYED, "true");
+    response.setContentLength(body.length);
+    response.getOutputStream().write(body);
+  }
+
+  private void writeInProgressResponse(HttpServletResponse response) throws IOException {
+    CustomErrorException enumException = CustomErrorException.DUPLICATE_REQUEST_IN_PROGRESS;
+
+    ExceptionResponse exceptionResponse = ExceptionResponse.builder()
+        .resultValue(enumException.getResultValue())
+        .resultMsg(enumException.getResultMsg())
+        .build();
+
+    response.setStatus(HttpStatus.CONFLICT.value());
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+    objectMapper.writeValue(response.getOutputStream(), exceptionResponse);
+  }
+
+  /**
+   * 멱등 키 생성
+   * 다른 유저/다른 API 의 같은 Idempotency-Key 와 구분되도록 메소드, URI, 유저 인덱스를 포함해 해시한다.
+   * 응답마다 토큰이 재발급되므로 토큰 문자열이 아니라 토큰에서 확인한 유저 인덱스를 쓴다.
+   *
+   * @param request
+   * @return SHA-256 hex 문자열(64자), 인증 정보가 없거나 잘못되었으면 null
+   */
+  private String getKey(HttpServletRequest request) {
+    Long userIndex = getUserIndex(request);
+    if (userIndex == null) {
+      return null;
+    }
+
+    String source = request.getMethod() + " " + request.getRequestURI()
+        + "|" + userIndex
+        + "|" + request.getHeader(IDEMPOTENCY_KEY);
+    try {
+      MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(messageDigest.digest(source.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * 인증 헤더의 토큰으로 유저 인덱스 확인 (SessionInterceptor 와 같은 검증, 필터는 인터셉터보다 먼저 실행된다.)
+   */
+  private Long getUserIndex(HttpServletRequest request) {
+    String accessToken = request.getHeader(HttpHeaders.AUTHORIZATION);
+    if (accessToken == null) {
+      return null;
+    }
+
+    final String authenticationType = "Bearer";
+    if (accessToken.startsWith(authenticationType)) {
+      accessToken = accessToken.substring(authenticationType.length()).trim();
+    }
+
+    try {
+      return jwtTokenUtil.getUserInfo(accessToken).getUserIndex();
+    } catch (RuntimeException e) {
+      return null;
+    }
+  }
+
+  /**
+   * 처리 권한을 가진 요청 (비동기 요청은 async dispatch 까지 요청 속성에 보관)
+   *
+   * @param key       멱등 키
+   * @param ticket    처리 권한 Ticket
+   * @param isWrapped 이 필터가 응답 래퍼를 만들었는지 여부 (만들었으면 끝날 때 응답을 내보낸다.)
+   */
+  private record PendingRequest(String key, IdempotencyStore.Ticket ticket, boolean isWrapped) {
+
+  }
+}
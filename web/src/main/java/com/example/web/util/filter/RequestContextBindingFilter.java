@@ -0,0 +1,44 @@
+package com.example.web.util.filter;
+
+import com.example.web.util.container.RequestContext;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 요청 컨텍스트 바인딩 필터
+ * 다른 필터보다 먼저 요청 컨텍스트를 바인딩하고, 요청이 끝나면(예외 포함) 해제한다.
+ * 비동기 요청은 같은 컨텍스트를 요청 속성에 두고 async dispatch 스레드에서 다시 바인딩한다.
+ * (스프링의 requestContextFilter 빈과 이름이 겹치지 않게 클래스 이름을 다르게 둔다.)
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Component
+public class RequestContextBindingFilter extends OncePerRequestFilter {
+
+  private static final String REQUEST_CONTEXT = RequestContext.class.getName();
+
+  @Override
+  protected boolean shouldNotFilterAsyncDispatch() {
+    return false;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+      FilterChain filterChain) throws ServletException, IOException {
+    RequestContext requestContext = (RequestContext) request.getAttribute(REQUEST_CONTEXT);
+    if (requestContext == null) {
+      requestContext = new RequestContext();
+      request.setAttribute(REQUEST_CONTEXT, requestContext);
+    }
+
+    try (RequestContext.Scope ignored = RequestContext.bind(requestContext)) {
+      filterChain.doFilter(request, response);
+    }
+  }
+}
@@ -0,0 +1,14 @@
+package com.example.web.util.idempotency;
+
+import lombok.Getter;
+import lombok.experimental.SuperBuilder;
+
+// 멱등 키로 처음 처리한 요청의 응답 (중복 요청에 그대로 다시 응답한다)
+@Getter
+@SuperBuilder
+public class IdempotencyResponse {
+
+  private final int status;
+  private final String contentType;
+  private final byte[] body;
+}
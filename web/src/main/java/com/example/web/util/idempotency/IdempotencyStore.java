@@ -0,0 +1,213 @@
+package com.example.web.util.idempotency;
+
+import com.example.web.jpa.entity.idempotency.IdempotencyRecord;
+import com.example.web.jpa.repository.idempotency.IdempotencyRecordRepository;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 멱등 키 저장소
+ * 메모리(최대 개수 + TTL)에 멱등 키별 응답을 보관하고, 설정시 DB(T_Idempotency_Key)에도 저장한다.
+ * 같은 키로 동시에 들어온 요청은 처음 요청의 처리 결과를 기다린다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyStore {
+
+  @Value("${idempotency.ttl-sec}")
+  private long ttlSec;
+
+  @Value("${idempotency.max-size}")
+  private int maxSize;
+
+  @Value("${idempotency.persistence.enabled}")
+  private boolean persistenceEnabled;
+
+  private final IdempotencyRecordRepository idempotencyRecordRepository;
+
+  private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+  // 최대 개수 초과시 오래된 키 부터 제거하기 위한 등록 순서
+  private final Queue<String> insertionOrder = new ConcurrentLinkedQueue<>();
+
+  /**
+   * 멱등 키 처리 시작
+   *
+   * @param key 멱등 키
+   * @return 처음 요청이면 처리 권한(owner)을 가진 Ticket, 중복 요청이면 처음 요청 결과를 기다릴 Ticket
+   */
+  public Ticket begin(String key) {
+    long now = System.currentTimeMillis();
+    while (true) {
+      Entry entry = entries.get(key);
+      if (entry != null && !entry.isExpired(now)) {
+        return new Ticket(entry, false);
+      }
+      if (entry != null) {
+        entries.remove(key, entry);
+        continue;
+      }
+
+      Optional<Entry> storedEntry = loadEntry(key, now);
+      Entry newEntry = storedEntry.orElseGet(() -> new Entry(now + ttlMilSec()));
+      if (entries.putIfAbsent(key, newEntry) == null) {
+        insertionOrder.add(key);
+        evictIfFull();
+        return new Ticket(newEntry, storedEntry.isEmpty());
+      }
+    }
+  }
+
+  /**
+   * 처음 요청 처리 완료
+   * 기다리던 중복 요청들에게 응답을 전달하고, 이후 중복 요청에도 같은 응답을 준다.
+   *
+   * @param key      멱등 키
+   * @param ticket   begin 에서 받은 owner Ticket
+   * @param response 처리 결과 응답
+   */
+  public void complete(String key, Ticket ticket, IdempotencyResponse response) {
+    ticket.entry.future.complete(response);
+
+    if (!persistenceEnabled) {
+      return;
+    }
+    try {
+      idempotencyRecordRepository.save(IdempotencyRecord.builder()
+          .idempotencyKey(key)
+          .status(response.getStatus())
+          .contentType(response.getContentType())
+          .body(response.getBody())
+          .build());
+    } catch (RuntimeException e) {
+      log.error("idempotency record save failed. key : {}", key, e);
+    }
+  }
+
+  /**
+   * 처음 요청 처리 실패
+   * 결과를 저장하지 않아 재시도 요청이 다시 처리될 수 있게 한다.
+   *
+   * @param key    멱등 키
+   * @param ticket begin 에서 받은 owner Ticket
+   */
+  public void abandon(String key, Ticket ticket) {
+    entries.remove(key, ticket.entry);
+    ticket.entry.future.complete(null);
+  }
+
+  /**
+   * 만료된 멱등 키 정리
+   */
+  @Scheduled(fixedDelayString = "${idempotency.sweep-interval-milsec}")
+  public void sweep() {
+    long now = System.currentTimeMillis();
+    entries.entrySet().removeIf(e -> e.getValue().isDone() && e.getValue().isExpired(now));
+    insertionOrder.removeIf(key -> !entries.containsKey(key));
+
+    if (persistenceEnabled) {
+      idempotencyRecordRepository.deleteByCreatedAtBefore(
+          OffsetDateTime.now().minusSeconds(ttlSec));
+    }
+  }
+
+  private Optional<Entry> loadEntry(String key, long now) {
+    if (!persistenceEnabled) {
+      return Optional.empty();
+    }
+
+    return idempotencyRecordRepository.findById(key)
+        .filter(f -> f.getCreatedAt().isAfter(OffsetDateTime.now().minusSeconds(ttlSec)))
+        .map(f -> {
+          Entry entry = new Entry(now + ttlMilSec());
+          entry.future.complete(IdempotencyResponse.builder()
+              .status(f.getStatus())
+              .contentType(f.getContentType())
+              .body(f.getBody())
+              .build());
+          return entry;
+        });
+  }
+
+  /**
+   * 최대 개수 초과시 오래된 키 부터 제거 (처리 중인 키는 제외)
+   */
+  private void evictIfFull() {
+    int attempts = insertionOrder.size();
+    while (entries.size() > maxSize && attempts-- > 0) {
+      String oldestKey = insertionOrder.poll();
+      if (oldestKey == null) {
+        return;
+      }
+
+      Entry oldest = entries.get(oldestKey);
+      if (oldest != null && !oldest.isDone()) {
+        insertionOrder.add(oldestKey);
+        continue;
+      }
+      entries.remove(oldestKey);
+    }
+  }
+
+  private long ttlMilSec() {
+    return TimeUnit.SECONDS.toMillis(ttlSec);
+  }
+
+  private static class Entry {
+
+    private final long expireAt;
+    private final CompletableFuture<IdempotencyResponse> future = new CompletableFuture<>();
+
+    private Entry(long expireAt) {
+      this.expireAt = expireAt;
+    }
+
+    private boolean isExpired(long now) {
+      return expireAt < now;
+    }
+
+    private boolean isDone() {
+      return future.isDone();
+    }
+  }
+
+  public static class Ticket {
+
+    private final Entry entry;
+    // true : 이 요청이 처리 권한을 가진다.
+    @Getter
+    private final boolean owner;
+
+    private Ticket(Entry entry, boolean owner) {
+      this.entry = entry;
+      this.owner = owner;
+    }
+
+    /**
+     * 처음 요청의 처리 결과 대기
+     *
+     * @param waitMilSec 최대 대기 시간
+     * @return 처리 결과 (처음 요청이 실패했으면 null)
+     * @throws TimeoutException 대기 시간 초과
+     */
+    public IdempotencyResponse await(long waitMilSec)
+        throws InterruptedException, ExecutionException, TimeoutException {
+      return entry.future.get(waitMilSec, TimeUnit.MILLISECONDS);
+    }
+  }
+}
@@ -3,7 +3,7 @@ package com.example.web.util.interceptor;
 import com.example.web.model.annotation.IgnoreAuth;
 import com.example.web.model.exception.CustomErrorException;
 import com.example.web.model.oauth.JwtUser;
-import com.example.web.util.container.SessionContainer;
+import com.example.web.util.container.RequestContext;
 import com.example.web.util.token.JwtTokenUtil;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -33,10 +33,9 @@ public class SessionInterceptor extends HandlerInterceptorBase {
 
     JwtUser userInfo;
     try {
-      // 클라이언트 요청에 따라 JWT 에서 유저 정보를 가져온 후, ThreadLocal 에 해당 유저 정보 set
+      // 클라이언트 요청에 따라 JWT 에서 유저 정보(만료 시간 포함)를 가져온 후, 요청 컨텍스트에 해당 유저 정보 set
       userInfo = jwtTokenUtil.getUserInfo(accessToken);
-      userInfo.setExpireTime(jwtTokenUtil.getExpireTime(accessToken));
-      SessionContainer.setSession(userInfo);
+      RequestContext.setUser(userInfo);
     } catch (ExpiredJwtException e) {
       System.out.println("Token has expired. : " + e);
     } catch (Exception e) {
@@ -1,37 +1,74 @@
 package com.example.web.util.token;
 
 import com.example.web.model.oauth.JwtUser;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.jackson.io.JacksonDeserializer;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.NonNull;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * jwt 토큰 생성/검증
+ * 파서는 한번만 만들어 재사용하고(thread-safe), claim 은 바로 JwtUser 로 변환한다.
+ * 검증한 토큰은 만료 전까지 토큰 해시로 캐시하여 같은 토큰은 서명(HMAC-SHA512)을 다시 검증하지 않는다.
+ */
 @Component
 public class JwtTokenUtil {
 
-  @Value("${jwt.access_token_expire_milsec}")
-  private long accessTokenExpireMilSec;
+  private static final String USER_INFO = "userInfo";
 
-  @Value("${jwt.refresh_token_expire_milsec}")
-  private long refreshTokenExpireMilSec;
+  private final long accessTokenExpireMilSec;
 
-  private static final String USER_INFO = "userInfo";
+  private final long refreshTokenExpireMilSec;
 
   private final Key key;
 
-   public JwtTokenUtil(@Value("${jwt.secret-key}") String secretKey) {
+  private final JwtParser jwtParser;
+
+  // 토큰 해시(SHA-256) -> 검증한 토큰 정보 (토큰 원문은 보관하지 않는다.)
+  private final Cache<String, VerifiedToken> verifiedTokenCache;
+
+  public JwtTokenUtil(@Value("${jwt.secret-key}") String secretKey,
+      @Value("${jwt.access_token_expire_milsec}") long accessTokenExpireMilSec,
+      @Value("${jwt.refresh_token_expire_milsec}") long refreshTokenExpireMilSec,
+      @Value("${jwt.verified_token_cache_size}") long verifiedTokenCacheSize,
+      MeterRegistry meterRegistry) {
+    this.accessTokenExpireMilSec = accessTokenExpireMilSec;
+    this.refreshTokenExpireMilSec = refreshTokenExpireMilSec;
+
     byte[] keyBytes = Decoders.BASE64.decode(secretKey);
     this.key = Keys.hmacShaKeyFor(keyBytes);  //키 생성
+    this.jwtParser = Jwts.parserBuilder()
+        .deserializeJsonWith(new JacksonDeserializer<>(Map.of(USER_INFO, JwtUser.class)))
+        .setSigningKey(key)
+        .build();
+
+    this.verifiedTokenCache = Caffeine.newBuilder()
+        .maximumSize(verifiedTokenCacheSize)
+        .expireAfter(new VerifiedTokenExpiry())
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokenCache, "jwtVerifiedToken");
   }
 
   /**
@@ -49,31 +86,84 @@ public class JwtTokenUtil {
         .compact(); // 토큰 생성
   }
 
-  public JwtUser getUserInfo(@NonNull String accessToken) throws JsonProcessingException {
-    ObjectMapper objectMapper = new ObjectMapper();
-    String jwtUser = objectMapper.writeValueAsString(
-        parseClaims(accessToken).get(USER_INFO));
+  /**
+   * 토큰에서 유저 정보 획득 (토큰당 검증 1회)
+   * 만료된 토큰도 서명이 맞으면 유저 정보를 반환한다. (응답시 재발급)
+   *
+   * @param accessToken jwt 토큰
+   * @return 유저 정보 (expireTime 포함, 호출마다 새 객체)
+   */
+  public JwtUser getUserInfo(@NonNull String accessToken) {
+    long now = System.currentTimeMillis();
+    String tokenHash = hash(accessToken);
+
+    VerifiedToken verifiedToken = verifiedTokenCache.getIfPresent(tokenHash);
+    if (verifiedToken == null || verifiedToken.expireTime() <= now) {
+      verifiedToken = verify(accessToken);
+      // 만료 전인 토큰만 캐시
+      if (verifiedToken.expireTime() > now) {
+        verifiedTokenCache.put(tokenHash, verifiedToken);
+      }
+    }
 
-    return objectMapper.readValue(jwtUser, JwtUser.class);  // JSON string to clazz
+    return JwtUser.builder()
+        .userIndex(verifiedToken.userIndex())
+        .expireTime(verifiedToken.expireTime())
+        .build();
   }
 
-  private Claims parseClaims(String accessToken) {
+  private VerifiedToken verify(String accessToken) {
+    Claims claims;
     try {
-      return Jwts.parserBuilder()
-          .setSigningKey(key)
-          .build()
-          .parseClaimsJws(accessToken)
-          .getBody();
+      claims = jwtParser.parseClaimsJws(accessToken).getBody();
     } catch (ExpiredJwtException e) {
-      return e.getClaims();
+      // 서명 검증 후 만료를 확인하므로 claim 은 검증된 값
+      claims = e.getClaims();
     }
+
+    JwtUser jwtUser = claims.get(USER_INFO, JwtUser.class);
+    return new VerifiedToken(jwtUser.getUserIndex(), claims.getExpiration().getTime());
   }
 
-  public long getExpireTime(@NonNull String accessToken) {
-    return parseClaims(accessToken).getExpiration().getTime();
+  private String hash(String accessToken) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256")
+          .digest(accessToken.getBytes(StandardCharsets.UTF_8));
+      return Base64.getEncoder().encodeToString(digest);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
   }
 
   public boolean isRefresh(@NonNull JwtUser userInfo) {
     return userInfo.getExpireTime() < System.currentTimeMillis() + refreshTokenExpireMilSec;
   }
+
+  private record VerifiedToken(long userIndex, long expireTime) {
+
+  }
+
+  /**
+   * 캐시 항목은 토큰 만료 시간에 제거
+   */
+  private static class VerifiedTokenExpiry implements Expiry<String, VerifiedToken> {
+
+    @Override
+    public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+      long remainMilSec = value.expireTime() - System.currentTimeMillis();
+      return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainMilSec));
+    }
+
+    @Override
+    public long expireAfterUpdate(String key, VerifiedToken value, long currentTime,
+        long currentDuration) {
+      return expireAfterCreate(key, value, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(String key, VerifiedToken value, long currentTime,
+        long currentDuration) {
+      return currentDuration;
+    }
+  }
 }
@@ -0,0 +1,59 @@
+package com.example.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.web.model.attend.AttendBitmap;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class AttendBitmapTest {
+
+  private static final LocalDate TODAY = LocalDate.of(2023, 12, 2);
+
+  @Test
+  public void attendSameDayOnlyOnce() {
+    AttendBitmap attendBitmap = new AttendBitmap(Map.of(), 0, null);
+
+    assertThat(attendBitmap.isAttended(TODAY)).isFalse();
+    assertThat(attendBitmap.attend(TODAY, OffsetDateTime.now())).isTrue();
+    assertThat(attendBitmap.attend(TODAY, OffsetDateTime.now())).isFalse();
+    assertThat(attendBitmap.isAttended(TODAY)).isTrue();
+    assertThat(attendBitmap.getAttendCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void streakContinuesAcrossMonths() {
+    // 11/29, 11/30 출석
+    int november = (1 << 28) | (1 << 29);
+    AttendBitmap attendBitmap = new AttendBitmap(Map.of(202311, november), 2, null);
+
+    assertThat(attendBitmap.getStreak(TODAY)).isZero();
+
+    attendBitmap.attend(TODAY.minusDays(1), OffsetDateTime.now());
+    assertThat(attendBitmap.getStreak(TODAY)).isEqualTo(3);
+
+    attendBitmap.attend(TODAY, OffsetDateTime.now());
+    assertThat(attendBitmap.getStreak(TODAY)).isEqualTo(4);
+    assertThat(attendBitmap.getStreak(TODAY.plusDays(2))).isZero();
+  }
+
+  @Test
+  public void streakIsRebuiltOnLoad() {
+    // 12/1, 12/2 출석, 11/30 출석
+    AttendBitmap attendBitmap = new AttendBitmap(
+        Map.of(202311, 1 << 29, 202312, 0b11), 3, null);
+
+    assertThat(attendBitmap.getStreakUntil(TODAY)).isEqualTo(3);
+  }
+
+  @Test
+  public void calendarListsAttendedDays() {
+    AttendBitmap attendBitmap = new AttendBitmap(Map.of(202312, (1 << 30) | 0b101), 3, null);
+
+    assertThat(attendBitmap.getCalendar(YearMonth.of(2023, 12))).containsExactly(1, 3, 31);
+    assertThat(attendBitmap.getCalendar(YearMonth.of(2024, 1))).isEmpty();
+  }
+}
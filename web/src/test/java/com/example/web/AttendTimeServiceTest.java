@@ -0,0 +1,93 @@
+package com.example.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.web.jpa.entity.attend.AttendTime;
+import com.example.web.jpa.repository.attend.AttendRepository;
+import com.example.web.model.enums.AttendType;
+import com.example.web.service.attend.AttendTimeService;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.scheduling.TaskScheduler;
+
+/**
+ * 출석부 시간 경계 갱신
+ * 진행 중인 출석부 목록은 다음 시작/종료 경계에 다시 계산하고, 갱신 전에 들어온 조회도 맞는 목록을 받아야 한다.
+ */
+public class AttendTimeServiceTest {
+
+  private TaskScheduler taskScheduler;
+  private AttendTimeService attendTimeService;
+
+  private OffsetDateTime loadedAt;
+  private AttendTime ending;
+  private AttendTime starting;
+
+  @BeforeEach
+  public void setUp() {
+    loadedAt = OffsetDateTime.now();
+    // 곧 끝나는 출석부, 끝난 후 잠시 비었다가 시작하는 출석부
+    ending = getAttendTime(1, loadedAt.minusDays(1), loadedAt.plusNanos(300_000_000));
+    starting = getAttendTime(2, loadedAt.plusNanos(600_000_000), loadedAt.plusDays(1));
+
+    AttendRepository attendRepository = mock(AttendRepository.class);
+    when(attendRepository.findAll()).thenReturn(List.of(starting, ending));
+    taskScheduler = mock(TaskScheduler.class);
+
+    attendTimeService = new AttendTimeService(attendRepository, taskScheduler);
+    attendTimeService.reload();
+  }
+
+  @Test
+  public void refreshIsScheduledAtNextBoundary() {
+    ArgumentCaptor<Instant> refreshAt = ArgumentCaptor.forClass(Instant.class);
+    verify(taskScheduler).schedule(any(Runnable.class), refreshAt.capture());
+
+    // 진행 중인 출석부의 종료 직후
+    assertThat(refreshAt.getValue()).isEqualTo(ending.getEndTime().plusNanos(1).toInstant());
+    assertThat(attendTimeService.getNowAttendTimes(loadedAt.plusNanos(1)))
+        .containsExactly(ending);
+  }
+
+  @Test
+  public void queryPastBoundaryBeforeRefreshFindsActiveTimes() {
+    // 경계 갱신이 늦어도 계산해 둔 구간 밖의 조회는 전체 목록에서 다시 찾는다.
+    assertThat(attendTimeService.getNowAttendTimes(loadedAt.plusNanos(400_000_000))).isEmpty();
+    assertThat(attendTimeService.getNowAttendTimes(loadedAt.plusNanos(700_000_000)))
+        .containsExactly(starting);
+  }
+
+  @Test
+  public void refreshMovesToFollowingBoundary() throws Exception {
+    ArgumentCaptor<Runnable> refresh = ArgumentCaptor.forClass(Runnable.class);
+    verify(taskScheduler).schedule(refresh.capture(), any(Instant.class));
+
+    // 첫 경계(종료 직후)가 지난 뒤 스케줄러가 실행한 것처럼 갱신
+    Thread.sleep(400);
+    refresh.getValue().run();
+
+    ArgumentCaptor<Instant> refreshAt = ArgumentCaptor.forClass(Instant.class);
+    verify(taskScheduler, times(2)).schedule(any(Runnable.class), refreshAt.capture());
+    assertThat(refreshAt.getValue()).isEqualTo(starting.getStartTime().toInstant());
+    assertThat(attendTimeService.getNowAttendTimes(loadedAt.plusNanos(450_000_000))).isEmpty();
+  }
+
+  private AttendTime getAttendTime(int attendIndex, OffsetDateTime startTime,
+      OffsetDateTime endTime) {
+    return AttendTime.builder()
+        .attendIndex(attendIndex)
+        .attendType(AttendType.DAILY_ATTEND)
+        .startTime(startTime)
+        .endTime(endTime)
+        .build();
+  }
+}
@@ -0,0 +1,64 @@
+package com.example.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.web.jpa.entity.attend.UserAttendMonth;
+import com.example.web.jpa.repository.attend.UserAttendMonthRepository;
+import com.example.web.model.exception.CustomErrorException;
+import com.example.web.service.attend.AttendBitmapStore;
+import com.example.web.service.attend.AttendService;
+import com.example.web.service.attend.AttendTask;
+import java.time.OffsetDateTime;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+public class AttendUsersTest {
+
+  // 유저 정보(지갑)가 없는 유저
+  private static final long USER_INDEX = Long.MAX_VALUE - 3;
+
+  @Autowired
+  private AttendService attendService;
+
+  @Autowired
+  private AttendBitmapStore attendBitmapStore;
+
+  @Autowired
+  private UserAttendMonthRepository userAttendMonthRepository;
+
+  @AfterEach
+  public void tearDown() {
+    attendBitmapStore.invalidate(USER_INDEX);
+    userAttendMonthRepository.deleteAll(userAttendMonthRepository.findByUserIndex(USER_INDEX));
+  }
+
+  @Test
+  public void attendBitIsClearedWhenRewardFails() {
+    AttendTask task = new AttendTask(USER_INDEX, OffsetDateTime.now());
+
+    attendService.attendUsers(List.of(task));
+    task.complete();
+
+    assertThatThrownBy(() -> task.getFuture().join())
+        .hasCauseInstanceOf(CustomErrorException.class);
+    // 보상을 받지 못했으므로 출석하지 않은 상태로 남는다.
+    assertThat(userAttendMonthRepository.findByUserIndex(USER_INDEX))
+        .extracting(UserAttendMonth::getDays)
+        .allMatch(days -> days == 0);
+  }
+
+  @Test
+  public void checkBeforeAdmissionDoesNotLoadBitmap() {
+    attendBitmapStore.invalidate(USER_INDEX);
+
+    attendService.checkNotAttendedToday(USER_INDEX, OffsetDateTime.now());
+
+    // 유입 제어 전에는 DB 에서 로드하지 않는다.
+    assertThat(attendBitmapStore.getIfPresent(USER_INDEX)).isNull();
+  }
+}
@@ -0,0 +1,83 @@
+package com.example.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.web.util.circuit.CircuitBreaker;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class CircuitBreakerTest {
+
+  private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+  private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(500);
+
+  private final AtomicLong clock = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+
+  private CircuitBreaker circuitBreaker;
+
+  @BeforeEach
+  public void setUp() {
+    // 최근 10번 중 최소 4번, 실패 50% or 느린 호출 80% 이상이면 열림, 1초 유지, 시험 호출 2번
+    circuitBreaker = new CircuitBreaker(10, 4, 50, 80, 200, 1000, 2, clock::get);
+  }
+
+  @Test
+  public void opensWhenFailureRateCrossesThreshold() {
+    call(false, FAST);
+    call(true, FAST);
+    call(false, FAST);
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+    call(true, FAST);
+
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    assertThat(circuitBreaker.tryAcquire()).isFalse();
+    assertThat(circuitBreaker.getRemainingOpenNanos()).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+  }
+
+  @Test
+  public void opensWhenSlowCallRateCrossesThreshold() {
+    for (int i = 0; i < 4; i++) {
+      call(false, SLOW);
+    }
+
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+  }
+
+  @Test
+  public void halfOpenClosesAfterHealthyTrialCalls() {
+    for (int i = 0; i < 4; i++) {
+      call(true, FAST);
+    }
+    clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+    assertThat(circuitBreaker.tryAcquire()).isTrue();
+    assertThat(circuitBreaker.tryAcquire()).isTrue();
+    // 시험 호출 수 만큼만 허용
+    assertThat(circuitBreaker.tryAcquire()).isFalse();
+
+    circuitBreaker.onResult(FAST, false);
+    circuitBreaker.onResult(FAST, false);
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+  }
+
+  @Test
+  public void halfOpenReopensOnFailure() {
+    for (int i = 0; i < 4; i++) {
+      call(true, FAST);
+    }
+    clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+    call(true, FAST);
+    call(false, FAST);
+
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+  }
+
+  private void call(boolean failed, long durationNanos) {
+    assertThat(circuitBreaker.tryAcquire()).isTrue();
+    circuitBreaker.onResult(durationNanos, failed);
+  }
+}
@@ -0,0 +1,72 @@
+package com.example.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.web.util.datasource.ConcurrencyLimitedDataSource;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ConcurrencyLimitedDataSourceTest {
+
+  private AtomicInteger closeCount;
+  private ConcurrencyLimitedDataSource dataSource;
+
+  @BeforeEach
+  public void setUp() {
+    closeCount = new AtomicInteger();
+    dataSource = new ConcurrencyLimitedDataSource(stubDataSource(), 1, 50);
+  }
+
+  @Test
+  public void waitsUpToMaxWaitThenFails() throws Exception {
+    Connection connection = dataSource.getConnection();
+    assertThat(dataSource.getInFlight()).isEqualTo(1);
+
+    assertThatThrownBy(dataSource::getConnection)
+        .isInstanceOf(SQLTransientConnectionException.class);
+    assertThat(dataSource.getTimeoutCount()).isEqualTo(1);
+
+    connection.close();
+    assertThat(dataSource.getInFlight()).isZero();
+    assertThat(closeCount.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void closingTwiceReleasesOnce() throws Exception {
+    Connection connection = dataSource.getConnection();
+    connection.close();
+    connection.close();
+
+    Connection next = dataSource.getConnection();
+    assertThat(dataSource.getInFlight()).isEqualTo(1);
+    assertThatThrownBy(dataSource::getConnection)
+        .isInstanceOf(SQLTransientConnectionException.class);
+    next.close();
+  }
+
+  private DataSource stubDataSource() {
+    return (DataSource) Proxy.newProxyInstance(DataSource.class.getClassLoader(),
+        new Class<?>[]{DataSource.class}, (proxy, method, args) -> {
+          if ("getConnection".equals(method.getName())) {
+            return stubConnection();
+          }
+          throw new UnsupportedOperationException(method.getName());
+        });
+  }
+
+  private Connection stubConnection() {
+    return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+        new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+          if ("close".equals(method.getName())) {
+            closeCount.incrementAndGet();
+          }
+          return null;
+        });
+  }
+}
@@ -0,0 +1,127 @@
+package com.example.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.web.model.oauth.JwtUser;
+import com.example.web.util.filter.IdempotencyFilter;
+import com.example.web.util.idempotency.IdempotencyStore;
+import com.example.web.util.token.JwtTokenUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+public class IdempotencyFilterTest {
+
+  private static final String SECRET_KEY = Base64.getEncoder().encodeToString(new byte[64]);
+
+  private JwtTokenUtil jwtTokenUtil;
+  private AsyncController asyncController;
+  private MockMvc mockMvc;
+
+  @BeforeEach
+  public void setUp() {
+    jwtTokenUtil = new JwtTokenUtil(SECRET_KEY, 60000, 30000, 100, new SimpleMeterRegistry());
+
+    IdempotencyStore idempotencyStore = new IdempotencyStore(null);
+    ReflectionTestUtils.setField(idempotencyStore, "ttlSec", 600L);
+    ReflectionTestUtils.setField(idempotencyStore, "maxSize", 100);
+    ReflectionTestUtils.setField(idempotencyStore, "persistenceEnabled", false);
+
+    IdempotencyFilter idempotencyFilter = new IdempotencyFilter(idempotencyStore, jwtTokenUtil,
+        new ObjectMapper());
+    ReflectionTestUtils.setField(idempotencyFilter, "waitMilSec", 1000L);
+
+    asyncController = new AsyncController();
+    mockMvc = MockMvcBuilders.standaloneSetup(asyncController)
+        .addFilters(idempotencyFilter)
+        .build();
+  }
+
+  @Test
+  public void asyncResponseIsReplayedWithRefreshedToken() throws Exception {
+    MvcResult first = mockMvc.perform(post("/buy")
+            .header(HttpHeaders.AUTHORIZATION, "Bearer " + getToken(1))
+            .header(IdempotencyFilter.IDEMPOTENCY_KEY, "key"))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+    mockMvc.perform(asyncDispatch(first))
+        .andExpect(status().isOk())
+        .andExpect(content().string("bought 1"));
+
+    // 응답에서 재발급 받은 토큰으로 재시도해도 같은 유저의 같은 키
+    mockMvc.perform(post("/buy")
+            .header(HttpHeaders.AUTHORIZATION, "Bearer " + getToken(2))
+            .header(IdempotencyFilter.IDEMPOTENCY_KEY, "key"))
+        .andExpect(status().isOk())
+        .andExpect(header().string("Idempotent-Replayed", "true"))
+        .andExpect(content().string("bought 1"));
+
+    assertThat(asyncController.calls.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void failedAsyncResponseIsNotStored() throws Exception {
+    asyncController.failFirst = true;
+
+    MvcResult first = mockMvc.perform(post("/buy")
+            .header(HttpHeaders.AUTHORIZATION, "Bearer " + getToken(1))
+            .header(IdempotencyFilter.IDEMPOTENCY_KEY, "key"))
+        .andReturn();
+    mockMvc.perform(asyncDispatch(first))
+        .andExpect(status().isInternalServerError());
+
+    // 실패한 응답은 저장하지 않으므로 다시 처리한다.
+    MvcResult retry = mockMvc.perform(post("/buy")
+            .header(HttpHeaders.AUTHORIZATION, "Bearer " + getToken(2))
+            .header(IdempotencyFilter.IDEMPOTENCY_KEY, "key"))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+    mockMvc.perform(asyncDispatch(retry))
+        .andExpect(status().isOk())
+        .andExpect(content().string("bought 2"));
+  }
+
+  /**
+   * 같은 유저, 만료 시간만 다른 토큰 (응답마다 재발급되는 토큰)
+   */
+  private String getToken(long expireTime) {
+    return jwtTokenUtil.generateToken(JwtUser.builder()
+        .userIndex(7L)
+        .expireTime(expireTime)
+        .build());
+  }
+
+  @RestController
+  public static class AsyncController {
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private volatile boolean failFirst;
+
+    @PostMapping("/buy")
+    public CompletableFuture<ResponseEntity<String>> buy() {
+      int call = calls.incrementAndGet();
+      if (failFirst && call == 1) {
+        return CompletableFuture.completedFuture(ResponseEntity.internalServerError().build());
+      }
+      return CompletableFuture.supplyAsync(() -> ResponseEntity.ok("bought " + call));
+    }
+  }
+}
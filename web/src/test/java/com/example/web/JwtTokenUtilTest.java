@@ -0,0 +1,76 @@
+package com.example.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.web.model.oauth.JwtUser;
+import com.example.web.util.token.JwtTokenUtil;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Base64;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class JwtTokenUtilTest {
+
+  private static final String SECRET_KEY = Base64.getEncoder().encodeToString(new byte[64]);
+
+  private SimpleMeterRegistry meterRegistry;
+  private JwtTokenUtil jwtTokenUtil;
+
+  @BeforeEach
+  public void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    jwtTokenUtil = new JwtTokenUtil(SECRET_KEY, 60000, 30000, 100, meterRegistry);
+  }
+
+  @Test
+  public void getUserInfoReturnsUserAndExpireTime() {
+    long before = System.currentTimeMillis();
+    String token = jwtTokenUtil.generateToken(JwtUser.builder().userIndex(7L).build());
+
+    JwtUser jwtUser = jwtTokenUtil.getUserInfo(token);
+
+    assertThat(jwtUser.getUserIndex()).isEqualTo(7L);
+    // jwt 만료 시간은 초 단위
+    assertThat(jwtUser.getExpireTime()).isBetween(before + 59000, before + 61000);
+  }
+
+  @Test
+  public void verifiedTokenIsServedFromCache() {
+    String token = jwtTokenUtil.generateToken(JwtUser.builder().userIndex(7L).build());
+
+    JwtUser first = jwtTokenUtil.getUserInfo(token);
+    JwtUser second = jwtTokenUtil.getUserInfo(token);
+
+    assertThat(second).isNotSameAs(first);
+    assertThat(second.getUserIndex()).isEqualTo(first.getUserIndex());
+    assertThat(meterRegistry.get("cache.gets").tag("cache", "jwtVerifiedToken")
+        .tag("result", "hit").functionCounter().count()).isEqualTo(1);
+  }
+
+  @Test
+  public void tamperedTokenIsRejected() {
+    String token = jwtTokenUtil.generateToken(JwtUser.builder().userIndex(7L).build());
+    jwtTokenUtil.getUserInfo(token);
+
+    String tampered = token.substring(0, token.length() - 2)
+        + (token.endsWith("AA") ? "BB" : "AA");
+
+    assertThatThrownBy(() -> jwtTokenUtil.getUserInfo(tampered))
+        .isInstanceOf(SignatureException.class);
+  }
+
+  @Test
+  public void expiredTokenIsReadButNotCached() {
+    SimpleMeterRegistry expiredMeterRegistry = new SimpleMeterRegistry();
+    JwtTokenUtil expiredTokenUtil = new JwtTokenUtil(SECRET_KEY, -60000, 30000, 100,
+        expiredMeterRegistry);
+    String token = expiredTokenUtil.generateToken(JwtUser.builder().userIndex(7L).build());
+
+    assertThat(expiredTokenUtil.getUserInfo(token).getUserIndex()).isEqualTo(7L);
+    assertThat(expiredTokenUtil.isRefresh(expiredTokenUtil.getUserInfo(token))).isTrue();
+    assertThat(expiredMeterRegistry.get("cache.gets").tag("cache", "jwtVerifiedToken")
+        .tag("result", "hit").functionCounter().count()).isZero();
+  }
+}
@@ -0,0 +1,87 @@
+package com.example.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import com.example.web.service.user.LastLoginBuffer;
+import com.example.web.service.user.UserInfoCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+public class LastLoginBufferTest {
+
+  private static final LocalDateTime LOGIN_AT = LocalDateTime.of(2023, 11, 14, 0, 0);
+
+  private AtomicBoolean failNextFlush;
+  private List<Map.Entry<Long, LocalDateTime>> flushed;
+  private LastLoginBuffer lastLoginBuffer;
+
+  @BeforeEach
+  public void setUp() {
+    failNextFlush = new AtomicBoolean();
+    flushed = new ArrayList<>();
+
+    JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    doAnswer(invocation -> {
+      if (failNextFlush.getAndSet(false)) {
+        throw new DataAccessResourceFailureException("flush failed");
+      }
+      Collection<Map.Entry<Long, LocalDateTime>> loginTimes = invocation.getArgument(1);
+      flushed.addAll(loginTimes);
+      return new int[0][];
+    }).when(jdbcTemplate).batchUpdate(anyString(), anyCollection(), anyInt(),
+        any(ParameterizedPreparedStatementSetter.class));
+
+    lastLoginBuffer = new LastLoginBuffer(jdbcTemplate,
+        new UserInfoCache(new SimpleMeterRegistry(), 100, 60));
+  }
+
+  @Test
+  public void flushWritesLatestLoginTimePerUser() {
+    lastLoginBuffer.record(1L, LOGIN_AT);
+    lastLoginBuffer.record(1L, LOGIN_AT.plusMinutes(2));
+    // 늦게 도착한 이전 로그인 시간은 최근 시간을 덮어쓰지 않는다.
+    lastLoginBuffer.record(1L, LOGIN_AT.plusMinutes(1));
+    lastLoginBuffer.record(2L, LOGIN_AT);
+
+    lastLoginBuffer.flush();
+
+    assertThat(flushed).containsExactlyInAnyOrder(
+        Map.entry(1L, LOGIN_AT.plusMinutes(2)),
+        Map.entry(2L, LOGIN_AT));
+    assertThat(lastLoginBuffer.getPending(1L)).isNull();
+    assertThat(lastLoginBuffer.getPending(2L)).isNull();
+  }
+
+  @Test
+  public void failedFlushIsRetriedWithLatestLoginTime() {
+    lastLoginBuffer.record(1L, LOGIN_AT);
+    failNextFlush.set(true);
+
+    lastLoginBuffer.flush();
+
+    // 실패한 시간은 다시 기록되어 조회시에도 보인다.
+    assertThat(flushed).isEmpty();
+    assertThat(lastLoginBuffer.getPending(1L)).isEqualTo(LOGIN_AT);
+
+    lastLoginBuffer.record(1L, LOGIN_AT.plusMinutes(1));
+    lastLoginBuffer.flush();
+
+    assertThat(flushed).containsExactly(Map.entry(1L, LOGIN_AT.plusMinutes(1)));
+  }
+}
@@ -0,0 +1,103 @@
+package com.example.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.web.util.archive.ArchiveRow;
+import com.example.web.util.archive.LogArchiveFile;
+import com.example.web.util.archive.LogArchiveStore;
+import com.example.web.util.archive.LogArchiveType;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class LogArchiveStoreTest {
+
+  private static final int USER_COUNT = 100;
+  private static final int ROWS_PER_USER = 100;
+  private static final long START_MICROS = 1_700_000_000_000_000L;
+
+  @TempDir
+  private Path archiveDir;
+
+  private LogArchiveStore logArchiveStore;
+
+  @BeforeEach
+  public void setUp() {
+    logArchiveStore = new LogArchiveStore();
+    ReflectionTestUtils.setField(logArchiveStore, "archiveDir", archiveDir.toString());
+    ReflectionTestUtils.invokeMethod(logArchiveStore, "init");
+  }
+
+  @Test
+  public void fileIsSplitIntoBlocksByUserRange() throws Exception {
+    List<ArchiveRow> rows = getRows();
+    LogArchiveFile.Header header = LogArchiveFile.write(archiveDir.resolve("test.lga"), rows);
+
+    int blockCount = (rows.size() + LogArchiveFile.BLOCK_ROWS - 1) / LogArchiveFile.BLOCK_ROWS;
+    assertThat(header.getRowCount()).isEqualTo(rows.size());
+    assertThat(header.getBlocks()).hasSize(blockCount);
+
+    // 한 유저의 행은 한두 개 블록에만 있다.
+    assertThat(header.getBlocks().stream()
+        .filter(block -> block.overlaps(50, Long.MIN_VALUE, Long.MAX_VALUE))
+        .count()).isBetween(1L, 2L);
+
+    List<ArchiveRow> read = new ArrayList<>();
+    for (LogArchiveFile.Block block : LogArchiveFile.readHeader(archiveDir.resolve("test.lga"))
+        .getBlocks()) {
+      read.addAll(LogArchiveFile.readRows(archiveDir.resolve("test.lga"), block));
+    }
+    assertThat(read).isEqualTo(rows);
+  }
+
+  @Test
+  public void readReturnsLatestRowsOfUser() throws Exception {
+    logArchiveStore.write(LogArchiveType.USER_MONEY_LOG, LocalDate.of(2023, 11, 14),
+        getRows());
+
+    List<ArchiveRow> result = logArchiveStore.read(LogArchiveType.USER_MONEY_LOG, 50, null,
+        null, null, null, 10);
+
+    assertThat(result).hasSize(10);
+    assertThat(result).allMatch(row -> row.userIndex() == 50);
+    assertThat(result).extracting(ArchiveRow::createdAtMicros)
+        .isSortedAccordingTo((a, b) -> Long.compare(b, a))
+        .first().isEqualTo(getCreatedAtMicros(ROWS_PER_USER - 1));
+  }
+
+  @Test
+  public void streamReturnsAllRowsOfUserOldestFirst() throws Exception {
+    logArchiveStore.write(LogArchiveType.USER_MONEY_LOG, LocalDate.of(2023, 11, 14),
+        getRows());
+
+    List<ArchiveRow> result = logArchiveStore.stream(LogArchiveType.USER_MONEY_LOG, 50,
+        null, null, null).toList();
+
+    assertThat(result).hasSize(ROWS_PER_USER);
+    assertThat(result).allMatch(row -> row.userIndex() == 50);
+    assertThat(result).extracting(ArchiveRow::createdAtMicros).isSorted();
+  }
+
+  /**
+   * 유저 인덱스, 로그 인덱스 순 (아카이브 저장 순서)
+   */
+  private List<ArchiveRow> getRows() {
+    List<ArchiveRow> rows = new ArrayList<>();
+    long logIndex = 1;
+    for (long userIndex = 1; userIndex <= USER_COUNT; userIndex++) {
+      for (int i = 0; i < ROWS_PER_USER; i++) {
+        rows.add(new ArchiveRow(logIndex++, userIndex, 1, i, i + 1, getCreatedAtMicros(i)));
+      }
+    }
+    return rows;
+  }
+
+  private long getCreatedAtMicros(int i) {
+    return START_MICROS + i * 1_000_000L;
+  }
+}
@@ -0,0 +1,130 @@
+package com.example.web;
+
+import static com.example.web.jpa.entity.user.QUserMoneyLog.userMoneyLog;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.web.dto.user.UserMoneyLogInfoDto;
+import com.example.web.jpa.entity.user.UserMoneyLog;
+import com.example.web.jpa.repository.user.UserMoneyLogRepositorySupport;
+import com.example.web.model.enums.MoneyLogType;
+import com.example.web.service.log.LogBatchWriter;
+import com.example.web.util.archive.ArchiveRow;
+import com.example.web.util.archive.LogArchiveStore;
+import com.example.web.util.archive.LogArchiveType;
+import com.example.web.util.cursor.LogCursor;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 돈 변화 로그 keyset 페이지네이션 (CreatedAt desc, LogIndex desc)
+ * 생성 시간이 같은 로그가 페이지 경계에 걸치고, DB 로그 다음에 아카이브 로그가 이어져도
+ * 페이지를 끝까지 넘기면 모든 로그가 중복/누락 없이 한번씩 정렬 순서대로 나와야 한다.
+ * 아카이브는 임시 디렉토리의 저장소를 쓰고, 저장한 DB 로그는 테스트가 끝나면 지운다.
+ */
+@SpringBootTest
+public class LogKeysetPaginationTest {
+
+  private static final long USER_INDEX = Long.MAX_VALUE - 4;
+  private static final int PAGE_SIZE = 3;
+
+  @Autowired
+  @Qualifier("QueryDslJpaQueryFactory")
+  private JPAQueryFactory queryFactory;
+
+  @Autowired
+  private LogBatchWriter logBatchWriter;
+
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  @TempDir
+  private Path archiveDir;
+
+  private LogArchiveStore logArchiveStore;
+  private UserMoneyLogRepositorySupport userMoneyLogRepositorySupport;
+
+  @BeforeEach
+  public void setUp() {
+    logArchiveStore = new LogArchiveStore();
+    ReflectionTestUtils.setField(logArchiveStore, "archiveDir", archiveDir.toString());
+    ReflectionTestUtils.invokeMethod(logArchiveStore, "init");
+    userMoneyLogRepositorySupport = new UserMoneyLogRepositorySupport(queryFactory,
+        logArchiveStore);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    transactionTemplate.executeWithoutResult(status -> queryFactory.delete(userMoneyLog)
+        .where(userMoneyLog.userIndex.eq(USER_INDEX))
+        .execute());
+  }
+
+  @Test
+  public void pagesWalkAllLogsAcrossEqualTimesAndArchive() throws Exception {
+    OffsetDateTime now = OffsetDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+    List<String> expected = new ArrayList<>();
+
+    // DB : 생성 시간이 같은 로그 3개, 4개 (페이지 크기 3 이라 같은 시간 로그가 페이지 경계에 걸친다.)
+    List<UserMoneyLog> logs = new ArrayList<>();
+    for (int i = 0; i < 7; i++) {
+      logs.add(UserMoneyLog.builder()
+          .logType(MoneyLogType.ATTEND)
+          .userIndex(USER_INDEX)
+          .beforeMoney((long) i)
+          .afterMoney((long) i + 1)
+          .createdAt(i < 3 ? now : now.minusSeconds(1))
+          .build());
+    }
+    logBatchWriter.writeInNewTransaction(logs);
+    logs.forEach(f -> expected.add(getKey(f.getCreatedAt(), f.getLogIndex())));
+
+    // 아카이브 : DB 로그보다 오래된 로그, 생성 시간이 같은 로그 3개, 2개
+    OffsetDateTime archivedAt = now.minusDays(1);
+    List<ArchiveRow> rows = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      OffsetDateTime createdAt = i < 2 ? archivedAt.minusSeconds(1) : archivedAt;
+      rows.add(new ArchiveRow(i + 1, USER_INDEX, MoneyLogType.ATTEND.getType(), i, i + 1,
+          LogArchiveStore.toMicros(createdAt)));
+      expected.add(getKey(createdAt, i + 1));
+    }
+    logArchiveStore.write(LogArchiveType.USER_MONEY_LOG, archivedAt.toLocalDate(), rows);
+
+    List<String> walked = new ArrayList<>();
+    LogCursor cursor = null;
+    while (true) {
+      List<UserMoneyLogInfoDto.Log> page = userMoneyLogRepositorySupport.getUserMoneyLogs(
+          USER_INDEX, null, null, null, cursor, PAGE_SIZE);
+      page.forEach(f -> walked.add(getKey(f.createdAt(), f.logIndex())));
+      if (page.size() < PAGE_SIZE) {
+        break;
+      }
+
+      UserMoneyLogInfoDto.Log last = page.get(page.size() - 1);
+      cursor = new LogCursor(last.createdAt(), last.logIndex());
+    }
+
+    expected.sort(Comparator.reverseOrder());
+    assertThat(walked).doesNotHaveDuplicates().containsExactlyElementsOf(expected);
+  }
+
+  /**
+   * 정렬 순서대로 비교할 수 있는 (생성 시간, 로그 인덱스) 키
+   */
+  private String getKey(OffsetDateTime createdAt, long logIndex) {
+    return String.format("%020d:%020d", LogArchiveStore.toMicros(createdAt), logIndex);
+  }
+}
@@ -0,0 +1,138 @@
+package com.example.web;
+
+import static com.example.web.jpa.entity.user.QUserMoneyDaily.userMoneyDaily;
+import static com.example.web.jpa.entity.user.QUserMoneyLog.userMoneyLog;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.web.dto.user.UserMoneyLogInfoDto;
+import com.example.web.jpa.entity.user.UserMoneyLog;
+import com.example.web.jpa.repository.user.UserMoneyLogRepositorySupport;
+import com.example.web.model.enums.MoneyLogType;
+import com.example.web.service.log.LogBatchWriter;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 로그 조회 엔티티 조회(selectFrom) / DTO 조회(Projections.constructor) 비교
+ * 같은 조건으로 조회한 결과가 같은지 확인한다.
+ * 조회당 할당 바이트와 시간은 참고용으로 로그만 남기고 검증하지 않는다. (환경마다 달라서 단위 테스트 기준으로 쓰지 않음)
+ * 저장한 로그와 일별 집계는 테스트가 끝나면 지운다. (다른 @SpringBootTest 와 같은 H2 를 사용)
+ */
+@Slf4j
+@SpringBootTest
+public class LogProjectionComparisonTest {
+
+  private static final long USER_INDEX = Long.MAX_VALUE - 1;
+  private static final int LOG_COUNT = 2000;
+  private static final int ITERATIONS = 20;
+
+  @Autowired
+  private UserMoneyLogRepositorySupport userMoneyLogRepositorySupport;
+
+  @Autowired
+  @Qualifier("QueryDslJpaQueryFactory")
+  private JPAQueryFactory queryFactory;
+
+  @Autowired
+  private LogBatchWriter logBatchWriter;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  @AfterEach
+  public void tearDown() {
+    transactionTemplate.executeWithoutResult(status -> {
+      queryFactory.delete(userMoneyLog)
+          .where(userMoneyLog.userIndex.eq(USER_INDEX))
+          .execute();
+      queryFactory.delete(userMoneyDaily)
+          .where(userMoneyDaily.userIndex.eq(USER_INDEX))
+          .execute();
+    });
+  }
+
+  @Test
+  public void projectionReturnsSameLogsAsEntityQuery() {
+    List<UserMoneyLog> logs = new ArrayList<>();
+    for (int i = 0; i < LOG_COUNT; i++) {
+      logs.add(UserMoneyLog.builder()
+          .logType(MoneyLogType.ATTEND)
+          .userIndex(USER_INDEX)
+          .beforeMoney((long) i)
+          .afterMoney((long) i + 1)
+          .build());
+    }
+    logBatchWriter.writeInNewTransaction(logs);
+
+    List<UserMoneyLogInfoDto.Log> projected = inTransaction(() -> userMoneyLogRepositorySupport
+        .getUserMoneyLogs(USER_INDEX, null, null, null, null, LOG_COUNT));
+    List<UserMoneyLog> entities = inTransaction(this::getEntities);
+
+    assertThat(projected).hasSize(LOG_COUNT);
+    assertThat(projected).extracting(UserMoneyLogInfoDto.Log::logIndex)
+        .containsExactlyElementsOf(entities.stream().map(UserMoneyLog::getLogIndex).toList());
+
+    // 워밍업
+    measure(this::getEntities, 3);
+    measure(() -> userMoneyLogRepositorySupport
+        .getUserMoneyLogs(USER_INDEX, null, null, null, null, LOG_COUNT), 3);
+
+    long[] entityResult = measure(this::getEntities, ITERATIONS);
+    long[] projectionResult = measure(() -> userMoneyLogRepositorySupport
+        .getUserMoneyLogs(USER_INDEX, null, null, null, null, LOG_COUNT), ITERATIONS);
+
+    // 참고용 (검증하지 않음)
+    log.info("log read {} rows, entity : {} bytes / {} us, projection : {} bytes / {} us",
+        LOG_COUNT, entityResult[0], entityResult[1], projectionResult[0], projectionResult[1]);
+  }
+
+  private List<UserMoneyLog> getEntities() {
+    return queryFactory
+        .selectFrom(userMoneyLog)
+        .where(userMoneyLog.userIndex.eq(USER_INDEX))
+        .orderBy(userMoneyLog.createdAt.desc(), userMoneyLog.logIndex.desc())
+        .limit(LOG_COUNT)
+        .fetch();
+  }
+
+  private <T> T inTransaction(Supplier<T> supplier) {
+    return transactionTemplate.execute(status -> {
+      T result = supplier.get();
+      entityManager.clear();
+      return result;
+    });
+  }
+
+  /**
+   * @return 조회 1회당 평균 {할당 바이트, 마이크로초}
+   */
+  private long[] measure(Supplier<?> query, int iterations) {
+    com.sun.management.ThreadMXBean threadMXBean =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    long threadId = Thread.currentThread().getId();
+
+    long startBytes = threadMXBean.getThreadAllocatedBytes(threadId);
+    long startNanos = System.nanoTime();
+    for (int i = 0; i < iterations; i++) {
+      inTransaction(query);
+    }
+    long elapsedNanos = System.nanoTime() - startNanos;
+    long allocatedBytes = threadMXBean.getThreadAllocatedBytes(threadId) - startBytes;
+
+    return new long[]{allocatedBytes / iterations, elapsedNanos / iterations / 1000};
+  }
+}
@@ -0,0 +1,53 @@
+package com.example.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.web.util.batch.MicroBatchQueue;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.Test;
+
+public class MicroBatchQueueTest {
+
+  // execute 된 작업을 직접 실행하는 executor
+  private final Queue<Runnable> tasks = new ArrayDeque<>();
+  private final List<List<Integer>> batches = new ArrayList<>();
+
+  @Test
+  public void rejectsWhenFull() {
+    MicroBatchQueue<Integer> queue = new MicroBatchQueue<>(1, 0, 2, 10, tasks::add,
+        batches::add);
+
+    queue.submit(1);
+    queue.submit(2);
+
+    assertThatThrownBy(() -> queue.submit(3))
+        .isInstanceOf(RejectedExecutionException.class);
+    assertThat(queue.size()).isEqualTo(2);
+  }
+
+  @Test
+  public void drainYieldsAfterMaxBatches() {
+    MicroBatchQueue<Integer> queue = new MicroBatchQueue<>(1, 0, 10, 2, tasks::add,
+        batches::add);
+    for (int i = 0; i < 5; i++) {
+      queue.submit(i);
+    }
+    assertThat(tasks).hasSize(1);
+
+    // 한번에 2개 배치만 처리하고 executor 에 다시 들어간다.
+    tasks.poll().run();
+    assertThat(batches).hasSize(2);
+    assertThat(tasks).hasSize(1);
+
+    while (!tasks.isEmpty()) {
+      tasks.poll().run();
+    }
+    assertThat(batches).containsExactly(List.of(0), List.of(1), List.of(2), List.of(3),
+        List.of(4));
+  }
+}
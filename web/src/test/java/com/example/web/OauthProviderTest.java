@@ -0,0 +1,220 @@
+package com.example.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.example.web.config.ExternalApiConfig;
+import com.example.web.dto.oauth.OauthLoginDto;
+import com.example.web.model.enums.OauthType;
+import com.example.web.model.exception.CustomErrorException;
+import com.example.web.model.oauth.info.KakaoUserInfo;
+import com.example.web.model.oauth.info.NaverUserInfo;
+import com.example.web.model.oauth.info.OauthUserInfo;
+import com.example.web.service.login.oauth.KakaoOauthService;
+import com.example.web.service.login.oauth.NaverOauthService;
+import com.example.web.service.login.oauth.OauthCallExecutor;
+import com.example.web.service.login.oauth.OauthProvider;
+import com.example.web.service.login.oauth.OauthProviderRegistry;
+import com.example.web.util.externalApi.ExternalApiClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpClientErrorException;
+
+public class OauthProviderTest {
+
+  private OauthStubServer stubServer;
+  private PoolingHttpClientConnectionManager connectionManager;
+  private CloseableHttpClient httpClient;
+  private SimpleMeterRegistry meterRegistry;
+  private NaverOauthService naverOauthService;
+  private KakaoOauthService kakaoOauthService;
+  private OauthCallExecutor oauthCallExecutor;
+  private OauthProviderRegistry oauthProviderRegistry;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    stubServer = new OauthStubServer(0, 0);
+    meterRegistry = new SimpleMeterRegistry();
+
+    ExternalApiConfig externalApiConfig = new ExternalApiConfig();
+    ReflectionTestUtils.setField(externalApiConfig, "maxTotal", 10);
+    ReflectionTestUtils.setField(externalApiConfig, "maxPerRoute", 5);
+    ReflectionTestUtils.setField(externalApiConfig, "connectTimeoutMilSec", 1000L);
+    ReflectionTestUtils.setField(externalApiConfig, "readTimeoutMilSec", 3000L);
+    ReflectionTestUtils.setField(externalApiConfig, "poolWaitMilSec", 1000L);
+    ReflectionTestUtils.setField(externalApiConfig, "keepAliveSec", 30L);
+    ReflectionTestUtils.setField(externalApiConfig, "idleEvictSec", 60L);
+
+    connectionManager = externalApiConfig.externalConnectionManager(meterRegistry);
+    httpClient = externalApiConfig.externalHttpClient(connectionManager);
+    // 모든 외부 플랫폼이 같은 커넥션 풀을 쓴다.
+    ExternalApiClient externalApiClient = new ExternalApiClient(
+        externalApiConfig.externalRestTemplate(new RestTemplateBuilder(), httpClient));
+
+    naverOauthService = new NaverOauthService(externalApiClient);
+    ReflectionTestUtils.setField(naverOauthService, "oauthUrl", stubServer.getUrl());
+    ReflectionTestUtils.setField(naverOauthService, "apiUrl", stubServer.getUrl());
+    ReflectionTestUtils.setField(naverOauthService, "clientId", "client-id");
+    ReflectionTestUtils.setField(naverOauthService, "clientSecret", "client-secret");
+    ReflectionTestUtils.setField(naverOauthService, "redirectUrl", "http://localhost/naver");
+
+    kakaoOauthService = new KakaoOauthService(externalApiClient);
+    ReflectionTestUtils.setField(kakaoOauthService, "oauthUrl", stubServer.getUrl());
+    ReflectionTestUtils.setField(kakaoOauthService, "apiUrl", stubServer.getUrl());
+    ReflectionTestUtils.setField(kakaoOauthService, "clientId", "client-id");
+    ReflectionTestUtils.setField(kakaoOauthService, "redirectUrl", "http://localhost/kakao");
+
+    oauthCallExecutor = new OauthCallExecutor(meterRegistry, 2, 10, 3000);
+    ReflectionTestUtils.setField(oauthCallExecutor, "windowSize", 10);
+    ReflectionTestUtils.setField(oauthCallExecutor, "minimumCalls", 5);
+    ReflectionTestUtils.setField(oauthCallExecutor, "failureRateThreshold", 50);
+    ReflectionTestUtils.setField(oauthCallExecutor, "slowCallRateThreshold", 80);
+    ReflectionTestUtils.setField(oauthCallExecutor, "slowCallMilSec", 2000L);
+    ReflectionTestUtils.setField(oauthCallExecutor, "openMilSec", 10000L);
+    ReflectionTestUtils.setField(oauthCallExecutor, "halfOpenCalls", 2);
+
+    oauthProviderRegistry = new OauthProviderRegistry(
+        List.of(naverOauthService, kakaoOauthService), oauthCallExecutor);
+  }
+
+  @AfterEach
+  public void tearDown() throws Exception {
+    httpClient.close();
+    stubServer.close();
+  }
+
+  @Test
+  public void loginFlowReusesPooledConnection() {
+    String accessToken = naverOauthService.processAccessToken(getRequest("code"));
+    NaverUserInfo naverUserInfo = naverOauthService.processUserInfo(accessToken);
+
+    assertThat(accessToken).isEqualTo(OauthStubServer.ACCESS_TOKEN);
+    assertThat(naverUserInfo.getEmailAddress()).isEqualTo(OauthStubServer.EMAIL);
+    assertThat(naverUserInfo.getNickName()).isEqualTo(OauthStubServer.NICKNAME);
+    assertThat(stubServer.getRequestCount()).isEqualTo(2);
+    // 두 요청이 keep-alive 커넥션 하나를 같이 쓴다.
+    assertThat(connectionManager.getTotalStats().getAvailable()).isEqualTo(1);
+    assertThat(connectionManager.getTotalStats().getLeased()).isZero();
+  }
+
+  @Test
+  public void invalidAccessTokenFails() {
+    assertThatThrownBy(() -> naverOauthService.processUserInfo("invalid"))
+        .isInstanceOf(HttpClientErrorException.Unauthorized.class);
+    assertThatThrownBy(() -> kakaoOauthService.processUserInfo("invalid"))
+        .isInstanceOf(HttpClientErrorException.Unauthorized.class);
+  }
+
+  @Test
+  public void kakaoLoginFlow() {
+    String accessToken = kakaoOauthService.processAccessToken(getRequest("code"));
+    KakaoUserInfo kakaoUserInfo = kakaoOauthService.processUserInfo(accessToken);
+
+    assertThat(kakaoUserInfo.getOauthType()).isEqualTo(OauthType.KAKAO);
+    assertThat(kakaoUserInfo.getEmailAddress()).isEqualTo(OauthStubServer.EMAIL);
+    assertThat(kakaoUserInfo.getNickName()).isEqualTo(OauthStubServer.NICKNAME);
+    assertThat(kakaoOauthService.getAuthorizeUrl())
+        .startsWith(stubServer.getUrl() + "/oauth/authorize?response_type=code&client_id=client-id");
+  }
+
+  @Test
+  public void replayedAuthorizationCodeCallsProviderAgain() {
+    OauthUserInfo first = oauthProviderRegistry.getUserInfo(OauthType.KAKAO, getRequest("code"));
+    OauthUserInfo second = oauthProviderRegistry.getUserInfo(OauthType.KAKAO, getRequest("code"));
+
+    // 끝난 호출 결과는 보관하지 않으므로 다시 들어온 콜백은 외부 플랫폼이 다시 검증한다.
+    assertThat(second).isNotSameAs(first);
+    assertThat(stubServer.getRequestCount()).isEqualTo(4);
+    assertThat(meterRegistry.get("oauth.exchange").tag("provider", "kakao").timer().count())
+        .isEqualTo(2);
+  }
+
+  @Test
+  public void concurrentSameAuthorizationCodeSharesOneCall() throws Exception {
+    try (OauthStubServer slowServer = new OauthStubServer(0, 500)) {
+      ReflectionTestUtils.setField(kakaoOauthService, "oauthUrl", slowServer.getUrl());
+      ReflectionTestUtils.setField(kakaoOauthService, "apiUrl", slowServer.getUrl());
+
+      ExecutorService executor = Executors.newFixedThreadPool(2);
+      try {
+        CountDownLatch start = new CountDownLatch(1);
+        Callable<OauthUserInfo> callback = () -> {
+          start.await();
+          return oauthProviderRegistry.getUserInfo(OauthType.KAKAO, getRequest("code"));
+        };
+        Future<OauthUserInfo> first = executor.submit(callback);
+        Future<OauthUserInfo> second = executor.submit(callback);
+        start.countDown();
+
+        assertThat(second.get()).isSameAs(first.get());
+        assertThat(slowServer.getRequestCount()).isEqualTo(2);
+      } finally {
+        executor.shutdownNow();
+      }
+    }
+  }
+
+  @Test
+  public void failedCallCanBeRetried() {
+    // 연결 실패 (외부 플랫폼 장애)
+    ReflectionTestUtils.setField(kakaoOauthService, "oauthUrl", "http://localhost:1");
+
+    assertThatThrownBy(() -> oauthProviderRegistry.getUserInfo(OauthType.KAKAO,
+        getRequest("code")))
+        .isInstanceOf(CustomErrorException.class);
+    assertThat(meterRegistry.get("oauth.exchange").tag("provider", "kakao")
+        .tag("outcome", "failure").timer().count()).isEqualTo(1);
+
+    // 실패한 호출도 남지 않으므로 같은 인증 코드로 다시 호출한다.
+    ReflectionTestUtils.setField(kakaoOauthService, "oauthUrl", stubServer.getUrl());
+    OauthUserInfo oauthUserInfo = oauthProviderRegistry.getUserInfo(OauthType.KAKAO,
+        getRequest("code"));
+
+    assertThat(oauthUserInfo.getEmailAddress()).isEqualTo(OauthStubServer.EMAIL);
+  }
+
+  @Test
+  public void missingEmailDoesNotTripCircuitBreaker() {
+    // 이메일 제공에 동의하지 않은 유저
+    KakaoUserInfo noEmailUserInfo = mock(KakaoUserInfo.class);
+    OauthProvider oauthProvider = mock(OauthProvider.class);
+    when(oauthProvider.getOauthType()).thenReturn(OauthType.KAKAO);
+    when(oauthProvider.processAccessToken(any())).thenReturn(OauthStubServer.ACCESS_TOKEN);
+    when(oauthProvider.processUserInfo(any())).thenReturn(noEmailUserInfo);
+    OauthProviderRegistry registry = new OauthProviderRegistry(List.of(oauthProvider),
+        oauthCallExecutor);
+
+    for (int i = 0; i < 10; i++) {
+      assertThatThrownBy(() -> registry.getUserInfo(OauthType.KAKAO, getRequest("code")))
+          .isInstanceOf(CustomErrorException.class);
+    }
+
+    // 외부 호출은 성공으로 세므로 서킷 브레이커가 열리지 않는다.
+    assertThat(meterRegistry.get("oauth.exchange").tag("provider", "kakao")
+        .tag("outcome", "success").timer().count()).isEqualTo(10);
+    assertThat(oauthProviderRegistry.getUserInfo(OauthType.KAKAO, getRequest("code"))
+        .getEmailAddress()).isEqualTo(OauthStubServer.EMAIL);
+  }
+
+  private OauthLoginDto.Request getRequest(String authorizationCode) {
+    return OauthLoginDto.Request.builder()
+        .authorizationCode(authorizationCode)
+        .state("state")
+        .build();
+  }
+}
@@ -0,0 +1,120 @@
+package com.example.web;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 로컬 OAuth 스텁 서버 (오프라인 로그인 테스트/부하 측정용)
+ * 네이버 : 접근 토큰 발급(/oauth2.0/token), 유저 정보(/v1/nid/me)
+ * 카카오 : 접근 토큰 발급(/oauth/token), 유저 정보(/v2/user/me)
+ * 두 플랫폼 모두 같은 유저(EMAIL, NICKNAME)를 응답한다.
+ * 단독 실행 : ./gradlew oauthStub (application-oauth-stub.yaml 프로필로 서버를 띄우면 로그인이 스텁으로 간다.)
+ */
+public class OauthStubServer implements AutoCloseable {
+
+  public static final String ACCESS_TOKEN = "stub-access-token";
+  public static final String EMAIL = "stub@example.com";
+  public static final String NICKNAME = "stub";
+
+  private final HttpServer server;
+  private final ExecutorService executor;
+  private final long delayMilSec;
+  private final AtomicInteger requestCount = new AtomicInteger();
+
+  /**
+   * @param port        포트 (0 이면 빈 포트)
+   * @param delayMilSec 응답 지연 (외부 API 지연 흉내)
+   */
+  public OauthStubServer(int port, long delayMilSec) throws IOException {
+    this.delayMilSec = delayMilSec;
+    this.server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+    this.executor = Executors.newFixedThreadPool(64);
+
+    server.createContext("/oauth2.0/token", exchange -> respond(exchange, 200, """
+        {"access_token":"%s","refresh_token":"stub-refresh-token","token_type":"bearer","expires_in":3600}
+        """.formatted(ACCESS_TOKEN)));
+    server.createContext("/v1/nid/me", exchange -> {
+      if (!isAuthorized(exchange)) {
+        respond(exchange, 401, """
+            {"resultcode":"024","message":"Authentication failed"}
+            """);
+        return;
+      }
+      respond(exchange, 200, """
+          {"resultcode":"00","message":"success","response":{"email":"%s","nickname":"%s"}}
+          """.formatted(EMAIL, NICKNAME));
+    });
+    server.createContext("/oauth/token", exchange -> respond(exchange, 200, """
+        {"access_token":"%s","refresh_token":"stub-refresh-token","token_type":"bearer","expires_in":3600}
+        """.formatted(ACCESS_TOKEN)));
+    server.createContext("/v2/user/me", exchange -> {
+      if (!isAuthorized(exchange)) {
+        respond(exchange, 401, """
+            {"msg":"this access token does not exist","code":-401}
+            """);
+        return;
+      }
+      respond(exchange, 200, """
+          {"id":1,"kakao_account":{"email":"%s","profile":{"nickname":"%s"}}}
+          """.formatted(EMAIL, NICKNAME));
+    });
+    server.setExecutor(executor);
+    server.start();
+  }
+
+  public static void main(String[] args) throws IOException {
+    int port = args.length > 0 ? Integer.parseInt(args[0]) : 18080;
+    long delayMilSec = args.length > 1 ? Long.parseLong(args[1]) : 0;
+
+    new OauthStubServer(port, delayMilSec);
+    System.out.println("oauth stub server started. port : " + port
+        + ", delay : " + delayMilSec + "ms");
+  }
+
+  public String getUrl() {
+    return "http://localhost:" + server.getAddress().getPort();
+  }
+
+  public int getRequestCount() {
+    return requestCount.get();
+  }
+
+  @Override
+  public void close() {
+    server.stop(0);
+    executor.shutdownNow();
+  }
+
+  private boolean isAuthorized(HttpExchange exchange) {
+    return ("Bearer " + ACCESS_TOKEN).equals(exchange.getRequestHeaders().getFirst("Authorization"));
+  }
+
+  private void respond(HttpExchange exchange, int status, String body) throws IOException {
+    requestCount.incrementAndGet();
+    // 요청 바디는 끝까지 읽어야 커넥션을 재사용(keep-alive)할 수 있다.
+    exchange.getRequestBody().readAllBytes();
+
+    if (delayMilSec > 0) {
+      try {
+        TimeUnit.MILLISECONDS.sleep(delayMilSec);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    byte[] bytes = body.strip().getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().set("Content-Type", "application/json");
+    exchange.sendResponseHeaders(status, bytes.length);
+    try (OutputStream outputStream = exchange.getResponseBody()) {
+      outputStream.write(bytes);
+    }
+  }
+}
@@ -0,0 +1,61 @@
+package com.example.web;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.example.web.dto.product.UserProductBatchBuyDto;
+import com.example.web.model.exception.CustomErrorException;
+import com.example.web.service.product.ProductBuyPipeline;
+import com.example.web.service.product.ProductBuyService;
+import com.example.web.service.product.ProductService;
+import com.example.web.service.product.stock.ProductStockEngine;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ProductBuyServiceTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private ProductService productService;
+  private ProductStockEngine productStockEngine;
+  private ProductBuyService productBuyService;
+
+  @BeforeEach
+  public void setUp() {
+    productService = mock(ProductService.class);
+    productStockEngine = mock(ProductStockEngine.class);
+    productBuyService = new ProductBuyService(productService, productStockEngine,
+        mock(ProductBuyPipeline.class));
+  }
+
+  @Test
+  public void overflowingProductCountIsRejected() throws Exception {
+    // MAX_VALUE + MAX_VALUE = -2
+    UserProductBatchBuyDto.Request request = objectMapper.readValue("""
+        {"Products":[{"ProductIndex":1,"ProductCount":2147483647},
+                     {"ProductIndex":1,"ProductCount":2147483647}]}
+        """, UserProductBatchBuyDto.Request.class);
+
+    assertThatThrownBy(() -> productBuyService.buyUserProductList(request))
+        .isInstanceOf(CustomErrorException.class);
+    verify(productStockEngine, never()).reserve(anyInt(), anyInt());
+    verify(productService, never()).buyUserProductList(any());
+  }
+
+  @Test
+  public void productCountOverMaxIsRejected() throws Exception {
+    UserProductBatchBuyDto.Request request = objectMapper.readValue("""
+        {"Products":[{"ProductIndex":1,"ProductCount":6000},
+                     {"ProductIndex":1,"ProductCount":6000}]}
+        """, UserProductBatchBuyDto.Request.class);
+
+    assertThatThrownBy(() -> productBuyService.buyUserProductList(request))
+        .isInstanceOf(CustomErrorException.class);
+    verify(productStockEngine, never()).reserve(anyInt(), anyInt());
+  }
+}
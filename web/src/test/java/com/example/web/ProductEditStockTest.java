@@ -0,0 +1,60 @@
+package com.example.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.web.dto.product.ProductEditDto;
+import com.example.web.jpa.repository.product.ProductRepository;
+import com.example.web.service.product.ProductService;
+import com.example.web.service.product.stock.ProductStockEngine;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+public class ProductEditStockTest {
+
+  @Autowired
+  private ProductService productService;
+
+  @Autowired
+  private ProductStockEngine productStockEngine;
+
+  @Autowired
+  private ProductRepository productRepository;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  private Integer productIndex;
+
+  @AfterEach
+  public void tearDown() {
+    if (productIndex != null) {
+      productStockEngine.reset(productIndex);
+      productRepository.deleteById(productIndex);
+    }
+  }
+
+  @Test
+  public void editProductReloadsStockAfterCommit() throws Exception {
+    ProductEditDto.Request request = objectMapper.readValue("{\"ProductType\":1,"
+        + "\"ProductName\":\"stock-" + UUID.randomUUID() + "\",\"Price\":100,"
+        + "\"Quantity\":50}", ProductEditDto.Request.class);
+    productIndex = productService.editProduct(request).getProduct().getProductIndex();
+
+    // 메모리 재고로 2개 판매 (DB 미반영 변화량)
+    productStockEngine.reserve(productIndex, 2);
+    productStockEngine.commit(productIndex, 2);
+    // 관리자가 수량 변경
+    productRepository.addProductQuantity(productIndex, 100);
+
+    // 커밋 후 판매분을 반영하고 변경된 수량으로 다시 로드
+    productService.editProduct(request);
+
+    assertThat(productRepository.findQuantityByProductIndex(productIndex)).contains(148);
+    assertThat(productStockEngine.getQuantity(productIndex)).isEqualTo(148);
+  }
+}
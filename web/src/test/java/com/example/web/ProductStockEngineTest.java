@@ -0,0 +1,166 @@
+package com.example.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.web.jpa.repository.product.ProductRepository;
+import com.example.web.model.exception.CustomErrorException;
+import com.example.web.service.product.ProductCatalogCache;
+import com.example.web.service.product.stock.ProductStockEngine;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class ProductStockEngineTest {
+
+  private ProductRepository productRepository;
+  private ProductCatalogCache productCatalogCache;
+  private ProductStockEngine productStockEngine;
+
+  @BeforeEach
+  public void setUp() {
+    productRepository = mock(ProductRepository.class);
+    when(productRepository.findQuantityByProductIndex(1)).thenReturn(Optional.of(10));
+    productCatalogCache = new ProductCatalogCache(new SimpleMeterRegistry(), new ObjectMapper());
+    productStockEngine = new ProductStockEngine(productRepository, productCatalogCache);
+  }
+
+  @Test
+  public void reserveConcurrentlyNeverOversells() throws InterruptedException {
+    int threadCount = 100;
+    ExecutorService executorService = Executors.newFixedThreadPool(16);
+    CountDownLatch latch = new CountDownLatch(threadCount);
+    AtomicInteger successCount = new AtomicInteger();
+
+    for (int i = 0; i < threadCount; i++) {
+      executorService.execute(() -> {
+        try {
+          productStockEngine.reserve(1, 1);
+          successCount.incrementAndGet();
+        } catch (CustomErrorException ignored) {
+          // 재고 부족
+        } finally {
+          latch.countDown();
+        }
+      });
+    }
+    latch.await(10, TimeUnit.SECONDS);
+    executorService.shutdown();
+
+    assertThat(successCount.get()).isEqualTo(10);
+    assertThat(productStockEngine.getQuantity(1)).isZero();
+  }
+
+  @Test
+  public void rollbackReturnsReservedQuantity() {
+    productStockEngine.reserve(1, 4);
+    productStockEngine.rollback(1, 4);
+
+    assertThat(productStockEngine.getQuantity(1)).isEqualTo(10);
+
+    productStockEngine.flush();
+    verify(productRepository, never()).addProductQuantity(1, 0);
+  }
+
+  @Test
+  public void flushWritesMergedDelta() {
+    productStockEngine.reserve(1, 2);
+    productStockEngine.commit(1, 2);
+    productStockEngine.reserve(1, 3);
+    productStockEngine.commit(1, 3);
+    String eTag = productCatalogCache.getETag(false);
+
+    productStockEngine.flush();
+
+    verify(productRepository).addProductQuantity(1, -5);
+    assertThat(productCatalogCache.getETag(false)).isNotEqualTo(eTag);
+  }
+
+  @Test
+  public void gzipETagDiffersFromPlain() {
+    // 같은 버전이라도 표현(본문 바이트)이 다르면 strong ETag 가 달라야 한다.
+    assertThat(productCatalogCache.getETag(true))
+        .isNotEqualTo(productCatalogCache.getETag(false))
+        .endsWith("-gzip\"");
+  }
+
+  @Test
+  public void resetReloadsEditedQuantity() {
+    productStockEngine.reserve(1, 2);
+    productStockEngine.commit(1, 2);
+    // 상품 수정으로 DB 수량 변경
+    when(productRepository.findQuantityByProductIndex(1)).thenReturn(Optional.of(50));
+
+    productStockEngine.reset(1);
+
+    // 수정 전 판매분은 먼저 반영하고, 메모리 재고는 DB 에서 다시 로드한다.
+    verify(productRepository).addProductQuantity(1, -2);
+    assertThat(productStockEngine.getQuantity(1)).isEqualTo(50);
+  }
+
+  @Test
+  public void resetWaitsForReservationInProgress() throws Exception {
+    ReflectionTestUtils.setField(productStockEngine, "resetWaitMilSec", 5000L);
+    productStockEngine.reserve(1, 2);
+    when(productRepository.findQuantityByProductIndex(1)).thenReturn(Optional.of(50));
+
+    CompletableFuture<Void> reset = CompletableFuture.runAsync(() -> productStockEngine.reset(1));
+
+    // 진행 중인 예약이 끝날 때까지 다시 로드하지 않고, 새 예약은 거절한다.
+    assertThatThrownBy(() -> reset.get(200, TimeUnit.MILLISECONDS))
+        .isInstanceOf(TimeoutException.class);
+    assertThatThrownBy(() -> productStockEngine.reserve(1, 1))
+        .isInstanceOf(CustomErrorException.class)
+        .extracting("resultValue").isEqualTo(7);
+
+    productStockEngine.commit(1, 2);
+    reset.get(5, TimeUnit.SECONDS);
+
+    // 진행 중이던 구매의 변화량까지 반영한 뒤 다시 로드한다.
+    verify(productRepository).addProductQuantity(1, -2);
+    assertThat(productStockEngine.getQuantity(1)).isEqualTo(50);
+  }
+
+  @Test
+  public void resetTimeoutKeepsCounter() {
+    productStockEngine.reserve(1, 2);
+
+    productStockEngine.reset(1);
+
+    // 기다리는 시간이 지나면 기존 카운터를 유지한다.
+    assertThat(productStockEngine.getQuantity(1)).isEqualTo(8);
+    productStockEngine.rollback(1, 2);
+    productStockEngine.reserve(1, 10);
+  }
+
+  @Test
+  public void reserveNonPositiveCountThrows() {
+    assertThatThrownBy(() -> productStockEngine.reserve(1, 0))
+        .isInstanceOf(CustomErrorException.class);
+    assertThatThrownBy(() -> productStockEngine.reserve(1, -2))
+        .isInstanceOf(CustomErrorException.class);
+
+    // 음수 예약으로 재고가 늘지 않는다.
+    assertThat(productStockEngine.getQuantity(1)).isEqualTo(10);
+  }
+
+  @Test
+  public void reserveOverQuantityThrows() {
+    assertThatThrownBy(() -> productStockEngine.reserve(1, 11))
+        .isInstanceOf(CustomErrorException.class);
+  }
+}
@@ -1,6 +1,6 @@
 package com.example.web;
 
-import com.example.web.jpa.entity.product.UserProductLog;
+import com.example.web.dto.product.UserProductLogDto;
 import com.example.web.jpa.repository.product.UserProductLogRepositorySupport;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -22,8 +22,8 @@ public class QueryDslTest {
     LocalDateTime startTime = LocalDateTime.of(2023, 11, 28, 00, 00, 00);
     LocalDateTime endTime = LocalDateTime.of(2023, 11, 29, 00, 00, 00);
 
-    List<UserProductLog> logs = userProductLogRepositorySupport
-        .getUserProductLogs(userIndex, productIndex, startTime, endTime);
+    List<UserProductLogDto.Log> logs = userProductLogRepositorySupport
+        .getUserProductLogs(userIndex, productIndex, startTime, endTime, null, 100);
 
     int iTemp = 0;
 
@@ -0,0 +1,64 @@
+package com.example.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.web.model.exception.CustomErrorException;
+import com.example.web.model.oauth.JwtUser;
+import com.example.web.util.container.RequestContext;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class RequestContextTest {
+
+  private ExecutorService executor;
+
+  @BeforeEach
+  public void setUp() {
+    executor = Executors.newSingleThreadExecutor();
+  }
+
+  @AfterEach
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void userIsClearedWhenScopeCloses() {
+    try (RequestContext.Scope ignored = RequestContext.bind(new RequestContext())) {
+      RequestContext.setUser(JwtUser.builder().userIndex(3L).build());
+
+      assertThat(RequestContext.getUserIndex()).isEqualTo(3L);
+    }
+
+    assertThat(RequestContext.current()).isNull();
+    assertThat(RequestContext.getUser()).isNull();
+    assertThatThrownBy(RequestContext::getUserIndex)
+        .isInstanceOf(CustomErrorException.class);
+  }
+
+  @Test
+  public void contextPropagatesToExecutorTaskAndIsClearedAfter() throws Exception {
+    try (RequestContext.Scope ignored = RequestContext.bind(new RequestContext())) {
+      RequestContext.setUser(JwtUser.builder().userIndex(5L).build());
+
+      long userIndex = CompletableFuture.supplyAsync(RequestContext::getUserIndex,
+          RequestContext.propagating(executor)).get();
+      assertThat(userIndex).isEqualTo(5L);
+    }
+
+    // 같은 풀 스레드에서 다음 작업에는 남지 않는다.
+    assertThat(executor.submit(RequestContext::getUser).get()).isNull();
+  }
+
+  @Test
+  public void setUserOutsideRequestIsIgnored() {
+    RequestContext.setUser(JwtUser.builder().userIndex(1L).build());
+
+    assertThat(RequestContext.getUser()).isNull();
+  }
+}
@@ -0,0 +1,53 @@
+package com.example.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.web.util.admission.TokenBucket;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+public class TokenBucketTest {
+
+  private final AtomicLong clock = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+
+  @Test
+  public void burstPassesThenRejectsWithRetryAfter() {
+    TokenBucket tokenBucket = new TokenBucket(10, 3, clock::get);
+
+    assertThat(tokenBucket.acquire(0, 10)).isZero();
+    assertThat(tokenBucket.acquire(0, 10)).isZero();
+    assertThat(tokenBucket.acquire(0, 10)).isZero();
+    assertThat(tokenBucket.acquire(0, 10)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+  }
+
+  @Test
+  public void refillsAtConfiguredRate() {
+    TokenBucket tokenBucket = new TokenBucket(10, 1, clock::get);
+
+    assertThat(tokenBucket.acquire(0, 10)).isZero();
+    assertThat(tokenBucket.acquire(0, 10)).isPositive();
+
+    clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+    assertThat(tokenBucket.acquire(0, 10)).isZero();
+  }
+
+  @Test
+  public void idleTimeDoesNotExceedBurst() {
+    TokenBucket tokenBucket = new TokenBucket(10, 2, clock::get);
+
+    clock.addAndGet(TimeUnit.SECONDS.toNanos(60));
+    assertThat(tokenBucket.acquire(0, 10)).isZero();
+    assertThat(tokenBucket.acquire(0, 10)).isZero();
+    assertThat(tokenBucket.acquire(0, 10)).isPositive();
+  }
+
+  @Test
+  public void rejectsWhenWaitingQueueIsFull() {
+    TokenBucket tokenBucket = new TokenBucket(10, 1, clock::get);
+
+    assertThat(tokenBucket.acquire(0, 0)).isZero();
+    // 기다릴 수 있는 시간이어도 대기 요청 수 제한이 0 이면 거절
+    assertThat(tokenBucket.acquire(TimeUnit.SECONDS.toNanos(1), 0)).isPositive();
+  }
+}
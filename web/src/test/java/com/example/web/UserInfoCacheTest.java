@@ -0,0 +1,94 @@
+package com.example.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.web.jpa.entity.user.UserInfo;
+import com.example.web.service.user.UserInfoCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+public class UserInfoCacheTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private UserInfoCache userInfoCache;
+  private AtomicInteger loadCount;
+  private Function<Long, Optional<UserInfo>> loader;
+
+  @BeforeEach
+  public void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    userInfoCache = new UserInfoCache(meterRegistry, 100, 60);
+    loadCount = new AtomicInteger();
+    loader = userIndex -> {
+      loadCount.incrementAndGet();
+      return Optional.of(UserInfo.builder()
+          .userIndex(userIndex)
+          .emailAddress("test@example.com")
+          .nickName("test")
+          .money(1000L)
+          .build());
+    };
+  }
+
+  @AfterEach
+  public void tearDown() {
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  @Test
+  public void secondGetHitsCacheWithCopy() {
+    UserInfo first = userInfoCache.get(1L, loader).orElseThrow();
+    UserInfo second = userInfoCache.get(1L, loader).orElseThrow();
+
+    assertThat(loadCount.get()).isEqualTo(1);
+    assertThat(second).isNotSameAs(first);
+
+    first.setMoney(0L);
+    assertThat(userInfoCache.get(1L, loader).orElseThrow().getMoney()).isEqualTo(1000L);
+    assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count())
+        .isEqualTo(2);
+  }
+
+  @Test
+  public void invalidateReloadsWithoutTransaction() {
+    userInfoCache.get(1L, loader);
+    userInfoCache.invalidateAfterCommit(1L);
+    userInfoCache.get(1L, loader);
+
+    assertThat(loadCount.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void requestScopeServesRepeatedReads() {
+    RequestContextHolder.setRequestAttributes(
+        new ServletRequestAttributes(new MockHttpServletRequest()));
+
+    userInfoCache.get(1L, loader);
+    userInfoCache.get(1L, loader);
+    userInfoCache.get(1L, loader);
+
+    assertThat(meterRegistry.get("user.info.cache.request.hit").counter().count())
+        .isEqualTo(2);
+    assertThat(loadCount.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void missingUserIsNotCached() {
+    Function<Long, Optional<UserInfo>> emptyLoader = userIndex -> {
+      loadCount.incrementAndGet();
+      return Optional.empty();
+    };
+
+    assertThat(userInfoCache.get(2L, emptyLoader)).isEmpty();
+    assertThat(userInfoCache.get(2L, emptyLoader)).isEmpty();
+    assertThat(loadCount.get()).isEqualTo(2);
+  }
+}
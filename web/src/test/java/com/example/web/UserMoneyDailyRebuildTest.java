@@ -0,0 +1,111 @@
+package com.example.web;
+
+import static com.example.web.jpa.entity.user.QUserMoneyDaily.userMoneyDaily;
+import static com.example.web.jpa.entity.user.QUserMoneyLog.userMoneyLog;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.web.jpa.entity.user.UserMoneyDaily;
+import com.example.web.jpa.entity.user.UserMoneyLog;
+import com.example.web.jpa.entity.user.id.UserMoneyDailyId;
+import com.example.web.jpa.repository.user.UserMoneyDailyRepository;
+import com.example.web.model.enums.MoneyLogType;
+import com.example.web.service.log.LogBatchWriter;
+import com.example.web.service.user.UserMoneyDailyService;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 일별 돈 변화 집계 재계산
+ * 저장한 로그와 집계는 테스트가 끝나면 지운다. (다른 @SpringBootTest 와 같은 H2 를 사용)
+ */
+@SpringBootTest
+public class UserMoneyDailyRebuildTest {
+
+  private static final long USER_INDEX = Long.MAX_VALUE - 2;
+
+  @Autowired
+  private UserMoneyDailyService userMoneyDailyService;
+
+  @Autowired
+  private UserMoneyDailyRepository userMoneyDailyRepository;
+
+  @Autowired
+  private LogBatchWriter logBatchWriter;
+
+  @Autowired
+  @Qualifier("QueryDslJpaQueryFactory")
+  private JPAQueryFactory queryFactory;
+
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  @AfterEach
+  public void tearDown() {
+    transactionTemplate.executeWithoutResult(status -> {
+      queryFactory.delete(userMoneyLog)
+          .where(userMoneyLog.userIndex.eq(USER_INDEX))
+          .execute();
+      queryFactory.delete(userMoneyDaily)
+          .where(userMoneyDaily.userIndex.eq(USER_INDEX))
+          .execute();
+    });
+  }
+
+  @Test
+  public void rebuildOverwritesDailyWithLogTotals() {
+    OffsetDateTime now = OffsetDateTime.now();
+    LocalDate today = now.toLocalDate();
+    logBatchWriter.writeInNewTransaction(List.of(
+        getLog(MoneyLogType.ATTEND, 0, 2000, now),
+        getLog(MoneyLogType.ATTEND, 2000, 4000, now)));
+
+    // 중복 반영된 집계, 로그가 없는 집계
+    transactionTemplate.executeWithoutResult(status -> {
+      userMoneyDailyRepository.addDaily(USER_INDEX, today, MoneyLogType.ATTEND.getType(), 2000, 1);
+      userMoneyDailyRepository.addDaily(USER_INDEX, today, MoneyLogType.PRODUCT.getType(), -100,
+          1);
+    });
+
+    userMoneyDailyService.rebuild(today);
+
+    Optional<UserMoneyDaily> attendDaily = userMoneyDailyRepository.findById(
+        getId(today, MoneyLogType.ATTEND));
+    assertThat(attendDaily).isPresent();
+    assertThat(attendDaily.get().getTotalDelta()).isEqualTo(4000);
+    assertThat(attendDaily.get().getLogCount()).isEqualTo(2);
+    assertThat(userMoneyDailyRepository.findById(getId(today, MoneyLogType.PRODUCT))).isEmpty();
+
+    // 다시 계산해도 같다.
+    userMoneyDailyService.rebuild(today);
+    assertThat(userMoneyDailyRepository.findById(getId(today, MoneyLogType.ATTEND))
+        .map(UserMoneyDaily::getTotalDelta)).contains(4000L);
+  }
+
+  private UserMoneyLog getLog(MoneyLogType logType, long beforeMoney, long afterMoney,
+      OffsetDateTime createdAt) {
+    return UserMoneyLog.builder()
+        .logType(logType)
+        .userIndex(USER_INDEX)
+        .beforeMoney(beforeMoney)
+        .afterMoney(afterMoney)
+        .createdAt(createdAt)
+        .build();
+  }
+
+  private UserMoneyDailyId getId(LocalDate logDate, MoneyLogType logType) {
+    return UserMoneyDailyId.builder()
+        .userIndex(USER_INDEX)
+        .logDate(logDate)
+        .logType(logType)
+        .build();
+  }
+}
@@ -0,0 +1,64 @@
+package com.example.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.web.jpa.entity.user.UserInfo;
+import com.example.web.jpa.repository.user.UserRepository;
+import com.example.web.model.enums.OauthType;
+import com.example.web.model.oauth.info.OauthUserInfo;
+import com.example.web.service.user.UserService;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+public class UserSignUpTest {
+
+  @Autowired
+  private UserService userService;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  private Long savedUserIndex;
+
+  @AfterEach
+  public void tearDown() {
+    if (savedUserIndex != null) {
+      userRepository.deleteById(savedUserIndex);
+    }
+  }
+
+  @Test
+  public void signedUpUserIsCommitted() {
+    String emailAddress = UUID.randomUUID() + "@example.com";
+
+    // 테스트 트랜잭션 없이 실행하여 실제 커밋 여부를 확인한다.
+    UserInfo savedUserInfo = userService.saveUserInfo(new OauthUserInfo() {
+      @Override
+      public OauthType getOauthType() {
+        return OauthType.NAVER;
+      }
+
+      @Override
+      public String getEmailAddress() {
+        return emailAddress;
+      }
+
+      @Override
+      public String getNickName() {
+        return "sign-up";
+      }
+    });
+    savedUserIndex = savedUserInfo.getUserIndex();
+
+    Optional<UserInfo> userInfo = userService.getUserInfo(emailAddress);
+
+    assertThat(userInfo).isPresent();
+    assertThat(userInfo.get().getUserIndex()).isEqualTo(savedUserIndex);
+    assertThat(userRepository.findById(savedUserIndex)).isPresent();
+  }
+}
@@ -0,0 +1,94 @@
+package com.example.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.web.jpa.entity.user.UserInfo;
+import com.example.web.jpa.repository.user.UserRepository;
+import com.example.web.jpa.repository.user.UserWalletRepositorySupport;
+import com.example.web.model.enums.MoneyLogType;
+import com.example.web.model.exception.CustomErrorException;
+import com.example.web.service.user.UserService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * 조건부 update 문 돈 차감 동시성
+ * 잔액보다 많은 차감 요청이 동시에 들어와도 잔액이 음수가 되지 않고, 모자란 만큼만 10001 로 실패해야 한다.
+ */
+@SpringBootTest
+public class UserWalletConcurrencyTest {
+
+  private static final long START_MONEY = 1000L;
+  private static final long DEBIT_MONEY = 100L;
+  private static final int DEBIT_COUNT = 30;
+
+  @Autowired
+  private UserService userService;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private UserWalletRepositorySupport userWalletRepositorySupport;
+
+  private long userIndex;
+
+  @BeforeEach
+  public void setUp() {
+    userIndex = userRepository.save(UserInfo.builder()
+        .emailAddress(UUID.randomUUID() + "@example.com")
+        .nickName("wallet")
+        .money(START_MONEY)
+        .build()).getUserIndex();
+  }
+
+  @AfterEach
+  public void tearDown() {
+    userRepository.deleteById(userIndex);
+  }
+
+  @Test
+  public void concurrentDebitsNeverOverdraw() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(DEBIT_COUNT);
+    try {
+      CountDownLatch start = new CountDownLatch(1);
+      List<Future<Integer>> results = new ArrayList<>();
+      for (int i = 0; i < DEBIT_COUNT; i++) {
+        results.add(executor.submit(() -> {
+          start.await();
+          try {
+            userService.saveUserMoney(userIndex, -DEBIT_MONEY, MoneyLogType.PRODUCT);
+            return 0;
+          } catch (CustomErrorException e) {
+            return e.getResultValue();
+          }
+        }));
+      }
+      start.countDown();
+
+      List<Integer> resultValues = new ArrayList<>();
+      for (Future<Integer> result : results) {
+        resultValues.add(result.get());
+      }
+
+      int successCount = (int) (START_MONEY / DEBIT_MONEY);
+      assertThat(resultValues).filteredOn(resultValue -> resultValue == 0)
+          .hasSize(successCount);
+      assertThat(resultValues).filteredOn(resultValue -> resultValue == 10001)
+          .hasSize(DEBIT_COUNT - successCount);
+      assertThat(userWalletRepositorySupport.getMoney(userIndex)).isZero();
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,103 @@
+package com.example.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.example.web.jpa.entity.user.UserMoneyLog;
+import com.example.web.model.enums.MoneyLogType;
+import com.example.web.service.log.LogBatchWriter;
+import com.example.web.service.log.WriteBehindLogSink;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class WriteBehindLogSinkTest {
+
+  @Test
+  public void retryPersistsWithoutIdsFromFailedAttempt() {
+    LogBatchWriter logBatchWriter = mock(LogBatchWriter.class);
+    doCallRealMethod().when(logBatchWriter).clearLogIndexes(any());
+
+    AtomicInteger attempt = new AtomicInteger();
+    List<Long> logIndexesOnRetry = new ArrayList<>();
+    doAnswer(invocation -> {
+      Collection<?> logEntities = invocation.getArgument(0);
+      if (attempt.incrementAndGet() == 1) {
+        // persist 로 시퀀스 ID 가 할당된 후 트랜잭션 실패
+        logEntities.forEach(f -> ((UserMoneyLog) f).setLogIndex(100L));
+        throw new IllegalStateException("first attempt failed");
+      }
+      logEntities.forEach(f -> logIndexesOnRetry.add(((UserMoneyLog) f).getLogIndex()));
+      return null;
+    }).when(logBatchWriter).writeInNewTransaction(any());
+
+    WriteBehindLogSink logSink = getLogSink(logBatchWriter, 10);
+
+    logSink.write(getLog());
+    // 저장 스레드를 호출한 스레드에서 실행 (running 이 false 이므로 남은 로그만 저장하고 끝난다)
+    ReflectionTestUtils.setField(logSink, "running", false);
+    ReflectionTestUtils.invokeMethod(logSink, "runWriter");
+
+    verify(logBatchWriter, times(2)).writeInNewTransaction(any());
+    assertThat(logIndexesOnRetry).containsExactly((Long) null);
+  }
+
+  @Test
+  public void fullQueueHandsOverflowToWriter() {
+    LogBatchWriter logBatchWriter = mock(LogBatchWriter.class);
+    List<Object> written = new ArrayList<>();
+    doAnswer(invocation -> {
+      written.addAll(invocation.getArgument(0));
+      return null;
+    }).when(logBatchWriter).writeInNewTransaction(any());
+
+    WriteBehindLogSink logSink = getLogSink(logBatchWriter, 1);
+    List<UserMoneyLog> logs = List.of(getLog(), getLog(), getLog(), getLog());
+
+    // 큐에는 하나만 들어가고, 나머지는 묶음 전체 기한(50ms) 후 넘김 큐로 간다.
+    long startNanos = System.nanoTime();
+    logSink.writeAll(logs);
+    long elapsedMilSec = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+    assertThat(elapsedMilSec).isLessThan(50L * (logs.size() - 1));
+    // 호출한 스레드에서는 저장하지 않는다.
+    verify(logBatchWriter, never()).writeInNewTransaction(any());
+
+    ReflectionTestUtils.setField(logSink, "running", false);
+    ReflectionTestUtils.invokeMethod(logSink, "runWriter");
+
+    assertThat(written).containsExactlyInAnyOrderElementsOf(logs);
+  }
+
+  /**
+   * 저장 스레드를 시작하지 않은 (init 을 호출하지 않은) 로그 저장
+   */
+  private WriteBehindLogSink getLogSink(LogBatchWriter logBatchWriter, int capacity) {
+    WriteBehindLogSink logSink = new WriteBehindLogSink(logBatchWriter, new SimpleMeterRegistry(),
+        capacity);
+    ReflectionTestUtils.setField(logSink, "batchSize", 10);
+    ReflectionTestUtils.setField(logSink, "flushIntervalMilSec", 10L);
+    ReflectionTestUtils.setField(logSink, "offerTimeoutMilSec", 50L);
+    return logSink;
+  }
+
+  private UserMoneyLog getLog() {
+    return UserMoneyLog.builder()
+        .logType(MoneyLogType.ATTEND)
+        .userIndex(1L)
+        .beforeMoney(0L)
+        .afterMoney(2000L)
+        .build();
+  }
+}